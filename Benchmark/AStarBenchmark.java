@@ -0,0 +1,86 @@
+import ADTPackage.HashedDictionary;
+import ADTPackage.LinkedStack;
+import GraphPackage.DistanceHeuristic;
+import GraphPackage.SearchStatistics;
+import GraphPackage.UndirectedGraph;
+
+import java.util.Random;
+
+/**
+ * Compares Dijkstra and A* cheapest path queries between random vertex pairs on a
+ * weighted grid with a Manhattan distance heuristic, and on random points in the unit
+ * square joined to nearby points with a straight-line distance heuristic. Besides the
+ * time per query, prints the average number of vertices each query settled.
+ */
+public class AStarBenchmark {
+    private static final int GRID_SIDE = 300;
+    private static final int POINTS = 100_000;
+    private static final int QUERIES = 50;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        Random random = new Random(SEED);
+        int cells = GRID_SIDE * GRID_SIDE;
+        UndirectedGraph<Integer> grid = new UndirectedGraph<>(new HashedDictionary<>(cells));
+        for (int cell = 0; cell < cells; cell++) {
+            grid.addVertex(cell);
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            if (cell % GRID_SIDE + 1 < GRID_SIDE) {
+                grid.addEdge(cell, cell + 1, 1 + random.nextInt(4));
+            }
+            if (cell + GRID_SIDE < cells) {
+                grid.addEdge(cell, cell + GRID_SIDE, 1 + random.nextInt(4));
+            }
+        }
+        DistanceHeuristic<Integer> manhattan = (current, goal) -> Math.abs(current / GRID_SIDE - goal / GRID_SIDE)
+                + Math.abs(current % GRID_SIDE - goal % GRID_SIDE);
+        compare("grid", grid, manhattan, cells, random);
+
+        // Points on a jittered lattice, each joined to the points of the neighboring lattice cells
+        int side = (int) Math.sqrt(POINTS);
+        double[] x = new double[side * side];
+        double[] y = new double[side * side];
+        UndirectedGraph<Integer> geo = new UndirectedGraph<>(new HashedDictionary<>(x.length));
+        for (int point = 0; point < x.length; point++) {
+            x[point] = (point % side + random.nextDouble()) / side;
+            y[point] = (point / side + random.nextDouble()) / side;
+            geo.addVertex(point);
+        }
+        for (int point = 0; point < x.length; point++) {
+            int[] nearby = {point + 1, point + side - 1, point + side, point + side + 1};
+            for (int other : nearby) {
+                if (other < x.length && Math.abs(other % side - point % side) <= 1) {
+                    geo.addEdge(point, other, Math.hypot(x[point] - x[other], y[point] - y[other]));
+                }
+            }
+        }
+        DistanceHeuristic<Integer> straightLine = (current, goal) -> Math.hypot(x[current] - x[goal],
+                y[current] - y[goal]);
+        compare("geo", geo, straightLine, x.length, random);
+    }
+
+    private static void compare(String shape, UndirectedGraph<Integer> graph, DistanceHeuristic<Integer> heuristic,
+                                int vertexCount, Random random) {
+        int[] pairs = new int[2 * QUERIES];
+        for (int i = 0; i < pairs.length; i++) {
+            pairs[i] = random.nextInt(vertexCount);
+        }
+        String[] modes = {"dijkstra", "aStar"};
+        for (String mode : modes) {
+            DistanceHeuristic<Integer> used = mode.equals("aStar") ? heuristic : null;
+            SearchStatistics statistics = new SearchStatistics();
+            BenchmarkHarness.measure("DirectedGraph.getCheapestPath",
+                    BenchmarkHarness.params("shape", shape, "vertices", vertexCount, "mode", mode), QUERIES, () -> {
+                        double total = 0;
+                        for (int i = 0; i < pairs.length; i += 2) {
+                            total += graph.getCheapestPath(pairs[i], pairs[i + 1], new LinkedStack<>(), used,
+                                    statistics);
+                        }
+                        return (long) total;
+                    });
+            System.out.printf("  %s %s: %.0f vertices settled per query%n", shape, mode,
+                    (double) statistics.getSettledCount() / statistics.getSearches());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+import ADTPackage.ArrayQueue;
+import ADTPackage.IntArrayQueue;
+import ADTPackage.LinkedQueue;
+import ADTPackage.LinkedStack;
+import ADTPackage.MaxHeap;
+
+import java.util.Random;
+
+/**
+ * Measures the queue, stack and heap primitives the graph traversals and friend
+ * suggestions are built on.
+ */
+public class AdtBenchmark {
+    private static final int OPERATIONS = 1_000_000;
+    private static final int HEAP_ENTRIES = 5_000; // MaxHeap cannot grow past 10,000 slots
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSuite.main(BenchmarkSuite.withDefault(args, "--only=adt"));
+    }
+
+    /**
+     * Runs every primitive measurement.
+     *
+     * @param seed The seed for the heap keys.
+     */
+    static void run(long seed) {
+        Integer[] values = new Integer[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            values[i] = i;
+        }
+        Integer[] keys = new Integer[HEAP_ENTRIES];
+        Random random = new Random(seed);
+        for (int i = 0; i < HEAP_ENTRIES; i++) {
+            keys[i] = random.nextInt();
+        }
+
+        BenchmarkHarness.measure("LinkedQueue.enqueue+dequeue", BenchmarkHarness.params("entries", OPERATIONS),
+                OPERATIONS, () -> {
+                    LinkedQueue<Integer> queue = new LinkedQueue<>();
+                    for (Integer value : values) {
+                        queue.enqueue(value);
+                    }
+                    long sum = 0;
+                    while (!queue.isEmpty()) {
+                        sum += queue.dequeue();
+                    }
+                    return sum;
+                });
+        BenchmarkHarness.measure("ArrayQueue.enqueue+dequeue", BenchmarkHarness.params("entries", OPERATIONS),
+                OPERATIONS, () -> {
+                    ArrayQueue<Integer> queue = new ArrayQueue<>();
+                    for (Integer value : values) {
+                        queue.enqueue(value);
+                    }
+                    long sum = 0;
+                    while (!queue.isEmpty()) {
+                        sum += queue.dequeue();
+                    }
+                    return sum;
+                });
+        BenchmarkHarness.measure("IntArrayQueue.enqueue+dequeue", BenchmarkHarness.params("entries", OPERATIONS),
+                OPERATIONS, () -> {
+                    IntArrayQueue queue = new IntArrayQueue();
+                    for (int i = 0; i < OPERATIONS; i++) {
+                        queue.enqueue(i);
+                    }
+                    long sum = 0;
+                    while (!queue.isEmpty()) {
+                        sum += queue.dequeue();
+                    }
+                    return sum;
+                });
+        BenchmarkHarness.measure("LinkedStack.push+pop", BenchmarkHarness.params("entries", OPERATIONS),
+                OPERATIONS, () -> {
+                    LinkedStack<Integer> stack = new LinkedStack<>();
+                    for (Integer value : values) {
+                        stack.push(value);
+                    }
+                    long sum = 0;
+                    while (!stack.isEmpty()) {
+                        sum += stack.pop();
+                    }
+                    return sum;
+                });
+        BenchmarkHarness.measure("MaxHeap.add+removeMax", BenchmarkHarness.params("entries", HEAP_ENTRIES),
+                HEAP_ENTRIES, () -> {
+                    MaxHeap<Integer> heap = new MaxHeap<>();
+                    for (Integer key : keys) {
+                        heap.add(key);
+                    }
+                    long sum = 0;
+                    while (!heap.isEmpty()) {
+                        sum += heap.removeMax();
+                    }
+                    return sum;
+                });
+    }
+}
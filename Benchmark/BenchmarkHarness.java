@@ -0,0 +1,235 @@
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A minimal timing harness for the micro benchmarks in this folder.
+ * Each measurement runs a number of warmup rounds (discarded) followed by
+ * measured rounds, and reports the mean time per operation of the measured rounds.
+ *
+ * <p>The round counts can be changed with the {@code bench.warmup} and
+ * {@code bench.rounds} system properties. Every measurement is also recorded so a
+ * run can be exported with {@link #writeJson(Path)} and compared across commits.
+ *
+ * <p>Where the JVM supports per-thread allocation counters, the bytes allocated per
+ * operation by the measuring thread are reported too, like a GC profiler would.
+ * Allocation by other threads, such as parallel workers, is not counted.
+ */
+public final class BenchmarkHarness {
+    private static final int WARMUP_ROUNDS = Integer.getInteger("bench.warmup", 3);
+    private static final int MEASURED_ROUNDS = Integer.getInteger("bench.rounds", 5);
+
+    /**
+     * A unit of benchmark work that performs a known number of operations.
+     */
+    @FunctionalInterface
+    public interface Workload {
+        /**
+         * Runs one round of the workload.
+         *
+         * @return A value derived from the work, consumed so the JIT cannot drop it.
+         */
+        long run();
+    }
+
+    /**
+     * The outcome of one measurement.
+     */
+    public static final class Result {
+        private final String name;
+        private final Map<String, Object> params;
+        private final double[] nanosPerOperation; // One entry per measured round
+        private final double bytesPerOperation;   // Negative if allocation is not measured
+
+        private Result(String name, Map<String, Object> params, double[] nanosPerOperation,
+                       double bytesPerOperation) {
+            this.name = name;
+            this.params = params;
+            this.nanosPerOperation = nanosPerOperation;
+            this.bytesPerOperation = bytesPerOperation;
+        }
+
+        /** Returns the mean nanoseconds per operation over the measured rounds. */
+        public double mean() {
+            double sum = 0;
+            for (double value : nanosPerOperation) {
+                sum += value;
+            }
+            return sum / nanosPerOperation.length;
+        }
+
+        /** Returns the sample standard deviation of the per-round results. */
+        public double standardDeviation() {
+            if (nanosPerOperation.length < 2) {
+                return 0;
+            }
+            double mean = mean();
+            double sum = 0;
+            for (double value : nanosPerOperation) {
+                sum += (value - mean) * (value - mean);
+            }
+            return Math.sqrt(sum / (nanosPerOperation.length - 1));
+        }
+
+        /** Returns the bytes allocated per operation by the measuring thread, or -1 if unknown. */
+        public double bytesPerOperation() {
+            return bytesPerOperation;
+        }
+    }
+
+    private static final List<Result> results = new ArrayList<>();
+    private static long blackhole; // Sink for workload results
+
+    private BenchmarkHarness() {
+    }
+
+    /**
+     * Measures a workload and prints the mean time per operation.
+     *
+     * @param name       A descriptive name for the measurement.
+     * @param operations The number of operations performed by one round of the workload.
+     * @param workload   The workload to measure.
+     * @return The mean nanoseconds per operation over the measured rounds.
+     */
+    public static double measure(String name, long operations, Workload workload) {
+        return measure(name, Collections.emptyMap(), operations, workload);
+    }
+
+    /**
+     * Measures a parameterized workload and prints the mean time per operation.
+     *
+     * @param name       The name of the benchmark, shared by all parameter combinations.
+     * @param params     The parameters of this measurement, such as graph size and shape.
+     * @param operations The number of operations performed by one round of the workload.
+     * @param workload   The workload to measure.
+     * @return The mean nanoseconds per operation over the measured rounds.
+     */
+    public static double measure(String name, Map<String, Object> params, long operations, Workload workload) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            blackhole += workload.run();
+        }
+
+        double[] rounds = new double[MEASURED_ROUNDS];
+        long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            blackhole += workload.run();
+            rounds[i] = (double) (System.nanoTime() - start) / operations;
+        }
+        long allocatedAfter = allocatedBytes();
+        double bytesPerOperation = (allocatedBefore < 0 || allocatedAfter < 0) ? -1
+                : (double) (allocatedAfter - allocatedBefore) / ((long) MEASURED_ROUNDS * operations);
+
+        Result result = new Result(name, params, rounds, bytesPerOperation);
+        results.add(result);
+        String label = params.isEmpty() ? name : name + " " + params;
+        if (bytesPerOperation < 0) {
+            System.out.printf("%-70s %12.1f ns/op +/- %.1f%n", label, result.mean(), result.standardDeviation());
+        } else {
+            System.out.printf("%-70s %12.1f ns/op +/- %.1f %10.1f B/op%n",
+                    label, result.mean(), result.standardDeviation(), bytesPerOperation);
+        }
+        return result.mean();
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread, or -1 if the JVM
+     * does not track allocation per thread.
+     */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean counters = (com.sun.management.ThreadMXBean) threads;
+            if (counters.isThreadAllocatedMemorySupported() && counters.isThreadAllocatedMemoryEnabled()) {
+                return counters.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Creates an ordered parameter map from alternating names and values.
+     *
+     * @param namesAndValues Parameter names, each followed by its value.
+     * @return The parameters in the given order.
+     */
+    public static Map<String, Object> params(Object... namesAndValues) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+            params.put(String.valueOf(namesAndValues[i]), namesAndValues[i + 1]);
+        }
+        return params;
+    }
+
+    /**
+     * Returns every measurement recorded so far.
+     *
+     * @return The recorded results, in measurement order.
+     */
+    public static List<Result> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Writes every recorded measurement to a JSON file.
+     *
+     * @param file The file to create or replace.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeJson(Path file) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"java\": ").append(quote(System.getProperty("java.version"))).append(",\n");
+        json.append("  \"warmupRounds\": ").append(WARMUP_ROUNDS).append(",\n");
+        json.append("  \"measuredRounds\": ").append(MEASURED_ROUNDS).append(",\n");
+        json.append("  \"results\": [");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            json.append(i == 0 ? "\n" : ",\n");
+            json.append("    {\"benchmark\": ").append(quote(result.name));
+            json.append(", \"params\": {");
+            int p = 0;
+            for (Map.Entry<String, Object> param : result.params.entrySet()) {
+                json.append(p++ == 0 ? "" : ", ").append(quote(param.getKey())).append(": ");
+                Object value = param.getValue();
+                json.append(value instanceof Number ? value.toString() : quote(String.valueOf(value)));
+            }
+            json.append("}");
+            json.append(String.format(Locale.ROOT, ", \"nsPerOp\": %.3f, \"stdDev\": %.3f",
+                    result.mean(), result.standardDeviation()));
+            if (result.bytesPerOperation >= 0) {
+                json.append(String.format(Locale.ROOT, ", \"bytesPerOp\": %.3f", result.bytesPerOperation));
+            }
+            json.append(", \"rounds\": [");
+            for (int r = 0; r < result.nanosPerOperation.length; r++) {
+                json.append(r == 0 ? "" : ", ")
+                        .append(String.format(Locale.ROOT, "%.3f", result.nanosPerOperation[r]));
+            }
+            json.append("]}");
+        }
+        json.append("\n  ]\n}\n");
+        Files.write(file, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,79 @@
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Runs the graph, ADT and profile manager benchmarks over every combination of the
+ * requested sizes and shapes, and optionally exports the results as JSON so runs
+ * from different commits can be compared.
+ *
+ * <p>Options (all optional):
+ * <pre>
+ * --sizes=1000,10000,100000      vertex and profile counts
+ * --shapes=random,powerLaw,grid  graph shapes
+ * --seed=42                      seed for graphs, weights and queries
+ * --only=graph|adt|profiles      run a single group
+ * --json=results.json            file to write the results to
+ * </pre>
+ * Round counts are set with {@code -Dbench.warmup=N} and {@code -Dbench.rounds=N}.
+ */
+public class BenchmarkSuite {
+    public static void main(String[] args) throws Exception {
+        int[] sizes = {1_000, 10_000, 100_000};
+        String[] shapes = {"random", "powerLaw", "grid"};
+        long seed = 42L;
+        String only = null;
+        Path json = null;
+
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--sizes=")) {
+                sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+            } else if (arg.startsWith("--shapes=")) {
+                shapes = value.split(",");
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--only=")) {
+                only = value;
+            } else if (arg.startsWith("--json=")) {
+                json = Paths.get(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        if (only == null || only.equals("adt")) {
+            AdtBenchmark.run(seed);
+        }
+        for (int size : sizes) {
+            for (String shape : shapes) {
+                if (only == null || only.equals("graph")) {
+                    GraphBenchmark.run(shape, size, seed);
+                }
+                if (only == null || only.equals("profiles")) {
+                    ProfileManagerBenchmark.run(shape, size, seed);
+                }
+            }
+        }
+
+        if (json != null) {
+            BenchmarkHarness.writeJson(json);
+            System.out.println("Results written to " + json.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Appends an option to the command line unless it is already given.
+     */
+    static String[] withDefault(String[] args, String option) {
+        String name = option.substring(0, option.indexOf('=') + 1);
+        for (String arg : args) {
+            if (arg.startsWith(name)) {
+                return args;
+            }
+        }
+        String[] extended = Arrays.copyOf(args, args.length + 1);
+        extended[args.length] = option;
+        return extended;
+    }
+}
@@ -0,0 +1,43 @@
+import ADTPackage.LinkedStack;
+import GraphPackage.CompressedGraph;
+import GraphPackage.DeltaStepping;
+import GraphPackage.GraphBuilder;
+
+import java.util.Random;
+
+/**
+ * Compares {@link DeltaStepping} with a full run of the sequential Dijkstra in
+ * {@link CompressedGraph#getCheapestPath(Object, Object, ADTPackage.StackInterface)},
+ * forced to settle every reachable vertex by asking for an isolated end vertex, on
+ * power-law graphs with uniform random weights. The time is per edge.
+ */
+public class DeltaSteppingBenchmark {
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int EDGES_PER_VERTEX = 10;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            int[] edges = GraphGenerator.powerLaw(size, EDGES_PER_VERTEX, SEED);
+            Random random = new Random(SEED);
+            GraphBuilder<Integer> builder = new GraphBuilder<>(size + 1, edges.length);
+            for (int vertex = 0; vertex <= size; vertex++) {
+                builder.addVertex(vertex);  // Vertex size has no edges
+            }
+            for (int i = 0; i < edges.length; i += 2) {
+                builder.addEdge(edges[i], edges[i + 1], random.nextDouble());
+                builder.addEdge(edges[i + 1], edges[i], random.nextDouble());
+            }
+            CompressedGraph<Integer> graph = builder.buildCompressed();
+            long edgeCount = graph.getNumberOfEdges();
+
+            BenchmarkHarness.measure("CompressedGraph.getCheapestPath",
+                    BenchmarkHarness.params("vertices", size, "edges", edgeCount), edgeCount,
+                    () -> (long) graph.getCheapestPath(0, size, new LinkedStack<>()));
+            BenchmarkHarness.measure("DeltaStepping.compute",
+                    BenchmarkHarness.params("vertices", size, "edges", edgeCount,
+                            "parallelism", java.util.concurrent.ForkJoinPool.getCommonPoolParallelism()),
+                    edgeCount, () -> new DeltaStepping().compute(graph, 0).getPhases());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+import ADTPackage.HashedDictionary;
+import GraphPackage.DirectedGraph;
+
+/**
+ * Measures {@link DirectedGraph#getDepthFirstTraversal(Object)} on star graphs,
+ * where the hub's neighbors are resumed after every leaf, and on power-law graphs
+ * with a few very high-degree hubs. Time per vertex stays flat as the graphs grow
+ * only if each adjacency list is scanned once per traversal.
+ */
+public class DepthFirstBenchmark {
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int EDGES_PER_VERTEX = 4;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            DirectedGraph<Integer> star = new DirectedGraph<>(new HashedDictionary<>(size));
+            for (int vertex = 0; vertex < size; vertex++) {
+                star.addVertex(vertex);
+            }
+            for (int leaf = 1; leaf < size; leaf++) {
+                star.addEdge(0, leaf);
+                star.addEdge(leaf, 0);
+            }
+            BenchmarkHarness.measure("DirectedGraph.getDepthFirstTraversal",
+                    BenchmarkHarness.params("shape", "star", "vertices", size), size,
+                    () -> star.getDepthFirstTraversal(0).getSize());
+
+            int[] edges = GraphGenerator.powerLaw(size, EDGES_PER_VERTEX, SEED);
+            DirectedGraph<Integer> powerLaw = new DirectedGraph<>(new HashedDictionary<>(size));
+            for (int vertex = 0; vertex < size; vertex++) {
+                powerLaw.addVertex(vertex);
+            }
+            for (int i = 0; i < edges.length; i += 2) {
+                powerLaw.addEdge(edges[i], edges[i + 1]);
+                powerLaw.addEdge(edges[i + 1], edges[i]);
+            }
+            BenchmarkHarness.measure("DirectedGraph.getDepthFirstTraversal",
+                    BenchmarkHarness.params("shape", "powerLaw", "vertices", size), size,
+                    () -> powerLaw.getDepthFirstTraversal(0).getSize());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+import ADTPackage.DictionaryInterface;
+import ADTPackage.HashedDictionary;
+import ADTPackage.UnsortedLinkedDictionary;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares lookups and insertions in {@link UnsortedLinkedDictionary} and
+ * {@link HashedDictionary} at increasing dictionary sizes.
+ */
+public class DictionaryBenchmark {
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int LOOKUPS = 10_000;
+    private static final int LINKED_LOOKUP_LIMIT = 100_000; // Linear scans beyond this take minutes per round
+    private static final int LINKED_INSERT_LIMIT = 10_000;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            String[] keys = createKeys(size);
+            String[] probes = createProbes(keys);
+
+            if (size <= LINKED_LOOKUP_LIMIT) {
+                run("UnsortedLinkedDictionary", size, keys, probes, UnsortedLinkedDictionary::new,
+                        size <= LINKED_INSERT_LIMIT);
+            }
+            run("HashedDictionary", size, keys, probes, HashedDictionary::new, true);
+        }
+    }
+
+    private static void run(String name, int size, String[] keys, String[] probes,
+                            Supplier<DictionaryInterface<String, Integer>> factory, boolean measureInserts) {
+        DictionaryInterface<String, Integer> dictionary = fill(factory.get(), keys);
+
+        BenchmarkHarness.measure(name + ".getValue n=" + size, probes.length, () -> {
+            long found = 0;
+            for (String probe : probes) {
+                if (dictionary.getValue(probe) != null) {
+                    found++;
+                }
+            }
+            return found;
+        });
+
+        if (measureInserts) {
+            BenchmarkHarness.measure(name + ".add n=" + size, keys.length,
+                    () -> fill(factory.get(), keys).getSize());
+        }
+    }
+
+    private static DictionaryInterface<String, Integer> fill(DictionaryInterface<String, Integer> dictionary,
+                                                           String[] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            dictionary.add(keys[i], i);
+        }
+        return dictionary;
+    }
+
+    private static String[] createKeys(int size) {
+        String[] keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "profile-" + i;
+        }
+        return keys;
+    }
+
+    private static String[] createProbes(String[] keys) {
+        Random random = new Random(SEED);
+        String[] probes = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            probes[i] = keys[random.nextInt(keys.length)];
+        }
+        return probes;
+    }
+}
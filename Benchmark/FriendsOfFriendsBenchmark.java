@@ -0,0 +1,61 @@
+import ADTPackage.HashedDictionary;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compares the original friends-of-friends scan, which checks membership with
+ * {@code List.contains}, against {@link ProfileManager#getFriendsOfFriends(String)}
+ * and {@link ProfileManager#getSuggestedFriends(String, int)} for the best-connected
+ * users of a synthetic power-law network.
+ */
+public class FriendsOfFriendsBenchmark {
+    private static final int PROFILE_COUNT = 100_000;
+    private static final int FRIENDS_PER_PROFILE = 16;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        ProfileManager manager = new ProfileManager(new HashedDictionary<>(PROFILE_COUNT));
+        for (int i = 0; i < PROFILE_COUNT; i++) {
+            manager.addProfile(new Profile("user" + i, "Online", null, 30, "Female", "WA"));
+        }
+        int[] edges = GraphGenerator.powerLaw(PROFILE_COUNT, FRIENDS_PER_PROFILE, SEED);
+        for (int i = 0; i < edges.length; i += 2) {
+            manager.addFriend("user" + edges[i], "user" + edges[i + 1]);
+        }
+
+        String hub = findHub(manager);
+        Profile hubProfile = manager.getProfile(hub);
+        System.out.println("Hub " + hub + " has " + hubProfile.getFriends().size() + " friends");
+
+        BenchmarkHarness.measure("listContainsScan(hub)", 1, () -> listContainsScan(hubProfile).size());
+        BenchmarkHarness.measure("getFriendsOfFriends(hub)", 1, () -> manager.getFriendsOfFriends(hub).size());
+        BenchmarkHarness.measure("getSuggestedFriends(hub, 10)", 1, () -> manager.getSuggestedFriends(hub, 10).size());
+    }
+
+    /**
+     * The original algorithm: a linear {@code contains} on the friend list for every friend of a friend.
+     */
+    private static Set<Profile> listContainsScan(Profile profile) {
+        Set<Profile> friendsOfFriends = new HashSet<>();
+        for (Profile friend : profile.getFriends()) {
+            for (Profile friendOfFriend : friend.getFriends()) {
+                if (!friendOfFriend.equals(profile) && !profile.getFriends().contains(friendOfFriend)) {
+                    friendsOfFriends.add(friendOfFriend);
+                }
+            }
+        }
+        return friendsOfFriends;
+    }
+
+    private static String findHub(ProfileManager manager) {
+        Profile hub = null;
+        for (Profile profile : manager.getProfiles()) {
+            if (hub == null || profile.getFriends().size() > hub.getFriends().size()) {
+                hub = profile;
+            }
+        }
+        return hub.getName();
+    }
+}
@@ -0,0 +1,94 @@
+import ADTPackage.HashedDictionary;
+import ADTPackage.ArrayStack;
+import ADTPackage.UnsortedLinkedDictionary;
+import GraphPackage.DirectedGraph;
+
+import java.util.Random;
+
+/**
+ * Measures {@link DirectedGraph} construction, traversals and path queries over
+ * graphs of several sizes and shapes. Graphs are keyed by a {@link HashedDictionary};
+ * small graphs are also built over the original {@link UnsortedLinkedDictionary} so
+ * a regression in either lookup path shows up.
+ */
+public class GraphBenchmark {
+    private static final int LINKED_DICTIONARY_LIMIT = 10_000; // Linear lookups beyond this take minutes per round
+    private static final int EDGES_PER_VERTEX = 4;
+    private static final int QUERY_PAIRS = 100;
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSuite.main(BenchmarkSuite.withDefault(args, "--only=graph"));
+    }
+
+    /**
+     * Runs every graph measurement for one size and shape.
+     *
+     * @param shape       The graph shape, see {@link GraphGenerator#generate(String, int, int, long)}.
+     * @param vertexCount The number of vertices.
+     * @param seed        The seed for the graph, edge weights and query endpoints.
+     */
+    static void run(String shape, int vertexCount, long seed) {
+        int[] edges = GraphGenerator.generate(shape, vertexCount, EDGES_PER_VERTEX, seed);
+        double[] weights = new double[edges.length / 2];
+        Random random = new Random(seed);
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1 + 9 * random.nextDouble();
+        }
+        int[] queries = new int[2 * QUERY_PAIRS];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = random.nextInt(vertexCount);
+        }
+
+        if (vertexCount <= LINKED_DICTIONARY_LIMIT) {
+            BenchmarkHarness.measure("DirectedGraph.addEdge",
+                    BenchmarkHarness.params("shape", shape, "vertices", vertexCount, "dictionary", "linked"),
+                    edges.length / 2, () -> build(new DirectedGraph<>(), vertexCount, edges, weights)
+                            .getNumberOfEdges());
+        }
+        BenchmarkHarness.measure("DirectedGraph.addEdge",
+                BenchmarkHarness.params("shape", shape, "vertices", vertexCount, "dictionary", "hashed"),
+                edges.length / 2, () -> build(new DirectedGraph<>(new HashedDictionary<>(vertexCount)),
+                        vertexCount, edges, weights).getNumberOfEdges());
+
+        // Power-law edges run from newer to older vertices and grid edges away from vertex 0
+        int origin = shape.equals("grid") ? 0 : vertexCount - 1;
+        DirectedGraph<Integer> graph = build(new DirectedGraph<>(new HashedDictionary<>(vertexCount)),
+                vertexCount, edges, weights);
+        BenchmarkHarness.measure("DirectedGraph.getBreadthFirstTraversal",
+                BenchmarkHarness.params("shape", shape, "vertices", vertexCount), 1,
+                () -> graph.getBreadthFirstTraversal(origin).getSize());
+        BenchmarkHarness.measure("DirectedGraph.getDepthFirstTraversal",
+                BenchmarkHarness.params("shape", shape, "vertices", vertexCount), 1,
+                () -> graph.getDepthFirstTraversal(origin).getSize());
+        ArrayStack<Integer> path = new ArrayStack<>();
+        BenchmarkHarness.measure("DirectedGraph.getShortestPath",
+                BenchmarkHarness.params("shape", shape, "vertices", vertexCount), QUERY_PAIRS, () -> {
+                    long length = 0;
+                    for (int i = 0; i < queries.length; i += 2) {
+                        path.clear();
+                        length += graph.getShortestPath(queries[i], queries[i + 1], path);
+                    }
+                    return length;
+                });
+        BenchmarkHarness.measure("DirectedGraph.getCheapestPath",
+                BenchmarkHarness.params("shape", shape, "vertices", vertexCount), QUERY_PAIRS, () -> {
+                    double cost = 0;
+                    for (int i = 0; i < queries.length; i += 2) {
+                        path.clear();
+                        cost += graph.getCheapestPath(queries[i], queries[i + 1], path);
+                    }
+                    return (long) cost;
+                });
+    }
+
+    private static DirectedGraph<Integer> build(DirectedGraph<Integer> graph, int vertexCount, int[] edges,
+                                                double[] weights) {
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            graph.addVertex(vertex);
+        }
+        for (int i = 0; i < weights.length; i++) {
+            graph.addEdge(edges[2 * i], edges[2 * i + 1], weights[i]);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,55 @@
+import ADTPackage.HashedDictionary;
+import GraphPackage.DirectedGraph;
+import GraphPackage.GraphBuilder;
+
+/**
+ * Measures loading a power-law graph through {@link GraphBuilder} against adding the
+ * same edges one {@link DirectedGraph#addEdge} call at a time. Every tenth edge is
+ * repeated so the builder also has duplicates to drop. The time is per edge and
+ * covers label lookups, sorting, deduplication and creating the vertices.
+ *
+ * <p>The largest size needs a heap of about 4 GB ({@code -Xmx4g}).
+ */
+public class GraphBuilderBenchmark {
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int EDGES_PER_VERTEX = 10;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            int[] edges = GraphGenerator.powerLaw(size, EDGES_PER_VERTEX, SEED);
+            int edgeCount = edges.length / 2;
+            Integer[] labels = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                labels[i] = i;
+            }
+
+            BenchmarkHarness.measure("GraphBuilder.buildDirected",
+                    BenchmarkHarness.params("vertices", size, "edges", edgeCount), edgeCount, () -> {
+                        GraphBuilder<Integer> builder = new GraphBuilder<>(size, edgeCount + edgeCount / 10);
+                        for (int i = 0; i < edgeCount; i++) {
+                            builder.addEdge(labels[edges[2 * i]], labels[edges[2 * i + 1]], i);
+                            if (i % 10 == 0) {
+                                builder.addEdge(labels[edges[2 * i]], labels[edges[2 * i + 1]], i);
+                            }
+                        }
+                        return builder.buildDirected().getNumberOfEdges();
+                    });
+
+            BenchmarkHarness.measure("DirectedGraph.addEdge",
+                    BenchmarkHarness.params("vertices", size, "edges", edgeCount), edgeCount, () -> {
+                        DirectedGraph<Integer> graph = new DirectedGraph<>(new HashedDictionary<>(size));
+                        for (Integer label : labels) {
+                            graph.addVertex(label);
+                        }
+                        for (int i = 0; i < edgeCount; i++) {
+                            graph.addEdge(labels[edges[2 * i]], labels[edges[2 * i + 1]], i);
+                            if (i % 10 == 0) {
+                                graph.addEdge(labels[edges[2 * i]], labels[edges[2 * i + 1]], i);
+                            }
+                        }
+                        return graph.getNumberOfEdges();
+                    });
+        }
+    }
+}
@@ -0,0 +1,115 @@
+import java.util.Random;
+
+/**
+ * Generates reproducible synthetic graphs as arrays of vertex-id pairs.
+ * Edge {@code i} runs from {@code edges[2 * i]} to {@code edges[2 * i + 1]}.
+ */
+public final class GraphGenerator {
+
+    private GraphGenerator() {
+    }
+
+    /**
+     * Generates a power-law (scale-free) graph by preferential attachment: each new
+     * vertex links to {@code edgesPerVertex} earlier vertices chosen with probability
+     * proportional to their degree, which produces a few very high-degree hubs.
+     *
+     * @param vertexCount    The number of vertices.
+     * @param edgesPerVertex The number of edges each new vertex adds.
+     * @param seed           The random seed.
+     * @return The edge endpoints.
+     */
+    public static int[] powerLaw(int vertexCount, int edgesPerVertex, long seed) {
+        Random random = new Random(seed);
+        int edgeCount = Math.max(0, (vertexCount - 1) * edgesPerVertex);
+        int[] edges = new int[2 * edgeCount];
+        int filled = 0;
+
+        for (int vertex = 1; vertex < vertexCount; vertex++) {
+            for (int k = 0; k < edgesPerVertex; k++) {
+                // Picking an endpoint of a random earlier edge is picking a vertex by degree
+                int target = (filled == 0 || random.nextInt(4) == 0)
+                        ? random.nextInt(vertex)
+                        : edges[random.nextInt(filled)];
+                edges[filled++] = vertex;
+                edges[filled++] = target;
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Generates a uniform random (Erdos-Renyi style) graph with a fixed number of
+     * edges whose endpoints are drawn uniformly, so degrees are close to the mean.
+     *
+     * @param vertexCount    The number of vertices.
+     * @param edgesPerVertex The average number of edges per vertex.
+     * @param seed           The random seed.
+     * @return The edge endpoints.
+     */
+    public static int[] random(int vertexCount, int edgesPerVertex, long seed) {
+        Random random = new Random(seed);
+        int edgeCount = (vertexCount < 2) ? 0 : vertexCount * edgesPerVertex;
+        int[] edges = new int[2 * edgeCount];
+
+        for (int i = 0; i < edgeCount; i++) {
+            int begin = random.nextInt(vertexCount);
+            int end = random.nextInt(vertexCount - 1);
+            edges[2 * i] = begin;
+            edges[2 * i + 1] = (end >= begin) ? end + 1 : end; // No self-loops
+        }
+        return edges;
+    }
+
+    /**
+     * Generates a square grid where each vertex links to its right and lower
+     * neighbors, giving long shortest paths and a small, uniform degree.
+     *
+     * @param vertexCount The number of vertices, rounded down to a square number.
+     * @return The edge endpoints.
+     */
+    public static int[] grid(int vertexCount) {
+        int side = (int) Math.sqrt(vertexCount);
+        int edgeCount = 2 * side * Math.max(0, side - 1);
+        int[] edges = new int[2 * edgeCount];
+        int filled = 0;
+
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                int vertex = row * side + column;
+                if (column + 1 < side) {
+                    edges[filled++] = vertex;
+                    edges[filled++] = vertex + 1;
+                }
+                if (row + 1 < side) {
+                    edges[filled++] = vertex;
+                    edges[filled++] = vertex + side;
+                }
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Generates a graph of the named shape.
+     *
+     * @param shape          One of {@code random}, {@code powerLaw} or {@code grid}.
+     * @param vertexCount    The number of vertices.
+     * @param edgesPerVertex The average number of edges per vertex (ignored for grids).
+     * @param seed           The random seed (ignored for grids).
+     * @return The edge endpoints.
+     * @throws IllegalArgumentException if the shape is unknown.
+     */
+    public static int[] generate(String shape, int vertexCount, int edgesPerVertex, long seed) {
+        switch (shape) {
+            case "random":
+                return random(vertexCount, edgesPerVertex, seed);
+            case "powerLaw":
+                return powerLaw(vertexCount, edgesPerVertex, seed);
+            case "grid":
+                return grid(vertexCount);
+            default:
+                throw new IllegalArgumentException("Unknown graph shape: " + shape);
+        }
+    }
+}
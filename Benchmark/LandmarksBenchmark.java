@@ -0,0 +1,82 @@
+import ADTPackage.HashedDictionary;
+import ADTPackage.LinkedStack;
+import GraphPackage.DistanceHeuristic;
+import GraphPackage.Landmarks;
+import GraphPackage.SearchStatistics;
+import GraphPackage.UndirectedGraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Measures {@link Landmarks}: choosing 16 farthest landmarks and their cost tables,
+ * saving and loading the tables, and random point-to-point queries with the landmark
+ * heuristic against plain Dijkstra on a 300x300 weighted grid. Besides the time per
+ * query, prints the average number of vertices each query settled.
+ */
+public class LandmarksBenchmark {
+    private static final int SIDE = 300;
+    private static final int LANDMARKS = 16;
+    private static final int QUERIES = 50;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) throws Exception {
+        Random random = new Random(SEED);
+        int cells = SIDE * SIDE;
+        UndirectedGraph<Integer> grid = new UndirectedGraph<>(new HashedDictionary<>(cells));
+        for (int cell = 0; cell < cells; cell++) {
+            grid.addVertex(cell);
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            if (cell % SIDE + 1 < SIDE) {
+                grid.addEdge(cell, cell + 1, 1 + random.nextInt(4));
+            }
+            if (cell + SIDE < cells) {
+                grid.addEdge(cell, cell + SIDE, 1 + random.nextInt(4));
+            }
+        }
+
+        BenchmarkHarness.measure("Landmarks.compute",
+                BenchmarkHarness.params("vertices", cells, "landmarks", LANDMARKS), 1,
+                () -> Landmarks.compute(grid, LANDMARKS, Landmarks.Selection.FARTHEST).getLandmarks().size());
+        Landmarks<Integer> landmarks = Landmarks.compute(grid, LANDMARKS, Landmarks.Selection.FARTHEST);
+        Path file = Files.createTempFile("landmarks", ".alt");
+        try {
+            BenchmarkHarness.measure("Landmarks.save+load",
+                    BenchmarkHarness.params("vertices", cells, "landmarks", LANDMARKS), 1, () -> {
+                        try {
+                            landmarks.save(file);
+                            return Landmarks.load(grid, file).getLandmarks().size();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        int[] pairs = new int[2 * QUERIES];
+        for (int i = 0; i < pairs.length; i++) {
+            pairs[i] = random.nextInt(cells);
+        }
+        String[] modes = {"dijkstra", "alt"};
+        for (String mode : modes) {
+            DistanceHeuristic<Integer> heuristic = mode.equals("alt") ? landmarks : null;
+            SearchStatistics statistics = new SearchStatistics();
+            BenchmarkHarness.measure("DirectedGraph.getCheapestPath",
+                    BenchmarkHarness.params("vertices", cells, "mode", mode), QUERIES, () -> {
+                        double total = 0;
+                        for (int i = 0; i < pairs.length; i += 2) {
+                            total += grid.getCheapestPath(pairs[i], pairs[i + 1], new LinkedStack<>(), heuristic,
+                                    statistics);
+                        }
+                        return (long) total;
+                    });
+            System.out.printf("  %s: %.0f vertices settled per query%n", mode,
+                    (double) statistics.getSettledCount() / statistics.getSearches());
+        }
+    }
+}
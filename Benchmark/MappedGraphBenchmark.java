@@ -0,0 +1,73 @@
+import GraphPackage.CompressedGraph;
+import GraphPackage.GraphBuilder;
+import GraphPackage.MappedGraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Measures {@link MappedGraph} on power-law graphs: writing the files, opening them,
+ * and a breadth-first traversal against the same traversal of the heap
+ * {@link CompressedGraph}. Opening only maps the files, so its time should not grow
+ * with the graph; traversals run once the files are in the page cache.
+ */
+public class MappedGraphBenchmark {
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int EDGES_PER_VERTEX = 10;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) throws Exception {
+        for (int size : SIZES) {
+            int[] edges = GraphGenerator.powerLaw(size, EDGES_PER_VERTEX, SEED);
+            GraphBuilder<Integer> builder = new GraphBuilder<>(size, edges.length);
+            for (int vertex = 0; vertex < size; vertex++) {
+                builder.addVertex(vertex);
+            }
+            for (int i = 0; i < edges.length; i += 2) {
+                builder.addEdge(edges[i], edges[i + 1]);
+                builder.addEdge(edges[i + 1], edges[i]);
+            }
+            CompressedGraph<Integer> graph = builder.buildCompressed();
+            long edgeCount = graph.getNumberOfEdges();
+
+            Path directory = Files.createTempDirectory("mapped");
+            try {
+                BenchmarkHarness.measure("MappedGraph.write",
+                        BenchmarkHarness.params("vertices", size, "edges", edgeCount), edgeCount, () -> {
+                            try {
+                                MappedGraph.write(graph, MappedGraph.INTEGER_LABELS, directory);
+                                return size;
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                BenchmarkHarness.measure("MappedGraph.open",
+                        BenchmarkHarness.params("vertices", size, "edges", edgeCount), 1, () -> {
+                            try {
+                                return MappedGraph.open(directory, MappedGraph.INTEGER_LABELS).getEdgeCount();
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                MappedGraph<Integer> mapped = MappedGraph.open(directory, MappedGraph.INTEGER_LABELS);
+
+                BenchmarkHarness.measure("CompressedGraph.getBreadthFirstTraversal",
+                        BenchmarkHarness.params("vertices", size, "edges", edgeCount), edgeCount,
+                        () -> graph.getBreadthFirstTraversal(0).getSize());
+                BenchmarkHarness.measure("MappedGraph.getBreadthFirstTraversal",
+                        BenchmarkHarness.params("vertices", size, "edges", edgeCount), edgeCount,
+                        () -> mapped.getBreadthFirstTraversal(0).getSize());
+            } finally {
+                try (Stream<Path> paths = Files.walk(directory)) {
+                    for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                        Files.delete(path);
+                    }
+                }
+            }
+        }
+    }
+}
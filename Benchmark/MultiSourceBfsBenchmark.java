@@ -0,0 +1,49 @@
+import ADTPackage.HashedDictionary;
+import GraphPackage.DirectedGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares one {@link DirectedGraph#getDistances(List)} call for a batch of sources
+ * with one {@link DirectedGraph#getBreadthFirstTraversal(Object)} per source on
+ * power-law graphs. Both report the time per source, each searching the whole graph.
+ */
+public class MultiSourceBfsBenchmark {
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int EDGES_PER_VERTEX = 4;
+    private static final int SOURCES = 256;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            int[] edges = GraphGenerator.powerLaw(size, EDGES_PER_VERTEX, SEED);
+            DirectedGraph<Integer> graph = new DirectedGraph<>(new HashedDictionary<>(size));
+            for (int vertex = 0; vertex < size; vertex++) {
+                graph.addVertex(vertex);
+            }
+            for (int i = 0; i < edges.length; i += 2) {
+                graph.addEdge(edges[i], edges[i + 1]);
+                graph.addEdge(edges[i + 1], edges[i]);
+            }
+            Random random = new Random(SEED);
+            List<Integer> sources = new ArrayList<>(SOURCES);
+            for (int i = 0; i < SOURCES; i++) {
+                sources.add(random.nextInt(size));
+            }
+
+            BenchmarkHarness.measure("DirectedGraph.getBreadthFirstTraversal",
+                    BenchmarkHarness.params("vertices", size, "sources", SOURCES), SOURCES, () -> {
+                        long reached = 0;
+                        for (Integer source : sources) {
+                            reached += graph.getBreadthFirstTraversal(source).getSize();
+                        }
+                        return reached;
+                    });
+            BenchmarkHarness.measure("DirectedGraph.getDistances",
+                    BenchmarkHarness.params("vertices", size, "sources", SOURCES), SOURCES,
+                    () -> graph.getDistances(sources).getDistance(0, 0));
+        }
+    }
+}
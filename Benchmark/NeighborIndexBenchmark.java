@@ -0,0 +1,75 @@
+import GraphPackage.Vertex;
+
+import java.util.Random;
+
+/**
+ * Measures {@link Vertex#connect}, {@link Vertex#hasEdge} and {@link Vertex#disconnect}
+ * for vertices of several degrees under several neighbor index thresholds, to choose
+ * {@link Vertex#DEFAULT_INDEX_THRESHOLD}. A threshold of {@link Integer#MAX_VALUE} is
+ * the plain linear scan.
+ */
+public class NeighborIndexBenchmark {
+    private static final int[] DEGREES = {4, 8, 16, 32, 64, 1_000, 100_000};
+    private static final int[] THRESHOLDS = {0, 8, 16, 32, Integer.MAX_VALUE};
+    private static final int LOOKUPS = 100_000;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        for (int degree : DEGREES) {
+            Vertex<Integer>[] others = createVertices(2 * degree);
+            int[] lookups = new Random(SEED).ints(LOOKUPS, 0, others.length).toArray();
+
+            for (int threshold : THRESHOLDS) {
+                if (threshold == Integer.MAX_VALUE && degree > 1_000) {
+                    continue; // Quadratic, takes minutes
+                }
+                String thresholdName = (threshold == Integer.MAX_VALUE) ? "linear" : String.valueOf(threshold);
+
+                BenchmarkHarness.measure("Vertex.connect",
+                        BenchmarkHarness.params("degree", degree, "threshold", thresholdName), degree,
+                        () -> build(others, degree, threshold).getNeighborCount());
+
+                Vertex<Integer> vertex = build(others, degree, threshold);
+                BenchmarkHarness.measure("Vertex.hasEdge",
+                        BenchmarkHarness.params("degree", degree, "threshold", thresholdName), LOOKUPS, () -> {
+                            long found = 0;
+                            for (int other : lookups) {
+                                if (vertex.hasEdge(others[other])) {
+                                    found++;
+                                }
+                            }
+                            return found;
+                        });
+
+                BenchmarkHarness.measure("Vertex.disconnect+connect",
+                        BenchmarkHarness.params("degree", degree, "threshold", thresholdName), LOOKUPS, () -> {
+                            long changed = 0;
+                            for (int i = 0; i < LOOKUPS; i++) {
+                                Vertex<Integer> other = others[lookups[i] % degree];
+                                if (vertex.disconnect(other) && vertex.connect(other)) {
+                                    changed++;
+                                }
+                            }
+                            return changed;
+                        });
+            }
+        }
+    }
+
+    private static Vertex<Integer> build(Vertex<Integer>[] others, int degree, int threshold) {
+        Vertex<Integer> vertex = new Vertex<>(-1, others.length, threshold);
+        for (int i = 0; i < degree; i++) {
+            vertex.connect(others[i], i);
+        }
+        return vertex;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Vertex<Integer>[] createVertices(int count) {
+        Vertex<Integer>[] vertices = (Vertex<Integer>[]) new Vertex<?>[count];
+        for (int i = 0; i < count; i++) {
+            vertices[i] = new Vertex<>(i, i);
+        }
+        return vertices;
+    }
+}
@@ -0,0 +1,39 @@
+import GraphPackage.CompressedGraph;
+import GraphPackage.GraphBuilder;
+import GraphPackage.PageRank;
+
+/**
+ * Measures {@link PageRank} on power-law graphs built with {@link GraphBuilder#buildCompressed()}.
+ * The time is per edge per iteration, so it should stay flat as graphs grow and drop
+ * in proportion to the cores used. Compare core counts by running with
+ * {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism=N}.
+ */
+public class PageRankBenchmark {
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int EDGES_PER_VERTEX = 10;
+    private static final int ITERATIONS = 20;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            int[] edges = GraphGenerator.powerLaw(size, EDGES_PER_VERTEX, SEED);
+            GraphBuilder<Integer> builder = new GraphBuilder<>(size, edges.length);
+            for (int vertex = 0; vertex < size; vertex++) {
+                builder.addVertex(vertex);
+            }
+            for (int i = 0; i < edges.length; i += 2) {
+                builder.addEdge(edges[i], edges[i + 1]);
+                builder.addEdge(edges[i + 1], edges[i]);
+            }
+            CompressedGraph<Integer> graph = builder.buildCompressed();
+
+            // A fixed iteration count keeps the work per round the same
+            PageRank pageRank = new PageRank().setTolerance(Double.MIN_VALUE).setMaxIterations(ITERATIONS);
+            BenchmarkHarness.measure("PageRank.compute",
+                    BenchmarkHarness.params("vertices", size, "edges", graph.getNumberOfEdges(),
+                            "parallelism", java.util.concurrent.ForkJoinPool.getCommonPoolParallelism()),
+                    (long) graph.getNumberOfEdges() * ITERATIONS,
+                    () -> pageRank.compute(graph).getIterations());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+import GraphPackage.CompressedGraph;
+import GraphPackage.GraphBuilder;
+import GraphPackage.ParallelBreadthFirstSearch;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares {@link ParallelBreadthFirstSearch} running on pools of 1, 2, 4 and 8
+ * threads with the sequential {@link CompressedGraph#getBreadthFirstTraversal(Object)}
+ * on power-law graphs. The time is per edge, so it should drop in proportion to the
+ * threads used, up to the cores available.
+ */
+public class ParallelBfsBenchmark {
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int[] THREADS = {1, 2, 4, 8};
+    private static final int EDGES_PER_VERTEX = 10;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            int[] edges = GraphGenerator.powerLaw(size, EDGES_PER_VERTEX, SEED);
+            GraphBuilder<Integer> builder = new GraphBuilder<>(size, edges.length);
+            for (int vertex = 0; vertex < size; vertex++) {
+                builder.addVertex(vertex);
+            }
+            for (int i = 0; i < edges.length; i += 2) {
+                builder.addEdge(edges[i], edges[i + 1]);
+                builder.addEdge(edges[i + 1], edges[i]);
+            }
+            CompressedGraph<Integer> graph = builder.buildCompressed();
+            long edgeCount = graph.getNumberOfEdges();
+
+            BenchmarkHarness.measure("CompressedGraph.getBreadthFirstTraversal",
+                    BenchmarkHarness.params("vertices", size, "edges", edgeCount), edgeCount,
+                    () -> graph.getBreadthFirstTraversal(0).getSize());
+
+            ParallelBreadthFirstSearch search = new ParallelBreadthFirstSearch();
+            search.search(graph, 0);  // Build the reverse edges once, outside the measurements
+            for (int threads : THREADS) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                BenchmarkHarness.measure("ParallelBreadthFirstSearch.search",
+                        BenchmarkHarness.params("vertices", size, "edges", edgeCount, "threads", threads),
+                        edgeCount, () -> pool.submit(() -> search.search(graph, 0).getReachedCount()).join());
+                pool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+import ADTPackage.HashedDictionary;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+/**
+ * Measures friendship updates, the printed friends-of-friends listing and friend
+ * network queries of {@link ProfileManager} over a synthetic network.
+ */
+public class ProfileManagerBenchmark {
+    private static final int FRIENDS_PER_PROFILE = 8;
+    private static final int LISTED_PROFILES = 100;
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSuite.main(BenchmarkSuite.withDefault(args, "--only=profiles"));
+    }
+
+    /**
+     * Runs every profile manager measurement for one network size and shape.
+     *
+     * @param shape        The friendship graph shape, see {@link GraphGenerator#generate(String, int, int, long)}.
+     * @param profileCount The number of profiles.
+     * @param seed         The seed for the friendships and the listed profiles.
+     */
+    static void run(String shape, int profileCount, long seed) {
+        int[] edges = GraphGenerator.generate(shape, profileCount, FRIENDS_PER_PROFILE / 2, seed);
+        String[] names = new String[profileCount];
+        ProfileManager manager = new ProfileManager(new HashedDictionary<>(profileCount));
+        for (int i = 0; i < profileCount; i++) {
+            names[i] = "user" + i;
+            manager.addProfile(new Profile(names[i], "Online", null, 30, "Female", "WA"));
+        }
+
+        // Adding then removing every friendship leaves the manager as it was for the next round
+        BenchmarkHarness.measure("ProfileManager.addFriend+removeFriend",
+                BenchmarkHarness.params("shape", shape, "profiles", profileCount), edges.length, () -> {
+                    for (int i = 0; i < edges.length; i += 2) {
+                        manager.addFriend(names[edges[i]], names[edges[i + 1]]);
+                    }
+                    for (int i = 0; i < edges.length; i += 2) {
+                        manager.removeFriend(names[edges[i]], names[edges[i + 1]]);
+                    }
+                    return edges.length;
+                });
+
+        for (int i = 0; i < edges.length; i += 2) {
+            manager.addFriend(names[edges[i]], names[edges[i + 1]]);
+        }
+        Random random = new Random(seed);
+        String[] listed = new String[LISTED_PROFILES];
+        for (int i = 0; i < LISTED_PROFILES; i++) {
+            listed[i] = names[random.nextInt(profileCount)];
+        }
+
+        PrintStream console = System.out;
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        BenchmarkHarness.measure("ProfileManager.listAllFriendsOfFriends",
+                BenchmarkHarness.params("shape", shape, "profiles", profileCount), LISTED_PROFILES, () -> {
+                    System.setOut(discard); // The listing is printed; keep the console readable
+                    try {
+                        for (String name : listed) {
+                            manager.listAllFriendsOfFriends(name);
+                        }
+                    } finally {
+                        System.setOut(console);
+                    }
+                    return listed.length;
+                });
+
+        BenchmarkHarness.measure("ProfileManager.inSameNetwork",
+                BenchmarkHarness.params("shape", shape, "profiles", profileCount), LISTED_PROFILES, () -> {
+                    long connected = 0;
+                    for (int i = 0; i < LISTED_PROFILES; i++) {
+                        if (manager.inSameNetwork(listed[i], listed[LISTED_PROFILES - 1 - i])) {
+                            connected++;
+                        }
+                    }
+                    return connected;
+                });
+        BenchmarkHarness.measure("ProfileManager.removeFriend+getNumberOfNetworks",
+                BenchmarkHarness.params("shape", shape, "profiles", profileCount), 1, () -> {
+                    // A removal forces the next query to rebuild the networks from every friendship
+                    manager.removeFriend(names[edges[0]], names[edges[1]]);
+                    manager.addFriend(names[edges[0]], names[edges[1]]);
+                    return manager.getNumberOfNetworks();
+                });
+    }
+}
@@ -0,0 +1,55 @@
+import ADTPackage.HashedDictionary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compares restoring a synthetic power-law network by replaying
+ * {@link ProfileManager#addProfile(Profile)} and {@link ProfileManager#addFriend(String, String)}
+ * calls against reading it back with {@link ProfileManager#loadSnapshot(Path)}.
+ * Optional arguments: profile count, friends per profile.
+ */
+public class SnapshotBenchmark {
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) throws IOException {
+        int profileCount = (args.length > 0) ? Integer.parseInt(args[0]) : 500_000;
+        int friendsPerProfile = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+        int[] edges = GraphGenerator.powerLaw(profileCount, friendsPerProfile, SEED);
+
+        ProfileManager source = replay(profileCount, edges);
+        Path file = Files.createTempFile("profiles", ".snapshot");
+        try {
+            long start = System.nanoTime();
+            source.saveSnapshot(file);
+            System.out.printf("Saved %d profiles in %.1f ms, %d bytes%n",
+                    profileCount, (System.nanoTime() - start) / 1e6, Files.size(file));
+
+            BenchmarkHarness.measure("replay addProfile/addFriend (per profile)", profileCount,
+                    () -> replay(profileCount, edges).getProfiles().size());
+            BenchmarkHarness.measure("loadSnapshot (per profile)", profileCount, () -> {
+                ProfileManager loaded = new ProfileManager(new HashedDictionary<>(profileCount));
+                try {
+                    loaded.loadSnapshot(file);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                return loaded.getProfile("user0").getFriends().size();
+            });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static ProfileManager replay(int profileCount, int[] edges) {
+        ProfileManager manager = new ProfileManager(new HashedDictionary<>(profileCount));
+        for (int i = 0; i < profileCount; i++) {
+            manager.addProfile(new Profile("user" + i, "Online", null, 30, "Female", "WA"));
+        }
+        for (int i = 0; i < edges.length; i += 2) {
+            manager.addFriend("user" + edges[i], "user" + edges[i + 1]);
+        }
+        return manager;
+    }
+}
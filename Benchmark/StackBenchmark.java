@@ -0,0 +1,53 @@
+import ADTPackage.ArrayStack;
+import ADTPackage.IntStack;
+import ADTPackage.LinkedStack;
+
+/**
+ * Compares {@link LinkedStack}, {@link ArrayStack} and {@link IntStack} on push/pop
+ * cycles. Each round pushes every value and then pops them all, the access pattern
+ * of a deep depth-first search. Optional argument: number of cycles.
+ */
+public class StackBenchmark {
+
+    public static void main(String[] args) {
+        int cycles = (args.length > 0) ? Integer.parseInt(args[0]) : 10_000_000;
+        Integer[] values = new Integer[cycles];
+        for (int i = 0; i < cycles; i++) {
+            values[i] = i & 1023; // Boxes come from the Integer cache, so only the stacks allocate
+        }
+
+        BenchmarkHarness.measure("LinkedStack.push+pop", BenchmarkHarness.params("cycles", cycles), cycles, () -> {
+            LinkedStack<Integer> stack = new LinkedStack<>();
+            for (Integer value : values) {
+                stack.push(value);
+            }
+            long sum = 0;
+            while (!stack.isEmpty()) {
+                sum += stack.pop();
+            }
+            return sum;
+        });
+        BenchmarkHarness.measure("ArrayStack.push+pop", BenchmarkHarness.params("cycles", cycles), cycles, () -> {
+            ArrayStack<Integer> stack = new ArrayStack<>();
+            for (Integer value : values) {
+                stack.push(value);
+            }
+            long sum = 0;
+            while (!stack.isEmpty()) {
+                sum += stack.pop();
+            }
+            return sum;
+        });
+        BenchmarkHarness.measure("IntStack.push+pop", BenchmarkHarness.params("cycles", cycles), cycles, () -> {
+            IntStack stack = new IntStack();
+            for (int i = 0; i < cycles; i++) {
+                stack.push(i & 1023);
+            }
+            long sum = 0;
+            while (!stack.isEmpty()) {
+                sum += stack.pop();
+            }
+            return sum;
+        });
+    }
+}
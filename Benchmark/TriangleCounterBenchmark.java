@@ -0,0 +1,36 @@
+import GraphPackage.CompressedGraph;
+import GraphPackage.GraphBuilder;
+import GraphPackage.TriangleCounter;
+
+/**
+ * Measures {@link TriangleCounter} on power-law friendship graphs built with
+ * {@link GraphBuilder#buildCompressed()}. The time is per undirected edge; hubs make
+ * power-law graphs the hard case for triangle counting. Compare core counts by running
+ * with {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism=N}.
+ */
+public class TriangleCounterBenchmark {
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int EDGES_PER_VERTEX = 10;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            int[] edges = GraphGenerator.powerLaw(size, EDGES_PER_VERTEX, SEED);
+            GraphBuilder<Integer> builder = new GraphBuilder<>(size, edges.length);
+            for (int vertex = 0; vertex < size; vertex++) {
+                builder.addVertex(vertex);
+            }
+            for (int i = 0; i < edges.length; i += 2) {
+                builder.addEdge(edges[i], edges[i + 1]);
+                builder.addEdge(edges[i + 1], edges[i]);
+            }
+            CompressedGraph<Integer> graph = builder.buildCompressed();
+
+            BenchmarkHarness.measure("TriangleCounter.count",
+                    BenchmarkHarness.params("vertices", size, "edges", graph.getNumberOfEdges() / 2,
+                            "parallelism", java.util.concurrent.ForkJoinPool.getCommonPoolParallelism()),
+                    graph.getNumberOfEdges() / 2,
+                    () -> TriangleCounter.count(graph).getTriangleCount());
+        }
+    }
+}
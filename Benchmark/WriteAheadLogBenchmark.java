@@ -0,0 +1,81 @@
+import ADTPackage.HashedDictionary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Measures friend mutation throughput with the write-ahead log off, with group
+ * commit, and with a flush requested after every record.
+ * Optional arguments: mutations per round, group commit records, group commit milliseconds.
+ */
+public class WriteAheadLogBenchmark {
+    private static final int PROFILE_COUNT = 100_000;
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) throws IOException {
+        int mutations = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+        int groupCommitRecords = (args.length > 1) ? Integer.parseInt(args[1]) : 4096;
+        long groupCommitMillis = (args.length > 2) ? Long.parseLong(args[2]) : 10;
+        int[] edges = GraphGenerator.powerLaw(PROFILE_COUNT, mutations / (2 * PROFILE_COUNT) + 1, SEED);
+
+        report("no log", mutations, run(edges, mutations, null, 0, 0));
+        report("group commit " + groupCommitRecords + " records / " + groupCommitMillis + " ms", mutations,
+                run(edges, mutations, Files.createTempDirectory("wal"), groupCommitRecords, groupCommitMillis));
+        int synced = Math.min(mutations, 2_000);
+        report("group commit 1 record / 1 ms", synced, run(edges, synced, Files.createTempDirectory("wal"), 1, 1));
+    }
+
+    /**
+     * Adds and then removes friendships, so every round starts from the same state.
+     *
+     * @return the mean nanoseconds per mutation
+     */
+    private static double run(int[] edges, int mutations, Path logDirectory, int records, long millis)
+            throws IOException {
+        ProfileManager manager = new ProfileManager(new HashedDictionary<>(PROFILE_COUNT));
+        for (int i = 0; i < PROFILE_COUNT; i++) {
+            manager.addProfile(new Profile("user" + i, "Online", null, 30, "Female", "WA"));
+        }
+        String[] names = new String[PROFILE_COUNT];
+        for (int i = 0; i < PROFILE_COUNT; i++) {
+            names[i] = "user" + i;
+        }
+        if (logDirectory != null) {
+            manager.openLog(logDirectory, records, millis);
+        }
+
+        try {
+            return BenchmarkHarness.measure("friend mutations", mutations, () -> {
+                int pairs = mutations / 2;
+                for (int i = 0; i < pairs; i++) {
+                    manager.addFriend(names[edges[2 * i]], names[edges[2 * i + 1]]);
+                }
+                for (int i = 0; i < pairs; i++) {
+                    manager.removeFriend(names[edges[2 * i]], names[edges[2 * i + 1]]);
+                }
+                try {
+                    if (logDirectory != null) {
+                        manager.syncLog(); // Count the final fsync in the round
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                return pairs;
+            });
+        } finally {
+            manager.closeLog();
+            if (logDirectory != null) {
+                try (Stream<Path> files = Files.walk(logDirectory)) {
+                    files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+                }
+            }
+        }
+    }
+
+    private static void report(String name, int mutations, double nanosPerMutation) {
+        System.out.printf("%-50s %12.0f mutations/s%n", name, 1e9 / nanosPerMutation);
+    }
+}
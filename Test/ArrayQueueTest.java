@@ -0,0 +1,110 @@
+import ADTPackage.ArrayQueue;
+import ADTPackage.IntArrayQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ArrayQueue class and its int-specialized IntArrayQueue counterpart,
+ * which store entries in a growable circular array.
+ */
+class ArrayQueueTest {
+
+    private ArrayQueue<Integer> queue;
+
+    /**
+     * Sets up an empty queue before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        queue = new ArrayQueue<>();
+    }
+
+    /**
+     * Tests that entries leave in first-in, first-out order and that an empty queue returns null.
+     */
+    @Test
+    void enqueueAndDequeue() {
+        assertNull(queue.dequeue());
+        assertNull(queue.getFront());
+        queue.enqueue(1);
+        queue.enqueue(2);
+        assertEquals(1, queue.getFront());
+        assertEquals(1, queue.dequeue());
+        assertEquals(2, queue.dequeue());
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Tests growth while the entries wrap around the end of the array.
+     */
+    @Test
+    void growWhileWrapped() {
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(i);
+        }
+        for (int i = 0; i < 8; i++) {
+            queue.dequeue();
+        }
+        for (int i = 10; i < 100; i++) {
+            queue.enqueue(i);  // The back wraps around before the array doubles
+        }
+
+        assertEquals(92, queue.getSize());
+        int expected = 8;
+        for (Integer value : queue) {
+            assertEquals(expected++, value);
+        }
+        for (int i = 8; i < 100; i++) {
+            assertEquals(i, queue.dequeue());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Tests that clearing empties the queue and that iterators fail fast after a change.
+     */
+    @Test
+    void clearAndIterator() {
+        queue.enqueue(1);
+        queue.enqueue(2);
+        Iterator<Integer> iterator = queue.getIterator();
+        queue.enqueue(3);
+        assertThrows(ConcurrentModificationException.class, iterator::hasNext);
+
+        queue.clear();
+        assertEquals(0, queue.getSize());
+        assertFalse(queue.getIterator().hasNext());
+    }
+
+    /**
+     * Tests the int-specialized queue, including growth while wrapped and empty-queue errors.
+     */
+    @Test
+    void intArrayQueue() {
+        IntArrayQueue ids = new IntArrayQueue(4);
+        assertThrows(NoSuchElementException.class, ids::dequeue);
+        for (int i = 0; i < 12; i++) {
+            ids.enqueue(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, ids.dequeue());
+        }
+        for (int i = 12; i < 50; i++) {
+            ids.enqueue(i);
+        }
+        assertEquals(10, ids.getFront());
+        for (int i = 10; i < 50; i++) {
+            assertEquals(i, ids.dequeue());
+        }
+        assertTrue(ids.isEmpty());
+        ids.enqueue(7);
+        ids.clear();
+        assertEquals(0, ids.getSize());
+    }
+}
@@ -0,0 +1,75 @@
+import ADTPackage.ArrayStack;
+import ADTPackage.IntStack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ArrayStack class and its int-specialized IntStack counterpart,
+ * which store entries in a resizable array.
+ */
+class ArrayStackTest {
+
+    private ArrayStack<String> stack;
+
+    /**
+     * Sets up an empty stack with a small capacity before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        stack = new ArrayStack<>(2);
+    }
+
+    /**
+     * Tests last-in, first-out order across several growths of the array.
+     */
+    @Test
+    void pushAndPop() {
+        for (int i = 0; i < 100; i++) {
+            stack.push("entry" + i);
+        }
+        assertEquals(100, stack.getSize());
+        assertEquals("entry99", stack.peek());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals("entry" + i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    /**
+     * Tests that an empty stack throws and that clearing empties the stack.
+     */
+    @Test
+    void emptyAndClear() {
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::peek);
+        stack.push("A");
+        stack.push("B");
+        stack.clear();
+        assertEquals(0, stack.getSize());
+        assertThrows(EmptyStackException.class, stack::pop);
+    }
+
+    /**
+     * Tests the int-specialized stack.
+     */
+    @Test
+    void intStack() {
+        IntStack ids = new IntStack(0);
+        assertThrows(EmptyStackException.class, ids::pop);
+        for (int i = 0; i < 1000; i++) {
+            ids.push(i);
+        }
+        assertEquals(999, ids.peek());
+        for (int i = 999; i >= 0; i--) {
+            assertEquals(i, ids.pop());
+        }
+        assertTrue(ids.isEmpty());
+        ids.push(5);
+        ids.clear();
+        assertEquals(0, ids.getSize());
+    }
+}
@@ -0,0 +1,114 @@
+import ADTPackage.LinkedStack;
+import ADTPackage.QueueInterface;
+import ADTPackage.StackInterface;
+import GraphPackage.CompressedGraph;
+import GraphPackage.DirectedGraph;
+import GraphPackage.UndirectedGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CompressedGraph class, which is a read-only CSR snapshot of a DirectedGraph.
+ */
+class CompressedGraphTest {
+
+    private DirectedGraph<String> graph;
+
+    /**
+     * Sets up a small weighted graph before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        graph = new DirectedGraph<>();
+        for (String label : new String[]{"A", "B", "C", "D", "E"}) {
+            graph.addVertex(label);
+        }
+        graph.addEdge("A", "B", 4.0);
+        graph.addEdge("A", "C", 1.0);
+        graph.addEdge("C", "B", 1.0);
+        graph.addEdge("B", "D", 1.0);
+        graph.addEdge("C", "D", 5.0);
+    }
+
+    /**
+     * Tests that the snapshot reports the same vertices and edges as the graph.
+     */
+    @Test
+    void structure() {
+        CompressedGraph<String> snapshot = graph.freeze();
+        assertEquals(5, snapshot.getNumberOfVertices());
+        assertEquals(5, snapshot.getNumberOfEdges());
+        assertTrue(snapshot.hasEdge("A", "C"));
+        assertFalse(snapshot.hasEdge("C", "A"));
+        assertEquals(2, snapshot.getOutDegree(snapshot.getVertexId("A")));
+        assertEquals(-1, snapshot.getVertexId("Z"));
+    }
+
+    /**
+     * Tests that traversals visit vertices in the same order as on the graph.
+     */
+    @Test
+    void traversalsMatchGraph() {
+        CompressedGraph<String> snapshot = graph.freeze();
+        assertSameOrder(graph.getBreadthFirstTraversal("A"), snapshot.getBreadthFirstTraversal("A"));
+        assertSameOrder(graph.getDepthFirstTraversal("A"), snapshot.getDepthFirstTraversal("A"));
+    }
+
+    /**
+     * Tests shortest and cheapest paths on the snapshot.
+     */
+    @Test
+    void paths() {
+        CompressedGraph<String> snapshot = graph.freeze();
+
+        StackInterface<String> path = new LinkedStack<>();
+        assertEquals(2, snapshot.getShortestPath("A", "D", path));
+        assertEquals("A", path.pop());
+        assertEquals("B", path.pop());
+        assertEquals("D", path.pop());
+
+        path.clear();
+        assertEquals(3.0, snapshot.getCheapestPath("A", "D", path));
+        assertEquals("A", path.pop());
+        assertEquals("C", path.pop());
+        assertEquals("B", path.pop());
+        assertEquals("D", path.pop());
+
+        assertEquals(-1, snapshot.getCheapestPath("D", "A", new LinkedStack<>()));
+    }
+
+    /**
+     * Tests that the snapshot is read-only and unaffected by later changes to the graph.
+     */
+    @Test
+    void snapshotIsImmutable() {
+        CompressedGraph<String> snapshot = graph.freeze();
+        graph.addEdge("D", "E");
+        assertFalse(snapshot.hasEdge("D", "E"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addVertex("F"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addEdge("D", "E"));
+    }
+
+    /**
+     * Tests that an undirected graph snapshot reports the undirected edge count.
+     */
+    @Test
+    void undirectedSnapshot() {
+        UndirectedGraph<String> undirected = new UndirectedGraph<>();
+        undirected.addVertex("A");
+        undirected.addVertex("B");
+        undirected.addEdge("A", "B");
+        CompressedGraph<String> snapshot = undirected.freeze();
+        assertEquals(1, snapshot.getNumberOfEdges());
+        assertTrue(snapshot.hasEdge("B", "A"));
+    }
+
+    private static void assertSameOrder(QueueInterface<String> expected, QueueInterface<String> actual) {
+        assertEquals(expected.getSize(), actual.getSize());
+        while (!expected.isEmpty()) {
+            assertEquals(expected.dequeue(), actual.dequeue());
+        }
+    }
+}
@@ -0,0 +1,246 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ConcurrentProfileManager class, which lets many threads change friendships at once.
+ */
+class ConcurrentProfileManagerTest {
+
+    private static final int PROFILE_COUNT = 200;
+
+    private ConcurrentProfileManager profileManager;
+
+    /**
+     * Sets up a manager with a fixed set of profiles before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        profileManager = new ConcurrentProfileManager(8);
+        for (int i = 0; i < PROFILE_COUNT; i++) {
+            profileManager.addProfile(new Profile("user" + i, "Online", null, 30, "Female", "WA"));
+        }
+    }
+
+    /**
+     * Tests that a name can only be added once, even when added from many threads.
+     */
+    @Test
+    void addProfileOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() ->
+                        profileManager.addProfile(new Profile("newcomer", "Online", null, 20, "Male", "CA"))));
+            }
+            int added = 0;
+            for (Future<Boolean> result : results) {
+                added += result.get() ? 1 : 0;
+            }
+            assertEquals(1, added);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests that a rejected duplicate keeps its id and uses up none.
+     */
+    @Test
+    void rejectedProfileKeepsId() {
+        Profile duplicate = new Profile("user0", "Online", null, 20, "Male", "CA");
+        int id = duplicate.getId();
+        assertFalse(profileManager.addProfile(duplicate));
+        assertEquals(id, duplicate.getId());
+
+        Profile added = new Profile("newcomer", "Online", null, 20, "Male", "CA");
+        assertTrue(profileManager.addProfile(added));
+        assertEquals(PROFILE_COUNT, added.getId());
+    }
+
+    /**
+     * Tests that concurrent friend additions and removals leave every friendship symmetric.
+     */
+    @Test
+    void concurrentFriendChanges() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int seed = thread;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        String name1 = "user" + ((i * 31 + seed * 7) % PROFILE_COUNT);
+                        String name2 = "user" + ((i * 17 + seed * 13 + 1) % PROFILE_COUNT);
+                        if (i % 3 == 0) {
+                            profileManager.removeFriend(name1, name2);
+                        } else {
+                            profileManager.addFriend(name1, name2);
+                        }
+                        profileManager.listAllFriendsOfFriends(name1);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (Profile profile : profileManager.getProfiles()) {
+            for (Profile friend : profile.getFriends()) {
+                assertTrue(friend.getFriends().contains(profile));
+            }
+        }
+    }
+
+    /**
+     * Tests that network queries running alongside friend changes neither deadlock
+     * nor leave stale networks behind once the changes stop.
+     */
+    @Test
+    void inSameNetworkDuringFriendChanges() throws Exception {
+        ConcurrentProfileManager manager = new ConcurrentProfileManager(4);
+        for (int i = 0; i < PROFILE_COUNT; i++) {
+            manager.addProfile(new Profile("user" + i, "Online", null, 30, "Female", "WA"));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int seed = thread;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        String name1 = "user" + ((i * 31 + seed * 7) % PROFILE_COUNT);
+                        String name2 = "user" + ((i * 17 + seed * 13 + 1) % PROFILE_COUNT);
+                        if (i % 3 == 0) {
+                            manager.removeFriend(name1, name2);
+                        } else {
+                            manager.addFriend(name1, name2);
+                        }
+                    }
+                }));
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        manager.inSameNetwork("user" + ((i + seed) % PROFILE_COUNT), "user" + (i * 7 % PROFILE_COUNT));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);  // Times out if the threads deadlock
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Set<Profile> reached = new HashSet<>();
+        Queue<Profile> queue = new ArrayDeque<>();
+        Profile origin = manager.getProfile("user0");
+        reached.add(origin);
+        queue.add(origin);
+        while (!queue.isEmpty()) {
+            for (Profile friend : queue.remove().getFriends()) {
+                if (reached.add(friend)) {
+                    queue.add(friend);
+                }
+            }
+        }
+        for (int i = 0; i < PROFILE_COUNT; i++) {
+            Profile profile = manager.getProfile("user" + i);
+            assertEquals(reached.contains(profile), manager.inSameNetwork("user0", "user" + i));
+        }
+    }
+
+    /**
+     * Tests that a log written by threads adding profiles, friendships, statuses and
+     * deletions at once replays into the same profiles and friendships.
+     */
+    @Test
+    void logReplaysConcurrentChanges() throws Exception {
+        java.nio.file.Path logDirectory = java.nio.file.Files.createTempDirectory("profiles");
+        ConcurrentProfileManager manager = new ConcurrentProfileManager(4);
+        try {
+            manager.openLog(logDirectory, 100, 10);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> results = new ArrayList<>();
+                for (int thread = 0; thread < 8; thread++) {
+                    int seed = thread;
+                    results.add(executor.submit(() -> {
+                        java.util.Random random = new java.util.Random(seed);
+                        for (int i = 0; i < 400; i++) {
+                            String own = "p" + seed + "_" + i;
+                            String other = "p" + random.nextInt(8) + "_" + random.nextInt(i + 1);
+                            manager.addProfile(new Profile(own, "Online", null, 30, "Female", "WA"));
+                            manager.addFriend(own, other);  // Often a profile another thread just added
+                            if (i % 7 == 0) {
+                                manager.setStatus(other, "Away" + seed);
+                            }
+                            if (i % 11 == 0) {
+                                manager.removeFriend(other, "p" + random.nextInt(8) + "_" + random.nextInt(i + 1));
+                            }
+                            if (i % 13 == 0) {
+                                manager.removeProfile("p" + random.nextInt(8) + "_" + random.nextInt(i + 1));
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            manager.closeLog();
+
+            ConcurrentProfileManager recovered = new ConcurrentProfileManager(4);
+            recovered.openLog(logDirectory, 100, 10);
+            recovered.closeLog();
+            assertEquals(manager.getProfiles().size(), recovered.getProfiles().size());
+            for (Profile profile : manager.getProfiles()) {
+                Profile copy = recovered.getProfile(profile.getName());
+                assertNotNull(copy);
+                assertEquals(profile.getStatus(), copy.getStatus());
+                assertEquals(friendNames(profile), friendNames(copy));
+            }
+        } finally {
+            manager.closeLog();
+            try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.walk(logDirectory)) {
+                files.sorted(java.util.Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    private static Set<String> friendNames(Profile profile) {
+        Set<String> names = new HashSet<>();
+        for (Profile friend : profile.getFriends()) {
+            names.add(friend.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Tests removing a friendship.
+     */
+    @Test
+    void removeFriend() {
+        assertTrue(profileManager.addFriend("user1", "user2"));
+        assertTrue(profileManager.removeFriend("user2", "user1"));
+        assertFalse(profileManager.removeFriend("user1", "user2"));
+        assertTrue(profileManager.getProfile("user1").getFriends().isEmpty());
+    }
+}
@@ -0,0 +1,107 @@
+import ADTPackage.LinkedStack;
+import GraphPackage.DeltaStepping;
+import GraphPackage.DirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DeltaStepping class. Costs and paths are compared with
+ * DirectedGraph.getCheapestPath for several bucket widths.
+ */
+class DeltaSteppingTest {
+    private static final int VERTICES = 400;
+
+    /**
+     * Tests that every bucket width gives the same costs as Dijkstra's algorithm, with
+     * paths that follow existing edges.
+     */
+    @Test
+    void computeMatchesCheapestPath() {
+        Random random = new Random(22);
+        DirectedGraph<Integer> graph = new DirectedGraph<>();
+        double[][] weight = new double[VERTICES][VERTICES];
+        for (int vertex = 0; vertex < VERTICES; vertex++) {
+            graph.addVertex(vertex);
+        }
+        for (int i = 0; i < 6 * VERTICES; i++) {
+            int begin = random.nextInt(VERTICES);
+            int end = random.nextInt(VERTICES);
+            double edgeWeight = (i % 10 == 0) ? 0 : random.nextInt(100) / 4.0;  // Some zero weights
+            if (graph.addEdge(begin, end, edgeWeight)) {
+                weight[begin][end] = edgeWeight;
+            }
+        }
+
+        for (DeltaStepping deltaStepping : new DeltaStepping[]{
+                new DeltaStepping(), new DeltaStepping().setDelta(0.5), new DeltaStepping().setDelta(1e9)}) {
+            DeltaStepping.Result<Integer> result = deltaStepping.compute(graph, 0);
+            double[] distances = result.getDistances();
+            for (int end = 0; end < VERTICES; end++) {
+                double expected = graph.getCheapestPath(0, end, new LinkedStack<>());
+                LinkedStack<Integer> path = new LinkedStack<>();
+                double cost = result.getPath(end, path);
+                assertEquals(expected, cost, 1e-9, "vertex " + end);
+                if (expected < 0) {
+                    assertEquals(Double.POSITIVE_INFINITY, distances[result.getVertexId(end)]);
+                    assertTrue(path.isEmpty());
+                    continue;
+                }
+                assertEquals(expected, result.getDistance(end), 1e-9);
+
+                // The path runs from the source on top to the end, along edges adding up to the cost
+                int previous = path.pop();
+                assertEquals(0, previous);
+                double total = 0;
+                while (!path.isEmpty()) {
+                    int next = path.pop();
+                    assertTrue(graph.hasEdge(previous, next));
+                    total += weight[previous][next];
+                    previous = next;
+                }
+                assertEquals(end, previous);
+                assertEquals(cost, total, 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Tests a missing source, negative and infinite weights and a bad bucket width.
+     */
+    @Test
+    void computeRejectsBadInput() {
+        DirectedGraph<String> graph = new DirectedGraph<>();
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addEdge("A", "B", -1.0);
+        DeltaStepping.Result<String> result = new DeltaStepping().compute(graph, "C");
+        assertEquals(Double.POSITIVE_INFINITY, result.getDistance("A"));
+        assertEquals(-1, result.getPath("A", new LinkedStack<>()));
+        assertThrows(IllegalArgumentException.class, () -> new DeltaStepping().compute(graph, "A"));
+        assertThrows(IllegalArgumentException.class, () -> new DeltaStepping().setDelta(0));
+
+        DirectedGraph<String> infinite = new DirectedGraph<>();
+        infinite.addVertex("A");
+        infinite.addVertex("B");
+        infinite.addEdge("A", "B", Double.POSITIVE_INFINITY);
+        assertThrows(IllegalArgumentException.class, () -> new DeltaStepping().compute(infinite, "A"));
+    }
+
+    /**
+     * Tests weights far larger than the bucket width, which widen the buckets.
+     */
+    @Test
+    void computeWithHugeWeights() {
+        DirectedGraph<String> graph = new DirectedGraph<>();
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addEdge("A", "B", 1e300);
+        graph.addEdge("B", "C", 1.0);
+        DeltaStepping.Result<String> result = new DeltaStepping().setDelta(1e-300).compute(graph, "A");
+        assertEquals(1e300, result.getDistance("C"));
+        assertEquals(1e300, new DeltaStepping().compute(graph, "A").getDistance("B"));
+    }
+}
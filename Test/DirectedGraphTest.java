@@ -5,6 +5,14 @@ import ADTPackage.QueueInterface;
 import GraphPackage.DirectedGraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -170,6 +178,152 @@ class DirectedGraphTest {
         assertEquals("C", traversal.dequeue());
     }
 
+    /**
+     * Tests that depth-first traversal visits vertices in recursive depth-first order
+     * on a random graph with backtracking and high-degree vertices.
+     */
+    @Test
+    void getDepthFirstTraversalMatchesRecursiveOrder() {
+        Random random = new Random(13);
+        List<List<Integer>> adjacency = new ArrayList<>();
+        DirectedGraph<Integer> numbers = new DirectedGraph<>();
+        for (int vertex = 0; vertex < 200; vertex++) {
+            numbers.addVertex(vertex);
+            adjacency.add(new ArrayList<>());
+        }
+        for (int i = 0; i < 800; i++) {
+            int begin = (i % 4 == 0) ? 0 : random.nextInt(200);  // Vertex 0 becomes a hub
+            int end = random.nextInt(200);
+            if (numbers.addEdge(begin, end)) {
+                adjacency.get(begin).add(end);
+            }
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        visitRecursively(0, adjacency, new boolean[200], expected);
+        QueueInterface<Integer> traversal = numbers.getDepthFirstTraversal(0);
+        assertEquals(expected.size(), traversal.getSize());
+        for (Integer vertex : expected) {
+            assertEquals(vertex, traversal.dequeue());
+        }
+    }
+
+    /**
+     * Tests that batched multi-source distances match one breadth-first search per
+     * source, across more than one batch of 64 and with repeated and missing sources.
+     */
+    @Test
+    void getDistancesMatchesBreadthFirstSearch() {
+        Random random = new Random(20);
+        List<List<Integer>> adjacency = new ArrayList<>();
+        DirectedGraph<Integer> numbers = new DirectedGraph<>();
+        for (int vertex = 0; vertex < 300; vertex++) {
+            numbers.addVertex(vertex);
+            adjacency.add(new ArrayList<>());
+        }
+        for (int i = 0; i < 900; i++) {
+            int begin = random.nextInt(300);
+            int end = random.nextInt(300);
+            if (numbers.addEdge(begin, end)) {
+                adjacency.get(begin).add(end);
+            }
+        }
+
+        List<Integer> sources = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            sources.add(random.nextInt(300));
+        }
+        sources.add(sources.get(0));
+        sources.add(-1);  // Not in the graph
+        GraphPackage.BatchDistances<Integer> distances = numbers.getDistances(sources);
+
+        assertEquals(sources.size(), distances.getNumberOfSources());
+        for (int i = 0; i < sources.size() - 1; i++) {
+            int[] expected = breadthFirstDistances(sources.get(i), adjacency);
+            for (int vertex = 0; vertex < 300; vertex++) {
+                assertEquals(expected[vertex], distances.getDistance(i, vertex));
+            }
+        }
+        assertEquals(-1, distances.getDistance(sources.size() - 1, 0));
+        assertEquals(-1, distances.getDistance(0, 1000));
+    }
+
+    private static int[] breadthFirstDistances(int source, List<List<Integer>> adjacency) {
+        int[] distance = new int[adjacency.size()];
+        java.util.Arrays.fill(distance, -1);
+        java.util.ArrayDeque<Integer> queue = new java.util.ArrayDeque<>();
+        distance[source] = 0;
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            int vertex = queue.poll();
+            for (int neighbor : adjacency.get(vertex)) {
+                if (distance[neighbor] < 0) {
+                    distance[neighbor] = distance[vertex] + 1;
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * Tests that A* with a Manhattan distance heuristic finds paths as cheap as
+     * Dijkstra's on a weighted grid, both on the graph and on its snapshot, while
+     * settling fewer vertices.
+     */
+    @Test
+    void getCheapestPathWithHeuristic() {
+        int side = 40;
+        Random random = new Random(23);
+        GraphPackage.UndirectedGraph<Integer> grid = new GraphPackage.UndirectedGraph<>();
+        for (int cell = 0; cell < side * side; cell++) {
+            grid.addVertex(cell);
+        }
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                int cell = row * side + column;
+                if (column + 1 < side) {
+                    grid.addEdge(cell, cell + 1, 1 + random.nextInt(3));  // Every step costs at least 1
+                }
+                if (row + 1 < side) {
+                    grid.addEdge(cell, cell + side, 1 + random.nextInt(3));
+                }
+            }
+        }
+        GraphPackage.DistanceHeuristic<Integer> manhattan = (current, goal) ->
+                Math.abs(current / side - goal / side) + Math.abs(current % side - goal % side);
+
+        List<GraphPackage.GraphInterface<Integer>> graphs = List.of(grid, grid.freeze());
+        for (GraphPackage.GraphInterface<Integer> searched : graphs) {
+            GraphPackage.SearchStatistics dijkstra = new GraphPackage.SearchStatistics();
+            GraphPackage.SearchStatistics aStar = new GraphPackage.SearchStatistics();
+            for (int i = 0; i < 20; i++) {
+                int begin = random.nextInt(side * side);
+                int end = random.nextInt(side * side);
+                LinkedStack<Integer> expectedPath = new LinkedStack<>();
+                LinkedStack<Integer> path = new LinkedStack<>();
+                double expected = searched.getCheapestPath(begin, end, expectedPath, null, dijkstra);
+                assertEquals(expected, searched.getCheapestPath(begin, end, expectedPath));
+                assertEquals(expected, searched.getCheapestPath(begin, end, path, manhattan, aStar));
+                assertEquals(begin, path.peek());
+            }
+            assertEquals(20, aStar.getSearches());
+            assertTrue(aStar.getSettledCount() < dijkstra.getSettledCount());
+        }
+        assertEquals(-1, grid.getCheapestPath(0, -5, new LinkedStack<>(), manhattan, null));
+    }
+
+    private static void visitRecursively(int vertex, List<List<Integer>> adjacency, boolean[] visited,
+                                         List<Integer> order) {
+        visited[vertex] = true;
+        order.add(vertex);
+        for (int neighbor : adjacency.get(vertex)) {
+            if (!visited[neighbor]) {
+                visitRecursively(neighbor, adjacency, visited, order);
+            }
+        }
+    }
+
     /**
      * Tests getting the shortest path between two vertices.
      * Ensures that the correct path length is returned for the shortest path.
@@ -204,6 +358,119 @@ class DirectedGraphTest {
         assertEquals(3.0, cost);  // The cheapest path cost should be 3.0 (A -> B -> C)
     }
 
+    /**
+     * Tests that the cheapest path follows a cheaper route discovered after a more expensive one.
+     * Ensures that tentative costs are lowered and the path is rebuilt from the final predecessors.
+     */
+    @Test
+    void getCheapestPathLowersTentativeCost() {
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addVertex("D");
+        graph.addEdge("A", "D", 10.0);
+        graph.addEdge("A", "B", 1.0);
+        graph.addEdge("B", "C", 1.0);
+        graph.addEdge("C", "D", 1.0);
+
+        StackInterface<String> path = new LinkedStack<>();
+        assertEquals(3.0, graph.getCheapestPath("A", "D", path));
+        assertEquals("A", path.pop());
+        assertEquals("B", path.pop());
+        assertEquals("C", path.pop());
+        assertEquals("D", path.pop());
+        assertTrue(path.isEmpty());
+    }
+
+    /**
+     * Tests that adding an existing vertex again keeps its edges.
+     */
+    @Test
+    void addVertexKeepsEdges() {
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addEdge("A", "B");
+        assertFalse(graph.addVertex("A"));
+        assertTrue(graph.hasEdge("A", "B"));
+    }
+
+    /**
+     * Tests the bidirectional shortest path, which searches backward along incoming edges.
+     * Ensures that edge directions are respected and the reverse index follows later changes.
+     */
+    @Test
+    void getShortestPathBidirectional() {
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addVertex("D");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.addEdge("D", "C");
+
+        StackInterface<String> path = new LinkedStack<>();
+        assertEquals(2, graph.getShortestPathBidirectional("A", "C", path));
+        assertEquals("A", path.pop());
+        assertEquals("B", path.pop());
+        assertEquals("C", path.pop());
+        assertEquals(-1, graph.getShortestPathBidirectional("C", "A", new LinkedStack<>()));
+        assertEquals(-1, graph.getShortestPathBidirectional("A", "D", new LinkedStack<>()));
+
+        graph.addEdge("A", "C");
+        assertEquals(1, graph.getShortestPathBidirectional("A", "C", new LinkedStack<>()));
+        graph.removeVertex("B");
+        graph.addEdge("C", "D");
+        assertEquals(2, graph.getShortestPathBidirectional("A", "D", new LinkedStack<>()));
+    }
+
+    /**
+     * Tests that many threads can query the same graph at once.
+     * Ensures that concurrent traversals and path searches agree with the results of sequential ones.
+     */
+    @Test
+    void concurrentQueries() throws Exception {
+        Random random = new Random(11);
+        int vertexCount = 300;
+        for (int i = 0; i < vertexCount; i++) {
+            graph.addVertex("v" + i);
+        }
+        for (int i = 0; i < 1500; i++) {
+            graph.addEdge("v" + random.nextInt(vertexCount), "v" + random.nextInt(vertexCount),
+                    1 + random.nextInt(10));
+        }
+
+        int queryCount = 200;
+        String[] begins = new String[queryCount];
+        String[] ends = new String[queryCount];
+        double[] expected = new double[queryCount];
+        for (int i = 0; i < queryCount; i++) {
+            begins[i] = "v" + random.nextInt(vertexCount);
+            ends[i] = "v" + random.nextInt(vertexCount);
+            expected[i] = graph.getCheapestPath(begins[i], ends[i], new LinkedStack<>())
+                    + 1000 * graph.getShortestPath(begins[i], ends[i], new LinkedStack<>())
+                    + graph.getBreadthFirstTraversal(begins[i]).getSize() * 1e6;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Double>> results = new ArrayList<>();
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < queryCount; i++) {
+                    String begin = begins[i];
+                    String end = ends[i];
+                    results.add(executor.submit(() -> graph.getCheapestPath(begin, end, new LinkedStack<>())
+                            + 1000 * graph.getShortestPath(begin, end, new LinkedStack<>())
+                            + graph.getBreadthFirstTraversal(begin).getSize() * 1e6));
+                }
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(expected[i % queryCount], results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     /**
      * Tests the traversal size.
      * Ensures that the size of the traversal is correctly calculated.
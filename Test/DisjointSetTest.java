@@ -0,0 +1,83 @@
+import ADTPackage.DisjointSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DisjointSet class, a union-find forest over int elements.
+ */
+class DisjointSetTest {
+
+    /**
+     * Tests union, connected and set sizes on a few small sets.
+     */
+    @Test
+    void unionAndConnected() {
+        DisjointSet set = new DisjointSet(6);
+        assertEquals(6, set.getSetCount());
+        assertTrue(set.union(0, 1));
+        assertTrue(set.union(2, 3));
+        assertTrue(set.union(1, 3));
+        assertFalse(set.union(0, 2));  // Already in one set
+
+        assertTrue(set.connected(0, 3));
+        assertFalse(set.connected(0, 4));
+        assertEquals(4, set.getSetSize(2));
+        assertEquals(1, set.getSetSize(5));
+        assertEquals(3, set.getSetCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> set.find(6));
+    }
+
+    /**
+     * Tests that growing adds singleton sets and keeps existing sets.
+     */
+    @Test
+    void grow() {
+        DisjointSet set = new DisjointSet(0);
+        set.grow(3);
+        set.union(0, 2);
+        set.grow(100);
+        assertEquals(100, set.getSize());
+        assertEquals(99, set.getSetCount());
+        assertTrue(set.connected(2, 0));
+        assertEquals(1, set.getSetSize(99));
+    }
+
+    /**
+     * Tests random unions against a brute-force labelling of the sets.
+     */
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(17);
+        int size = 200;
+        DisjointSet set = new DisjointSet(size);
+        int[] label = new int[size];
+        for (int i = 0; i < size; i++) {
+            label[i] = i;
+        }
+        for (int step = 0; step < 300; step++) {
+            int a = random.nextInt(size);
+            int b = random.nextInt(size);
+            int from = label[b];
+            int to = label[a];
+            assertEquals(from != to, set.union(a, b));
+            for (int i = 0; i < size; i++) {
+                if (label[i] == from) {
+                    label[i] = to;
+                }
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            int expectedSize = 0;
+            for (int j = 0; j < size; j++) {
+                assertEquals(label[i] == label[j], set.connected(i, j));
+                if (label[i] == label[j]) {
+                    expectedSize++;
+                }
+            }
+            assertEquals(expectedSize, set.getSetSize(i));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+import ADTPackage.LinkedStack;
+import ADTPackage.QueueInterface;
+import GraphPackage.DirectedGraph;
+import GraphPackage.GraphBuilder;
+import GraphPackage.UndirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GraphBuilder class, which builds a graph from many edges at once.
+ * Built graphs are compared with graphs built one addEdge call at a time.
+ */
+class GraphBuilderTest {
+    private static final int VERTICES = 300;
+    private static final int EDGES = 3000;
+
+    /**
+     * Tests that a built directed graph matches one built edge by edge, including
+     * duplicate edges, self-loops, traversal orders and first-wins weights.
+     */
+    @Test
+    void buildDirectedMatchesAddEdge() {
+        Random random = new Random(16);
+        GraphBuilder<String> builder = new GraphBuilder<>();
+        DirectedGraph<String> expected = new DirectedGraph<>();
+        fill(random, builder, expected);
+
+        DirectedGraph<String> built = builder.buildDirected();
+        assertSameGraph(expected, built);
+    }
+
+    /**
+     * Tests that a built undirected graph matches one built edge by edge.
+     */
+    @Test
+    void buildUndirectedMatchesAddEdge() {
+        Random random = new Random(61);
+        GraphBuilder<String> builder = new GraphBuilder<String>(VERTICES, EDGES).setNeighborIndexThreshold(4);
+        UndirectedGraph<String> expected = new UndirectedGraph<>();
+        fill(random, builder, expected);
+
+        UndirectedGraph<String> built = builder.buildUndirected();
+        assertSameGraph(expected, built);
+        assertTrue(built.addVertex("new"));  // A built graph can still be changed afterwards
+        assertTrue(built.addEdge("v0", "new"));
+        assertTrue(built.hasEdge("new", "v0"));
+    }
+
+    /**
+     * Tests that vertices added without edges are kept and a builder can be reused.
+     */
+    @Test
+    void addVertexWithoutEdges() {
+        GraphBuilder<String> builder = new GraphBuilder<>();
+        assertTrue(builder.addVertex("A"));
+        assertFalse(builder.addVertex("A"));
+        builder.addEdges(new String[]{"B", "B"}, new String[]{"C", "C"}, new double[]{2.0, 5.0});
+
+        DirectedGraph<String> first = builder.buildDirected();
+        DirectedGraph<String> second = builder.buildDirected();
+        for (DirectedGraph<String> graph : List.of(first, second)) {
+            assertEquals(3, graph.getNumberOfVertices());
+            assertEquals(1, graph.getNumberOfEdges());
+            assertEquals(2.0, graph.getCheapestPath("B", "C", new LinkedStack<>()));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.addEdges(new String[]{"A"}, new String[0], null));
+    }
+
+    /**
+     * Adds the same vertices and random edges to a builder and to a graph.
+     */
+    private static void fill(Random random, GraphBuilder<String> builder, DirectedGraph<String> graph) {
+        for (int i = 0; i < VERTICES; i++) {
+            builder.addVertex("v" + i);
+            graph.addVertex("v" + i);
+        }
+        for (int i = 0; i < EDGES; i++) {
+            // A few popular targets make duplicate edges common
+            String begin = "v" + random.nextInt(VERTICES);
+            String end = "v" + ((i % 3 == 0) ? random.nextInt(5) : random.nextInt(VERTICES));
+            double weight = random.nextInt(10);
+            builder.addEdge(begin, end, weight);
+            graph.addEdge(begin, end, weight);
+        }
+    }
+
+    private static void assertSameGraph(DirectedGraph<String> expected, DirectedGraph<String> actual) {
+        assertEquals(expected.getNumberOfVertices(), actual.getNumberOfVertices());
+        assertEquals(expected.getNumberOfEdges(), actual.getNumberOfEdges());
+        for (int i = 0; i < VERTICES; i += 7) {
+            String origin = "v" + i;
+            assertEquals(toList(expected.getDepthFirstTraversal(origin)), toList(actual.getDepthFirstTraversal(origin)));
+            assertEquals(toList(expected.getBreadthFirstTraversal(origin)),
+                    toList(actual.getBreadthFirstTraversal(origin)));
+
+            String end = "v" + ((i * 31) % VERTICES);
+            LinkedStack<String> expectedPath = new LinkedStack<>();
+            LinkedStack<String> actualPath = new LinkedStack<>();
+            assertEquals(expected.getCheapestPath(origin, end, expectedPath),
+                    actual.getCheapestPath(origin, end, actualPath));
+            while (!expectedPath.isEmpty()) {
+                assertEquals(expectedPath.pop(), actualPath.pop());
+            }
+            assertTrue(actualPath.isEmpty());
+        }
+    }
+
+    private static List<String> toList(QueueInterface<String> queue) {
+        List<String> list = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            list.add(queue.dequeue());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,133 @@
+import ADTPackage.HashedDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the HashedDictionary class, which stores entries in an open-addressing hash table.
+ */
+class HashedDictionaryTest {
+
+    private HashedDictionary<String, Integer> dictionary;
+
+    /**
+     * Sets up an empty dictionary before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        dictionary = new HashedDictionary<>();
+    }
+
+    /**
+     * Tests adding entries and replacing the value of an existing key.
+     */
+    @Test
+    void add() {
+        assertNull(dictionary.add("A", 1));
+        assertEquals(1, dictionary.add("A", 2));  // Replacing returns the old value
+        assertEquals(2, dictionary.getValue("A"));
+        assertEquals(1, dictionary.getSize());
+    }
+
+    /**
+     * Tests that null keys and values are rejected.
+     */
+    @Test
+    void addNull() {
+        assertThrows(IllegalArgumentException.class, () -> dictionary.add(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> dictionary.add("A", null));
+    }
+
+    /**
+     * Tests removing entries, including keys that are not present.
+     */
+    @Test
+    void remove() {
+        dictionary.add("A", 1);
+        dictionary.add("B", 2);
+        assertEquals(1, dictionary.remove("A"));
+        assertNull(dictionary.remove("A"));
+        assertFalse(dictionary.contains("A"));
+        assertTrue(dictionary.contains("B"));
+        assertEquals(1, dictionary.getSize());
+    }
+
+    /**
+     * Tests that lookups keep working across many resizes and after removals leave tombstones.
+     */
+    @Test
+    void rehashWithTombstones() {
+        for (int i = 0; i < 10_000; i++) {
+            dictionary.add("key" + i, i);
+        }
+        for (int i = 0; i < 10_000; i += 2) {
+            dictionary.remove("key" + i);
+        }
+        for (int i = 10_000; i < 20_000; i++) {
+            dictionary.add("key" + i, i);
+        }
+
+        assertEquals(15_000, dictionary.getSize());
+        for (int i = 0; i < 20_000; i++) {
+            boolean expected = i >= 10_000 || i % 2 == 1;
+            assertEquals(expected, dictionary.contains("key" + i));
+        }
+    }
+
+    /**
+     * Tests that the key and value iterators visit every entry exactly once.
+     */
+    @Test
+    void iterators() {
+        for (int i = 0; i < 100; i++) {
+            dictionary.add("key" + i, i);
+        }
+        dictionary.remove("key50");
+
+        int keyCount = 0;
+        Iterator<String> keys = dictionary.getKeyIterator();
+        while (keys.hasNext()) {
+            assertTrue(dictionary.contains(keys.next()));
+            keyCount++;
+        }
+
+        int valueSum = 0;
+        Iterator<Integer> values = dictionary.getValueIterator();
+        while (values.hasNext()) {
+            valueSum += values.next();
+        }
+
+        assertEquals(99, keyCount);
+        assertEquals(4950 - 50, valueSum);
+        assertThrows(NoSuchElementException.class, values::next);
+    }
+
+    /**
+     * Tests that iterators fail fast when the dictionary is structurally modified.
+     */
+    @Test
+    void iteratorFailsFast() {
+        dictionary.add("A", 1);
+        dictionary.add("B", 2);
+        Iterator<String> keys = dictionary.getKeyIterator();
+        keys.next();
+        dictionary.add("C", 3);
+        assertThrows(ConcurrentModificationException.class, keys::hasNext);
+    }
+
+    /**
+     * Tests clearing the dictionary.
+     */
+    @Test
+    void clear() {
+        dictionary.add("A", 1);
+        dictionary.clear();
+        assertTrue(dictionary.isEmpty());
+        assertNull(dictionary.getValue("A"));
+    }
+}
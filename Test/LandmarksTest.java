@@ -0,0 +1,118 @@
+import ADTPackage.LinkedStack;
+import GraphPackage.DirectedGraph;
+import GraphPackage.Landmarks;
+import GraphPackage.SearchStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Landmarks class, the ALT heuristic for A* searches. Searches
+ * guided by landmarks are compared with Dijkstra's algorithm on a directed grid whose
+ * two directions of each street have different costs.
+ */
+class LandmarksTest {
+    private static final int SIDE = 30;
+
+    private DirectedGraph<Integer> grid;
+    private Random random;
+
+    /**
+     * Builds a weighted directed grid before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        random = new Random(24);
+        grid = new DirectedGraph<>();
+        for (int cell = 0; cell < SIDE * SIDE; cell++) {
+            grid.addVertex(cell);
+        }
+        for (int cell = 0; cell < SIDE * SIDE; cell++) {
+            if (cell % SIDE + 1 < SIDE) {
+                grid.addEdge(cell, cell + 1, 1 + random.nextInt(5));
+                grid.addEdge(cell + 1, cell, 1 + random.nextInt(5));
+            }
+            if (cell + SIDE < SIDE * SIDE) {
+                grid.addEdge(cell, cell + SIDE, 1 + random.nextInt(5));
+                grid.addEdge(cell + SIDE, cell, 1 + random.nextInt(5));
+            }
+        }
+    }
+
+    /**
+     * Tests that both selections give admissible estimates and cheapest paths, and
+     * that farthest landmarks settle far fewer vertices than Dijkstra's algorithm.
+     */
+    @Test
+    void estimateGuidesCheapestPath() {
+        for (Landmarks.Selection selection : Landmarks.Selection.values()) {
+            Landmarks<Integer> landmarks = Landmarks.compute(grid, 8, selection);
+            assertEquals(8, landmarks.getLandmarks().size());
+            SearchStatistics dijkstra = new SearchStatistics();
+            SearchStatistics alt = new SearchStatistics();
+            for (int i = 0; i < 30; i++) {
+                int begin = random.nextInt(SIDE * SIDE);
+                int end = random.nextInt(SIDE * SIDE);
+                double expected = grid.getCheapestPath(begin, end, new LinkedStack<>(), null, dijkstra);
+                assertTrue(landmarks.estimate(begin, end) <= expected + 1e-9);
+                assertEquals(expected, grid.getCheapestPath(begin, end, new LinkedStack<>(), landmarks, alt), 1e-9);
+            }
+            if (selection == Landmarks.Selection.FARTHEST) {
+                assertTrue(4 * alt.getSettledCount() < dijkstra.getSettledCount(),
+                        alt.getSettledCount() + " vs " + dijkstra.getSettledCount());
+            }
+        }
+    }
+
+    /**
+     * Tests that saved tables load back with the same estimates, and are refused with
+     * a corrupt header or for a graph that changed since.
+     */
+    @Test
+    void saveAndLoad() throws IOException {
+        Landmarks<Integer> landmarks = Landmarks.compute(grid, 4, Landmarks.Selection.FARTHEST);
+        Path directory = Files.createTempDirectory("landmarks");
+        Path file = directory.resolve("grid.alt");
+        try {
+            landmarks.save(file);
+            Landmarks<Integer> loaded = Landmarks.load(grid, file);
+            assertEquals(landmarks.getLandmarks(), loaded.getLandmarks());
+            for (int i = 0; i < 100; i++) {
+                int begin = random.nextInt(SIDE * SIDE);
+                int end = random.nextInt(SIDE * SIDE);
+                assertEquals(landmarks.estimate(begin, end), loaded.estimate(begin, end));
+            }
+
+            try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(file,
+                    java.nio.file.StandardOpenOption.WRITE)) {
+                channel.write(java.nio.ByteBuffer.allocate(Integer.BYTES).putInt(0, 1 << 24), 12);  // Header length
+            }
+            assertThrows(IOException.class, () -> Landmarks.load(grid, file));
+
+            grid.addEdge(0, SIDE * SIDE - 1, 1.0);
+            assertThrows(IOException.class, () -> Landmarks.load(grid, file));
+            assertThrows(IOException.class, () -> Landmarks.load(grid, directory.resolve("missing.alt")));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+        assertThrows(IllegalArgumentException.class, () -> Landmarks.compute(grid, 0, Landmarks.Selection.FARTHEST));
+    }
+
+    /**
+     * Tests that a graph without vertices is refused with either selection.
+     */
+    @Test
+    void computeRejectsEmptyGraph() {
+        DirectedGraph<Integer> empty = new DirectedGraph<>();
+        for (Landmarks.Selection selection : Landmarks.Selection.values()) {
+            assertThrows(IllegalArgumentException.class, () -> Landmarks.compute(empty, 4, selection));
+        }
+    }
+}
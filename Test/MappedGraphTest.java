@@ -0,0 +1,128 @@
+import ADTPackage.LinkedStack;
+import ADTPackage.QueueInterface;
+import ADTPackage.StackInterface;
+import GraphPackage.DirectedGraph;
+import GraphPackage.MappedGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MappedGraph class. A random weighted graph is written to a
+ * temporary directory, opened again, and compared with the heap graph it came from.
+ */
+class MappedGraphTest {
+    private static final int VERTICES = 300;
+
+    private DirectedGraph<String> graph;
+    private Random random;
+
+    /**
+     * Builds a random weighted directed graph before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        random = new Random(25);
+        graph = new DirectedGraph<>();
+        for (int v = 0; v < VERTICES; v++) {
+            graph.addVertex("v" + v);
+        }
+        for (int e = 0; e < 4 * VERTICES; e++) {
+            graph.addEdge("v" + random.nextInt(VERTICES), "v" + random.nextInt(VERTICES), 1 + random.nextInt(9));
+        }
+    }
+
+    /**
+     * Tests that traversals, paths and edge queries on the mapped graph match the
+     * heap graph.
+     */
+    @Test
+    void matchesDirectedGraph() throws IOException {
+        Path directory = Files.createTempDirectory("mapped");
+        try {
+            MappedGraph.write(graph, MappedGraph.STRING_LABELS, directory);
+            MappedGraph<String> mapped = MappedGraph.open(directory, MappedGraph.STRING_LABELS);
+
+            assertEquals(graph.getNumberOfVertices(), mapped.getNumberOfVertices());
+            assertEquals(graph.getNumberOfEdges(), mapped.getNumberOfEdges());
+            assertEquals(graph.getNumberOfEdges(), mapped.getEdgeCount());
+            assertEquals(-1, mapped.getVertexId("missing"));
+            assertEquals("v7", mapped.getLabel(mapped.getVertexId("v7")));
+            assertFalse(mapped.hasEdge("v0", "missing"));
+
+            for (int i = 0; i < 50; i++) {
+                String begin = "v" + random.nextInt(VERTICES);
+                String end = "v" + random.nextInt(VERTICES);
+                assertEquals(graph.hasEdge(begin, end), mapped.hasEdge(begin, end));
+                assertQueueEquals(graph.getBreadthFirstTraversal(begin), mapped.getBreadthFirstTraversal(begin));
+                assertQueueEquals(graph.getDepthFirstTraversal(begin), mapped.getDepthFirstTraversal(begin));
+                assertEquals(graph.getShortestPath(begin, end, new LinkedStack<>()),
+                        mapped.getShortestPath(begin, end, new LinkedStack<>()));
+
+                StackInterface<String> expectedPath = new LinkedStack<>();
+                StackInterface<String> path = new LinkedStack<>();
+                assertEquals(graph.getCheapestPath(begin, end, expectedPath), mapped.getCheapestPath(begin, end, path));
+                while (!expectedPath.isEmpty()) {
+                    assertEquals(expectedPath.pop(), path.pop());
+                }
+                assertTrue(path.isEmpty());
+            }
+            assertThrows(UnsupportedOperationException.class, () -> mapped.addVertex("new"));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Tests that unweighted graphs and integer labels round trip, and that a
+     * directory without a complete graph cannot be opened.
+     */
+    @Test
+    void openChecksFiles() throws IOException {
+        DirectedGraph<Integer> numbers = new DirectedGraph<>();
+        for (int v = 0; v < 10; v++) {
+            numbers.addVertex(v);
+        }
+        for (int v = 0; v < 10; v++) {
+            numbers.addEdge(v, (v + 1) % 10);
+        }
+        Path directory = Files.createTempDirectory("mapped");
+        try {
+            MappedGraph.write(numbers, MappedGraph.INTEGER_LABELS, directory);
+            assertFalse(Files.exists(directory.resolve("weights")));
+            MappedGraph<Integer> mapped = MappedGraph.open(directory, MappedGraph.INTEGER_LABELS);
+            assertEquals(9, mapped.getShortestPath(3, 2, new LinkedStack<>()));
+            assertEquals(0.0, mapped.getCheapestPath(3, 2, new LinkedStack<>()));
+
+            Files.write(directory.resolve("targets"), new byte[3]);
+            assertThrows(IOException.class, () -> MappedGraph.open(directory, MappedGraph.INTEGER_LABELS));
+            Files.delete(directory.resolve("header"));
+            assertThrows(IOException.class, () -> MappedGraph.open(directory, MappedGraph.INTEGER_LABELS));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static <T> void assertQueueEquals(QueueInterface<T> expected, QueueInterface<T> actual) {
+        while (!expected.isEmpty()) {
+            assertEquals(expected.dequeue(), actual.dequeue());
+        }
+        assertTrue(actual.isEmpty());
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+import GraphPackage.DirectedGraph;
+import GraphPackage.GraphBuilder;
+import GraphPackage.PageRank;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PageRank class, which scores the vertices of a directed graph.
+ */
+class PageRankTest {
+
+    /**
+     * Tests that every vertex of a directed cycle gets the same score.
+     */
+    @Test
+    void cycleIsUniform() {
+        DirectedGraph<String> graph = new DirectedGraph<>();
+        for (String label : new String[]{"A", "B", "C"}) {
+            graph.addVertex(label);
+        }
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.addEdge("C", "A");
+
+        PageRank.Result<String> result = new PageRank().compute(graph);
+        assertTrue(result.hasConverged());
+        for (String label : new String[]{"A", "B", "C"}) {
+            assertEquals(1.0 / 3, result.getScore(label), 1e-9);
+        }
+        assertEquals(0, result.getScore("missing"));
+    }
+
+    /**
+     * Tests a random graph with dangling vertices against a plain sequential power iteration.
+     */
+    @Test
+    void matchesSequentialPowerIteration() {
+        Random random = new Random(18);
+        int n = 500;
+        DirectedGraph<Integer> graph = new DirectedGraph<>();
+        List<List<Integer>> out = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            graph.addVertex(v);
+            out.add(new ArrayList<>());
+        }
+        for (int i = 0; i < 2000; i++) {
+            int u = random.nextInt(n - 50);  // The last 50 vertices have no out-edges
+            int v = (i % 2 == 0) ? random.nextInt(10) : random.nextInt(n);
+            if (graph.addEdge(u, v)) {
+                out.get(u).add(v);
+            }
+        }
+
+        double damping = 0.8;
+        double[] expected = new double[n];
+        java.util.Arrays.fill(expected, 1.0 / n);
+        for (int iteration = 0; iteration < 200; iteration++) {
+            double dangling = 0;
+            for (int u = 0; u < n; u++) {
+                if (out.get(u).isEmpty()) {
+                    dangling += expected[u];
+                }
+            }
+            double[] next = new double[n];
+            java.util.Arrays.fill(next, (1 - damping) / n + damping * dangling / n);
+            for (int u = 0; u < n; u++) {
+                for (int v : out.get(u)) {
+                    next[v] += damping * expected[u] / out.get(u).size();
+                }
+            }
+            expected = next;
+        }
+
+        PageRank.Result<Integer> result = new PageRank().setDamping(0.8).setTolerance(1e-12).compute(graph);
+        assertTrue(result.hasConverged());
+        double total = 0;
+        for (int v = 0; v < n; v++) {
+            assertEquals(expected[v], result.getScore(v), 1e-10);
+            total += result.getScore(v);
+        }
+        assertEquals(1.0, total, 1e-9);
+
+        double[] residuals = result.getResidualHistory();
+        assertEquals(result.getIterations(), residuals.length);
+        assertTrue(residuals[residuals.length - 1] < residuals[0]);
+
+        List<Integer> top = result.getTopRanked(5);
+        assertEquals(5, top.size());
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(result.getScore(top.get(i - 1)) >= result.getScore(top.get(i)));
+        }
+        for (int v = 0; v < n; v++) {
+            if (!top.contains(v)) {
+                assertTrue(result.getScore(v) <= result.getScore(top.get(4)));
+            }
+        }
+    }
+
+    /**
+     * Tests that vertices tied at the cutoff of the top ranking are taken in id order.
+     */
+    @Test
+    void topRankedBreaksTiesById() {
+        GraphBuilder<Integer> builder = new GraphBuilder<>();
+        for (int v = 0; v < 40; v++) {
+            builder.addVertex(v);  // Vertex ids follow the order vertices are added
+        }
+        builder.addEdge(30, 39);  // Every vertex but 39 gets the same score
+
+        PageRank.Result<Integer> result = new PageRank().compute(builder.buildCompressed());
+        assertEquals(List.of(39, 0, 1, 2, 3), result.getTopRanked(5));
+        assertEquals(40, result.getTopRanked(100).size());
+    }
+
+    /**
+     * Tests that the iteration limit stops an unconverged computation and bad settings are rejected.
+     */
+    @Test
+    void iterationLimit() {
+        DirectedGraph<String> graph = new DirectedGraph<>();
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addEdge("A", "B");
+
+        PageRank.Result<String> result = new PageRank().setMaxIterations(1).setTolerance(1e-15).compute(graph);
+        assertEquals(1, result.getIterations());
+        assertFalse(result.hasConverged());
+        assertThrows(IllegalArgumentException.class, () -> new PageRank().setDamping(1.0));
+        assertThrows(IllegalArgumentException.class, () -> new PageRank().setTolerance(0));
+    }
+}
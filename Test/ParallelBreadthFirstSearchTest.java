@@ -0,0 +1,105 @@
+import ADTPackage.QueueInterface;
+import GraphPackage.DirectedGraph;
+import GraphPackage.ParallelBreadthFirstSearch;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ParallelBreadthFirstSearch class. Levels are compared with a
+ * sequential breadth-first search with default, always bottom-up and reluctant switching.
+ */
+class ParallelBreadthFirstSearchTest {
+    private static final int VERTICES = 5000;
+
+    /**
+     * Tests that every mode reaches the same vertices at the same levels as a
+     * sequential search, and the same vertex set as getBreadthFirstTraversal.
+     */
+    @Test
+    void searchMatchesSequentialLevels() {
+        Random random = new Random(21);
+        DirectedGraph<Integer> graph = new DirectedGraph<>();
+        List<List<Integer>> adjacency = new ArrayList<>();
+        for (int vertex = 0; vertex < VERTICES; vertex++) {
+            graph.addVertex(vertex);
+            adjacency.add(new ArrayList<>());
+        }
+        for (int i = 0; i < 4 * VERTICES; i++) {
+            int begin = random.nextInt(VERTICES);
+            int end = (i % 5 == 0) ? random.nextInt(10) : random.nextInt(VERTICES);
+            if (graph.addEdge(begin, end)) {
+                adjacency.get(begin).add(end);
+            }
+        }
+        int[] expected = sequentialLevels(adjacency, 0);
+        Set<Integer> expectedReached = new HashSet<>();
+        QueueInterface<Integer> traversal = graph.getBreadthFirstTraversal(0);
+        while (!traversal.isEmpty()) {
+            expectedReached.add(traversal.dequeue());
+        }
+
+        ParallelBreadthFirstSearch[] searches = {
+                new ParallelBreadthFirstSearch(),
+                new ParallelBreadthFirstSearch().setAlpha(Integer.MAX_VALUE).setBeta(Integer.MAX_VALUE),
+                new ParallelBreadthFirstSearch().setAlpha(1).setBeta(1)
+        };
+        for (ParallelBreadthFirstSearch search : searches) {
+            ParallelBreadthFirstSearch.Result<Integer> result = search.search(graph, 0);
+            for (int vertex = 0; vertex < VERTICES; vertex++) {
+                assertEquals(expected[vertex], result.getLevel(vertex), "vertex " + vertex);
+            }
+            assertEquals(expectedReached.size(), result.getReachedCount());
+
+            QueueInterface<Integer> reached = result.getTraversal();
+            int previousLevel = 0;
+            while (!reached.isEmpty()) {
+                int vertex = reached.dequeue();
+                assertTrue(expectedReached.contains(vertex));
+                assertTrue(result.getLevel(vertex) >= previousLevel);  // Level order
+                previousLevel = result.getLevel(vertex);
+            }
+            assertEquals(previousLevel, result.getDepth());
+        }
+        assertTrue(searches[1].search(graph, 0).getBottomUpLevels() > 0);
+    }
+
+    /**
+     * Tests searching from a missing origin and rejecting bad settings.
+     */
+    @Test
+    void searchMissingOrigin() {
+        DirectedGraph<String> graph = new DirectedGraph<>();
+        graph.addVertex("A");
+        ParallelBreadthFirstSearch.Result<String> result = new ParallelBreadthFirstSearch().search(graph, "B");
+        assertEquals(0, result.getReachedCount());
+        assertEquals(-1, result.getLevel("A"));
+        assertEquals(-1, result.getDepth());
+        assertEquals(0, result.getLevelSizes().length);
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBreadthFirstSearch().setAlpha(0));
+    }
+
+    private static int[] sequentialLevels(List<List<Integer>> adjacency, int origin) {
+        int[] level = new int[adjacency.size()];
+        java.util.Arrays.fill(level, -1);
+        java.util.ArrayDeque<Integer> queue = new java.util.ArrayDeque<>();
+        level[origin] = 0;
+        queue.add(origin);
+        while (!queue.isEmpty()) {
+            int vertex = queue.poll();
+            for (int neighbor : adjacency.get(vertex)) {
+                if (level[neighbor] < 0) {
+                    level[neighbor] = level[vertex] + 1;
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return level;
+    }
+}
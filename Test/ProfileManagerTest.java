@@ -196,4 +196,279 @@ class ProfileManagerTest {
         profileManager.addProfile(profile);
         //assertDoesNotThrow(() -> profileManager.depthFirstTraversal(profile.getName()));
     }
+
+    /**
+     * Tests finding friends of friends with their mutual friend counts.
+     * Ensures that existing friends and the profile itself are excluded and results are ranked.
+     */
+    @org.junit.jupiter.api.Test
+    void getFriendsOfFriends() {
+        for (String name : new String[]{"A", "B", "C", "D", "E"}) {
+            profileManager.addProfile(new Profile(name, "Online", null, 30, "Female", "WA"));
+        }
+        profileManager.addFriend("A", "B");
+        profileManager.addFriend("A", "C");
+        profileManager.addFriend("B", "C");
+        profileManager.addFriend("B", "D");
+        profileManager.addFriend("C", "D");
+        profileManager.addFriend("C", "E");
+
+        java.util.List<FriendSuggestion> suggestions = profileManager.getFriendsOfFriends("A");
+        assertEquals(2, suggestions.size());
+        assertEquals("D", suggestions.get(0).getProfile().getName());
+        assertEquals(2, suggestions.get(0).getMutualFriendCount());
+        assertEquals("E", suggestions.get(1).getProfile().getName());
+        assertEquals(1, suggestions.get(1).getMutualFriendCount());
+        assertTrue(profileManager.getFriendsOfFriends("Nobody").isEmpty());
+    }
+
+    /**
+     * Tests the bounded top-K friend suggestions.
+     * Ensures that only the best-ranked candidates are returned, in rank order.
+     */
+    @org.junit.jupiter.api.Test
+    void getSuggestedFriends() {
+        profileManager.addProfile(new Profile("me", "Online", null, 30, "Female", "WA"));
+        for (int i = 0; i < 20; i++) {
+            profileManager.addProfile(new Profile("friend" + i, "Online", null, 30, "Female", "WA"));
+            profileManager.addProfile(new Profile("candidate" + i, "Online", null, 30, "Female", "WA"));
+            profileManager.addFriend("me", "friend" + i);
+        }
+        // candidate i shares i + 1 friends with "me"
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j <= i; j++) {
+                profileManager.addFriend("candidate" + i, "friend" + j);
+            }
+        }
+
+        java.util.List<FriendSuggestion> top = profileManager.getSuggestedFriends("me", 3);
+        assertEquals(3, top.size());
+        assertEquals("candidate19", top.get(0).getProfile().getName());
+        assertEquals("candidate18", top.get(1).getProfile().getName());
+        assertEquals("candidate17", top.get(2).getProfile().getName());
+        assertEquals(20, top.get(0).getMutualFriendCount());
+        assertEquals(20, profileManager.getSuggestedFriends("me", 50).size());
+        assertTrue(profileManager.getSuggestedFriends("me", 0).isEmpty());
+    }
+
+    /**
+     * Tests writing a snapshot and loading it into a new manager.
+     * Ensures that profile fields, including nulls, and friendships survive the round trip.
+     */
+    @org.junit.jupiter.api.Test
+    void saveAndLoadSnapshot() throws java.io.IOException {
+        profileManager.addProfile(new Profile("Carol Jiao", "Online", null, 35, "Female", "WA"));
+        profileManager.addProfile(new Profile("Zo\u00eb", "Away", "zoe.png", 30, null, "NY"));
+        profileManager.addProfile(new Profile("Lonely", "Busy", null, 40, "Male", "CA"));
+        profileManager.addFriend("Carol Jiao", "Zo\u00eb");
+
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("profiles", ".snapshot");
+        try {
+            profileManager.saveSnapshot(file);
+            ProfileManager loaded = new ProfileManager(new ADTPackage.HashedDictionary<>());
+            loaded.loadSnapshot(file);
+
+            assertEquals(3, loaded.getProfiles().size());
+            Profile zoe = loaded.getProfile("Zo\u00eb");
+            assertEquals("Away", zoe.getStatus());
+            assertEquals("zoe.png", zoe.getPicture());
+            assertEquals(30, zoe.getAge());
+            assertNull(zoe.getGender());
+            assertEquals("NY", zoe.getState());
+            assertTrue(zoe.isFriendsWith(loaded.getProfile("Carol Jiao")));
+            assertTrue(loaded.getProfile("Carol Jiao").isFriendsWith(zoe));
+            assertTrue(loaded.getProfile("Lonely").getFriends().isEmpty());
+            assertThrows(java.io.IOException.class, () -> loaded.loadSnapshot(file));
+
+            // A name clash, even with the last profile, leaves the manager unchanged
+            ProfileManager clashing = new ProfileManager(new ADTPackage.HashedDictionary<>());
+            clashing.addProfile(new Profile("Lonely", "Online", null, 41, "Male", "CA"));
+            assertThrows(java.io.IOException.class, () -> clashing.loadSnapshot(file));
+            assertEquals(1, clashing.getProfiles().size());
+
+            try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(file,
+                    java.nio.file.StandardOpenOption.WRITE)) {
+                channel.write(java.nio.ByteBuffer.allocate(Integer.BYTES).putInt(0, -1), 16);  // Profile count
+            }
+            ProfileManager corrupt = new ProfileManager(new ADTPackage.HashedDictionary<>());
+            assertThrows(java.io.IOException.class, () -> corrupt.loadSnapshot(file));
+            assertTrue(corrupt.getProfiles().isEmpty());
+        } finally {
+            java.nio.file.Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests recovering mutations from the write-ahead log after a crash.
+     * Ensures that synced mutations are replayed over the last snapshot and that a
+     * partly written record at the end of the log is ignored.
+     */
+    @org.junit.jupiter.api.Test
+    void recoverFromLog() throws java.io.IOException {
+        java.nio.file.Path directory = java.nio.file.Files.createTempDirectory("profiles");
+        java.nio.file.Path snapshot = directory.resolve("profiles.snapshot");
+        java.nio.file.Path logDirectory = directory.resolve("log");
+        try {
+            profileManager.openLog(logDirectory, 100, 10);
+            profileManager.addProfile(new Profile("A", "Online", null, 20, "Female", "WA"));
+            profileManager.addProfile(new Profile("B", "Online", null, 21, "Male", "WA"));
+            profileManager.addProfile(new Profile("C", "Online", null, 22, "Male", "WA"));
+            profileManager.addFriend("A", "B");
+            profileManager.compactLog(snapshot);
+            profileManager.addFriend("A", "C");
+            profileManager.removeFriend("A", "B");
+            profileManager.modifyProfileStatusAuto("C", "Away");
+            profileManager.deleteProfile("B");
+            profileManager.syncLog();
+
+            // Simulate a crash in the middle of writing the next record
+            try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.list(logDirectory)) {
+                java.nio.file.Path newest = files.sorted().reduce((first, second) -> second).get();
+                java.nio.file.Files.write(newest, new byte[] {0, 0, 0, 42, 1, 2},
+                        java.nio.file.StandardOpenOption.APPEND);
+            }
+
+            ProfileManager recovered = new ProfileManager(new ADTPackage.HashedDictionary<>());
+            recovered.loadSnapshot(snapshot);
+            recovered.openLog(logDirectory, 100, 10);
+            assertNull(recovered.getProfile("B"));
+            Profile a = recovered.getProfile("A");
+            Profile c = recovered.getProfile("C");
+            assertEquals(1, a.getFriends().size());
+            assertTrue(a.isFriendsWith(c));
+            assertEquals("Away", c.getStatus());
+            recovered.closeLog();
+        } finally {
+            profileManager.closeLog();
+            try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.walk(directory)) {
+                files.sorted(java.util.Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * Tests that friend changes that change nothing add no log records.
+     */
+    @org.junit.jupiter.api.Test
+    void noOpFriendChangesAreNotLogged() throws java.io.IOException {
+        java.nio.file.Path logDirectory = java.nio.file.Files.createTempDirectory("profiles");
+        try {
+            profileManager.openLog(logDirectory, 100, 10);
+            profileManager.addProfile(new Profile("A", "Online", null, 20, "Female", "WA"));
+            profileManager.addProfile(new Profile("B", "Online", null, 21, "Male", "WA"));
+            profileManager.addFriend("A", "B");
+            profileManager.syncLog();
+            long logged = logSize(logDirectory);
+
+            assertFalse(profileManager.addFriend("A", "B"));
+            assertFalse(profileManager.addFriend("B", "A"));
+            assertFalse(profileManager.addFriend("A", "A"));
+            profileManager.syncLog();
+            assertEquals(logged, logSize(logDirectory));
+            assertTrue(profileManager.removeFriend("A", "B"));
+            profileManager.syncLog();
+            long afterRemoval = logSize(logDirectory);
+            assertTrue(afterRemoval > logged);
+            assertFalse(profileManager.removeFriend("A", "B"));
+            profileManager.syncLog();
+            assertEquals(afterRemoval, logSize(logDirectory));
+        } finally {
+            profileManager.closeLog();
+            try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.walk(logDirectory)) {
+                files.sorted(java.util.Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    private static long logSize(java.nio.file.Path logDirectory) throws java.io.IOException {
+        try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.list(logDirectory)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    /**
+     * Tests friend network queries as friendships and profiles are added and removed.
+     */
+    @org.junit.jupiter.api.Test
+    void friendNetworks() {
+        for (String name : new String[]{"Ann", "Ben", "Cat", "Dan", "Eve"}) {
+            profileManager.addProfile(new Profile(name, "Online", null, 30, "Female", "WA"));
+        }
+        profileManager.addFriend("Ann", "Ben");
+        profileManager.addFriend("Ben", "Cat");
+        assertTrue(profileManager.inSameNetwork("Ann", "Cat"));
+        assertFalse(profileManager.inSameNetwork("Ann", "Dan"));
+        assertEquals(3, profileManager.getNumberOfNetworks());
+
+        profileManager.addFriend("Dan", "Eve");
+        profileManager.addProfile(new Profile("Fay", "Online", null, 30, "Female", "WA"));
+        assertEquals(2, profileManager.getNetworkSize("Eve"));
+        assertEquals(java.util.Map.of(1, 1, 2, 1, 3, 1), profileManager.getNetworkSizeDistribution());
+
+        profileManager.removeFriend("Ben", "Cat");
+        assertFalse(profileManager.inSameNetwork("Ann", "Cat"));
+        profileManager.addFriend("Cat", "Dan");
+        profileManager.deleteProfile("Dan");  // Eve and Cat only knew each other through Dan
+        assertFalse(profileManager.inSameNetwork("Cat", "Eve"));
+        assertEquals(4, profileManager.getNumberOfNetworks());
+        assertEquals(0, profileManager.getNetworkSize("Dan"));
+    }
+
+    /**
+     * Tests that the best-connected profile ranks as most influential.
+     */
+    @org.junit.jupiter.api.Test
+    void getMostInfluential() {
+        for (String name : new String[]{"Ann", "Ben", "Cat", "Dan", "Eve"}) {
+            profileManager.addProfile(new Profile(name, "Online", null, 30, "Female", "WA"));
+        }
+        profileManager.addFriend("Cat", "Ann");
+        profileManager.addFriend("Cat", "Ben");
+        profileManager.addFriend("Cat", "Dan");
+        profileManager.addFriend("Dan", "Eve");
+
+        java.util.List<Profile> ranked = profileManager.getMostInfluential(2);
+        assertEquals("Cat", ranked.get(0).getName());
+        assertEquals("Dan", ranked.get(1).getName());
+        assertTrue(profileManager.computeInfluence(new GraphPackage.PageRank()).hasConverged());
+    }
+
+    /**
+     * Tests per-profile triangle counts and clustering coefficients of a friend circle.
+     */
+    @org.junit.jupiter.api.Test
+    void countTriangles() {
+        for (String name : new String[]{"Ann", "Ben", "Cat", "Dan"}) {
+            profileManager.addProfile(new Profile(name, "Online", null, 30, "Female", "WA"));
+        }
+        profileManager.addFriend("Ann", "Ben");
+        profileManager.addFriend("Ben", "Cat");
+        profileManager.addFriend("Cat", "Ann");
+        profileManager.addFriend("Cat", "Dan");
+
+        GraphPackage.TriangleCounter.Result<Profile> triangles = profileManager.countTriangles();
+        assertEquals(1, triangles.getTriangleCount());
+        Profile cat = profileManager.getProfile("Cat");
+        assertEquals(1, triangles.getTriangles(cat));
+        assertEquals(1.0 / 3, triangles.getClusteringCoefficient(cat), 1e-12);
+        assertEquals(1.0, triangles.getClusteringCoefficient(profileManager.getProfile("Ann")));
+        assertEquals(0.0, triangles.getClusteringCoefficient(profileManager.getProfile("Dan")));
+    }
+
+    /**
+     * Tests counting profiles by degree of separation.
+     */
+    @org.junit.jupiter.api.Test
+    void getSeparationDistribution() {
+        for (String name : new String[]{"Ann", "Ben", "Cat", "Dan", "Eve"}) {
+            profileManager.addProfile(new Profile(name, "Online", null, 30, "Female", "WA"));
+        }
+        profileManager.addFriend("Ann", "Ben");
+        profileManager.addFriend("Ann", "Cat");
+        profileManager.addFriend("Cat", "Dan");
+
+        assertEquals(java.util.Map.of(0, 1, 1, 2, 2, 1), profileManager.getSeparationDistribution("Ann"));
+        assertEquals(java.util.Map.of(0, 1), profileManager.getSeparationDistribution("Eve"));
+        assertTrue(profileManager.getSeparationDistribution("Nobody").isEmpty());
+    }
 }
@@ -0,0 +1,103 @@
+import GraphPackage.TriangleCounter;
+import GraphPackage.UndirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TriangleCounter class, which counts triangles and clustering
+ * coefficients of an undirected graph. Counts are compared with a brute-force check
+ * of every vertex triple.
+ */
+class TriangleCounterTest {
+
+    /**
+     * Tests the counts of a small graph: two triangles sharing the edge B-C, plus a
+     * pendant vertex and a self-loop that must not count.
+     */
+    @Test
+    void countSharedEdge() {
+        UndirectedGraph<String> graph = new UndirectedGraph<>();
+        for (String label : new String[]{"A", "B", "C", "D", "E"}) {
+            graph.addVertex(label);
+        }
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge("B", "C");
+        graph.addEdge("B", "D");
+        graph.addEdge("C", "D");
+        graph.addEdge("D", "E");
+        graph.addEdge("E", "E");
+
+        TriangleCounter.Result<String> result = TriangleCounter.count(graph);
+        assertEquals(2, result.getTriangleCount());
+        assertEquals(1, result.getTriangles("A"));
+        assertEquals(2, result.getTriangles("B"));
+        assertEquals(1, result.getTriangles("D"));
+        assertEquals(0, result.getTriangles("E"));
+        assertEquals(0, result.getTriangles("missing"));
+        assertEquals(1.0, result.getClusteringCoefficient("A"));
+        assertEquals(2.0 / 3, result.getClusteringCoefficient("B"), 1e-12);
+        assertEquals(1.0 / 3, result.getClusteringCoefficient("D"), 1e-12);
+        assertEquals(0.0, result.getClusteringCoefficient("E"));
+        assertEquals((1 + 2.0 / 3 + 2.0 / 3 + 1.0 / 3) / 5, result.getAverageClusteringCoefficient(), 1e-12);
+    }
+
+    /**
+     * Tests a random graph with a few hubs, so both merging and galloping intersections
+     * run, against a brute-force count.
+     */
+    @Test
+    void countMatchesBruteForce() {
+        int n = 200;
+        Random random = new Random(19);
+        boolean[][] adjacent = new boolean[n][n];
+        UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+        for (int v = 0; v < n; v++) {
+            graph.addVertex(v);
+        }
+        for (int i = 0; i < 2500; i++) {
+            int u = random.nextInt(n);
+            int v = (i % 2 == 0) ? random.nextInt(4) : random.nextInt(n);  // Vertices 0-3 are hubs
+            if (u != v) {
+                graph.addEdge(u, v);
+                adjacent[u][v] = true;
+                adjacent[v][u] = true;
+            }
+        }
+
+        TriangleCounter.Result<Integer> result = TriangleCounter.count(graph);
+        long total = 0;
+        for (int v = 0; v < n; v++) {
+            long triangles = 0;
+            int degree = 0;
+            for (int a = 0; a < n; a++) {
+                if (adjacent[v][a]) {
+                    degree++;
+                    for (int b = a + 1; b < n; b++) {
+                        if (adjacent[v][b] && adjacent[a][b]) {
+                            triangles++;
+                        }
+                    }
+                }
+            }
+            total += triangles;
+            assertEquals(triangles, result.getTriangles(v), "vertex " + v);
+            double expected = (degree < 2) ? 0 : 2.0 * triangles / ((long) degree * (degree - 1));
+            assertEquals(expected, result.getClusteringCoefficient(v), 1e-12);
+        }
+        assertEquals(total / 3, result.getTriangleCount());
+    }
+
+    /**
+     * Tests that an empty graph has no triangles.
+     */
+    @Test
+    void countEmpty() {
+        TriangleCounter.Result<String> result = TriangleCounter.count(new UndirectedGraph<>());
+        assertEquals(0, result.getTriangleCount());
+        assertEquals(0.0, result.getAverageClusteringCoefficient());
+    }
+}
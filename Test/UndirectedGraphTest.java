@@ -5,6 +5,9 @@ import ADTPackage.QueueInterface;
 import GraphPackage.UndirectedGraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -77,6 +80,67 @@ class UndirectedGraphTest {
         assertEquals(1, pathLength);  // Path length should be 1 (A -> B -> C)
     }
 
+    /**
+     * Tests that the bidirectional search used by getShortestPath returns the full path in order.
+     */
+    @Test
+    void getShortestPathReturnsPath() {
+        for (String label : new String[]{"A", "B", "C", "D", "E", "F"}) {
+            graph.addVertex(label);
+        }
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.addEdge("C", "D");
+        graph.addEdge("D", "E");
+        graph.addEdge("A", "F");
+        graph.addEdge("F", "E");
+
+        StackInterface<String> path = new LinkedStack<>();
+        assertEquals(2, graph.getShortestPath("A", "E", path));
+        assertEquals("A", path.pop());
+        assertEquals("F", path.pop());
+        assertEquals("E", path.pop());
+        assertTrue(path.isEmpty());
+        assertEquals(-1, graph.getShortestPath("A", "Z", new LinkedStack<>()));
+    }
+
+    /**
+     * Tests that the bidirectional search finds paths of the same length as a single-ended search
+     * on random graphs, including disconnected pairs.
+     */
+    @Test
+    void getShortestPathMatchesSingleEndedSearch() {
+        Random random = new Random(7);
+        int vertexCount = 200;
+        for (int i = 0; i < vertexCount; i++) {
+            graph.addVertex("v" + i);
+        }
+        for (int i = 0; i < 300; i++) {
+            graph.addEdge("v" + random.nextInt(vertexCount), "v" + random.nextInt(vertexCount));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            String begin = "v" + random.nextInt(vertexCount);
+            String end = "v" + random.nextInt(vertexCount);
+            StackInterface<String> path = new LinkedStack<>();
+            int expected = graph.freeze().getShortestPath(begin, end, new LinkedStack<>());  // Single-ended BFS
+            int length = graph.getShortestPath(begin, end, path);
+
+            assertEquals(expected, length);
+            if (length >= 0) {
+                assertEquals(length + 1, path.getSize());
+                String previous = path.pop();
+                assertEquals(begin, previous);
+                while (!path.isEmpty()) {
+                    String next = path.pop();
+                    assertTrue(graph.hasEdge(previous, next));
+                    previous = next;
+                }
+                assertEquals(end, previous);
+            }
+        }
+    }
+
     /**
      * Tests the getBreadthFirstTraversal method of the UndirectedGraph class.
      * Ensures that a breadth-first traversal returns the correct order of vertices.
@@ -141,4 +205,35 @@ class UndirectedGraphTest {
         });
         assertEquals("Topological sort is not allowed in an undirected graph.", exception.getMessage());
     }
+
+    /**
+     * Tests connected components as edges and vertices are added and removed.
+     * Ensures that components split after a removal and merge after a new edge.
+     */
+    @Test
+    void connectedComponents() {
+        for (String label : new String[]{"A", "B", "C", "D", "E"}) {
+            graph.addVertex(label);
+        }
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        assertTrue(graph.inSameComponent("A", "C"));
+        assertEquals(3, graph.getNumberOfComponents());
+        assertArrayEquals(new int[]{3, 1, 1}, graph.getComponentSizes());
+
+        graph.addEdge("D", "E");  // Tracked incrementally once components are built
+        graph.addVertex("F");
+        assertTrue(graph.inSameComponent("E", "D"));
+        assertEquals(3, graph.getNumberOfComponents());
+
+        graph.removeVertex("B");  // Splits A from C
+        assertFalse(graph.inSameComponent("A", "C"));
+        assertEquals(2, graph.getComponentSize("D"));
+        assertArrayEquals(new int[]{2, 1, 1, 1}, graph.getComponentSizes());
+
+        graph.addEdge("C", "A");
+        assertTrue(graph.inSameComponent("A", "C"));
+        assertFalse(graph.inSameComponent("A", "missing"));
+        assertEquals(0, graph.getComponentSize("missing"));
+    }
 }
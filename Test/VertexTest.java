@@ -87,6 +87,65 @@ class VertexTest {
         assertEquals(1, vertex1.getNeighborCount());  // Should have one neighbor
     }
 
+    /**
+     * Tests the indexed edge accessors and forEachNeighbor of the Vertex class.
+     * Ensures that weights stay paired with their end vertices after an edge is removed.
+     */
+    @org.junit.jupiter.api.Test
+    void getWeightAfterDisconnect() {
+        Vertex<String> vertex1 = new Vertex<>("A", 0);
+        Vertex<String> vertex2 = new Vertex<>("B", 1);
+        Vertex<String> vertex3 = new Vertex<>("C", 2);
+        Vertex<String> vertex4 = new Vertex<>("D", 3);
+        vertex1.connect(vertex2, 1.5);
+        vertex1.connect(vertex3, 2.5);
+        vertex1.connect(vertex4, 3.5);
+        vertex1.disconnect(vertex2);
+
+        assertEquals(vertex3, vertex1.getNeighbor(0));
+        assertEquals(2.5, vertex1.getWeight(0));
+        assertEquals(vertex4, vertex1.getNeighbor(1));
+        assertEquals(3.5, vertex1.getWeight(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vertex1.getWeight(2));
+
+        StringBuilder edges = new StringBuilder();
+        vertex1.forEachNeighbor((neighborId, weight) -> edges.append(neighborId).append(':').append(weight).append(' '));
+        assertEquals("2:2.5 3:3.5 ", edges.toString());
+    }
+
+    /**
+     * Tests connect, hasEdge and disconnect across the switch to the hashed neighbor index.
+     * Ensures that a vertex agrees with a reference set through random edge changes, edges in the order they were added.
+     */
+    @org.junit.jupiter.api.Test
+    void hasEdgeWithNeighborIndex() {
+        java.util.Random random = new java.util.Random(15);
+        java.util.List<Vertex<Integer>> others = new java.util.ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            others.add(new Vertex<>(i, i));
+        }
+        for (int threshold : new int[] {0, 8, Integer.MAX_VALUE}) {
+            Vertex<Integer> vertex = new Vertex<>(-1, 300, threshold);
+            java.util.Set<Vertex<Integer>> expected = new java.util.LinkedHashSet<>();  // Keeps insertion order
+            for (int step = 0; step < 5000; step++) {
+                Vertex<Integer> other = others.get(random.nextInt(others.size()));
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(other), vertex.disconnect(other));
+                } else {
+                    assertEquals(expected.add(other), vertex.connect(other, other.getId()));
+                }
+                assertEquals(expected.contains(other), vertex.hasEdge(other));
+            }
+            assertEquals(expected.size(), vertex.getNeighborCount());
+            java.util.Iterator<Vertex<Integer>> inOrder = expected.iterator();
+            for (int i = 0; i < vertex.getNeighborCount(); i++) {
+                assertEquals(inOrder.next(), vertex.getNeighbor(i));
+                assertEquals(vertex.getNeighbor(i).getId(), vertex.getWeight(i));  // Weights stay with their edges
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new Vertex<>("A", 0, -1));
+    }
+
     /**
      * Tests the getUnvisitedNeighbor method of the Vertex class.
      * Ensures that the correct unvisited neighbor is returned.
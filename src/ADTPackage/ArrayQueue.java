@@ -0,0 +1,184 @@
+package ADTPackage;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A circular array-based implementation of a queue. Entries live in a power-of-two
+ * sized array between a front and a back index that wrap around, and the array
+ * doubles when it fills up, so enqueue and dequeue run in amortized O(1) time
+ * without allocating a node per entry.
+ *
+ * @param <T> The type of elements stored in the queue.
+ */
+public class ArrayQueue<T> implements QueueInterface<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private T[] queue;      // Circular array of entries
+    private int frontIndex; // Index of the front entry
+    private int size;
+    private int modCount;   // Bumped on every change for fail-fast iterators
+
+    /**
+     * Constructs an empty queue with the default capacity.
+     */
+    public ArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty queue that holds the given number of entries without growing.
+     *
+     * @param initialCapacity The number of entries the queue is expected to hold.
+     * @throws IllegalArgumentException if the capacity is negative or too large.
+     */
+    public ArrayQueue(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid queue capacity: " + initialCapacity);
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < initialCapacity) {
+            capacity *= 2;
+        }
+        @SuppressWarnings("unchecked")
+        T[] tempQueue = (T[]) new Object[capacity];
+        queue = tempQueue;
+        frontIndex = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds a new entry to the back of the queue.
+     *
+     * @param newEntry The element to be added to the queue.
+     */
+    @Override
+    public void enqueue(T newEntry) {
+        if (size == queue.length) {
+            grow();
+        }
+        queue[(frontIndex + size) & (queue.length - 1)] = newEntry;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns the front entry of the queue.
+     *
+     * @return The front entry of the queue, or null if the queue is empty.
+     */
+    @Override
+    public T dequeue() {
+        if (size == 0) {
+            return null;
+        }
+        T front = queue[frontIndex];
+        queue[frontIndex] = null; // Let the entry be garbage collected
+        frontIndex = (frontIndex + 1) & (queue.length - 1);
+        size--;
+        modCount++;
+        return front;
+    }
+
+    /**
+     * Retrieves the front entry without removing it.
+     *
+     * @return The front entry of the queue, or null if the queue is empty.
+     */
+    @Override
+    public T getFront() {
+        return (size == 0) ? null : queue[frontIndex];
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears all entries from the queue, keeping its capacity.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            queue[(frontIndex + i) & (queue.length - 1)] = null;
+        }
+        frontIndex = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator that visits the entries from front to back.
+     *
+     * @return An iterator for the queue.
+     * @throws ConcurrentModificationException from the iterator if the queue
+     *         is modified after the iterator was created.
+     */
+    @Override
+    public Iterator<T> getIterator() {
+        return new Iterator<T>() {
+            private final int expectedModCount = modCount;
+            private int offset = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return offset < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return queue[(frontIndex + offset++) & (queue.length - 1)];
+            }
+        };
+    }
+
+    /**
+     * Returns the number of elements currently in the queue.
+     *
+     * @return The size of the queue.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator for the queue, equivalent to {@link #getIterator()}.
+     *
+     * @return An iterator for the queue.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return getIterator();
+    }
+
+    /**
+     * Doubles the array, moving the entries so the front entry is at index 0.
+     */
+    private void grow() {
+        if (queue.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("Maximum queue capacity exceeded.");
+        }
+        @SuppressWarnings("unchecked")
+        T[] larger = (T[]) new Object[2 * queue.length];
+        int firstPart = queue.length - frontIndex;
+        System.arraycopy(queue, frontIndex, larger, 0, firstPart);
+        System.arraycopy(queue, 0, larger, firstPart, frontIndex);
+        queue = larger;
+        frontIndex = 0;
+    }
+}
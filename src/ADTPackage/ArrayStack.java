@@ -0,0 +1,121 @@
+package ADTPackage;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * A class that implements a stack using a resizable array. The array doubles
+ * when it fills up, so push and pop run in amortized O(1) time without
+ * allocating a node per entry.
+ *
+ * @param <T> The type of elements stored in the stack.
+ */
+public final class ArrayStack<T> implements StackInterface<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private T[] stack;    // Entries, with the bottom entry at index 0
+    private int topIndex; // Index of the top entry, -1 when empty
+
+    /**
+     * Initializes an empty stack with the default capacity.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Initializes an empty stack that holds the given number of entries without growing.
+     *
+     * @param initialCapacity The number of entries the stack is expected to hold.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public ArrayStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Stack capacity cannot be negative.");
+        }
+        @SuppressWarnings("unchecked")
+        T[] tempStack = (T[]) new Object[Math.max(initialCapacity, 1)];
+        stack = tempStack;
+        topIndex = -1;
+    }
+
+    /**
+     * Adds a new entry to the top of this stack.
+     *
+     * @param newEntry The object to be added to the stack.
+     */
+    @Override
+    public void push(T newEntry) {
+        if (topIndex == stack.length - 1) {
+            stack = Arrays.copyOf(stack, grownCapacity(stack.length));
+        }
+        stack[++topIndex] = newEntry;
+    }
+
+    /**
+     * Removes and returns this stack's top entry.
+     *
+     * @return The object at the top of the stack.
+     * @throws EmptyStackException If the stack is empty.
+     */
+    @Override
+    public T pop() {
+        T top = peek();  // Might throw EmptyStackException
+        stack[topIndex--] = null; // Let the entry be garbage collected
+        return top;
+    }
+
+    /**
+     * Retrieves this stack's top entry without removing it.
+     *
+     * @return The object at the top of the stack.
+     * @throws EmptyStackException If the stack is empty.
+     */
+    @Override
+    public T peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return stack[topIndex];
+    }
+
+    /**
+     * Checks whether this stack is empty.
+     *
+     * @return True if the stack is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return topIndex < 0;
+    }
+
+    /**
+     * Removes all entries from this stack, keeping its capacity.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(stack, 0, topIndex + 1, null);
+        topIndex = -1;
+    }
+
+    /**
+     * Returns the number of entries currently in the stack.
+     *
+     * @return The size of the stack.
+     */
+    @Override
+    public int getSize() {
+        return topIndex + 1;
+    }
+
+    /**
+     * Returns the capacity to grow a full array of the given length to.
+     */
+    static int grownCapacity(int length) {
+        if (length >= MAX_CAPACITY) {
+            throw new IllegalStateException("Maximum stack capacity exceeded.");
+        }
+        return (int) Math.min(2L * length, MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,177 @@
+package ADTPackage;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe implementation of the DictionaryInterface backed by a
+ * {@link ConcurrentHashMap}. Lookups never block, and updates to different keys
+ * proceed in parallel. Iterators are weakly consistent: they never throw
+ * {@link java.util.ConcurrentModificationException} and reflect some state of
+ * the dictionary at or after the moment they were created.
+ *
+ * @param <K> The type of keys in the dictionary.
+ * @param <V> The type of values in the dictionary.
+ */
+public class ConcurrentHashDictionary<K, V> implements DictionaryInterface<K, V> {
+    private final ConcurrentHashMap<K, V> map;
+
+    /**
+     * Creates an empty dictionary.
+     */
+    public ConcurrentHashDictionary() {
+        map = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates an empty dictionary that can hold the given number of entries without resizing.
+     *
+     * @param expectedSize The number of entries the dictionary is expected to hold.
+     */
+    public ConcurrentHashDictionary(int expectedSize) {
+        map = new ConcurrentHashMap<>(expectedSize);
+    }
+
+    /**
+     * Adds a new key-value pair to the dictionary or updates the value for an existing key.
+     *
+     * @param key   The key to add or update.
+     * @param value The value associated with the key.
+     * @return The old value associated with the key, or null if the key was not previously in the dictionary.
+     * @throws IllegalArgumentException if either the key or the value is null.
+     */
+    @Override
+    public V add(K key, V value) {
+        if ((key == null) || (value == null)) {
+            throw new IllegalArgumentException("Cannot add null to a dictionary.");
+        }
+        return map.put(key, value);
+    }
+
+    /**
+     * Atomically adds a key-value pair only if the key is not already in the dictionary.
+     *
+     * @param key   The key to add.
+     * @param value The value associated with the key.
+     * @return Null if the entry was added, or the value already associated with the key.
+     * @throws IllegalArgumentException if either the key or the value is null.
+     */
+    public V addIfAbsent(K key, V value) {
+        if ((key == null) || (value == null)) {
+            throw new IllegalArgumentException("Cannot add null to a dictionary.");
+        }
+        return map.putIfAbsent(key, value);
+    }
+
+    /**
+     * Atomically adds the value computed for a key only if the key is not already in
+     * the dictionary. The function runs at most once, and only when the entry is added,
+     * so it can prepare the value for storing; other updates of the key wait for it.
+     *
+     * @param key           The key to add.
+     * @param valueFunction Computes the value to associate with the key.
+     * @return Null if the entry was added, or the value already associated with the key.
+     * @throws IllegalArgumentException if the key or the computed value is null.
+     */
+    public V addComputedIfAbsent(K key, Function<? super K, ? extends V> valueFunction) {
+        if (key == null) {
+            throw new IllegalArgumentException("Cannot add null to a dictionary.");
+        }
+        boolean[] added = new boolean[1];
+        V value = map.computeIfAbsent(key, absentKey -> {
+            V computed = valueFunction.apply(absentKey);
+            if (computed == null) {
+                throw new IllegalArgumentException("Cannot add null to a dictionary.");
+            }
+            added[0] = true;
+            return computed;
+        });
+        return added[0] ? null : value;
+    }
+
+    /**
+     * Removes a specific entry from the dictionary by its key.
+     *
+     * @param key The key of the entry to remove.
+     * @return The value associated with the removed key, or null if the key was not found.
+     * @throws IllegalArgumentException if the key is null.
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Cannot remove null key from the dictionary.");
+        }
+        return map.remove(key);
+    }
+
+    /**
+     * Retrieves the value associated with a specific key.
+     *
+     * @param key The key whose value is to be retrieved.
+     * @return The value associated with the key, or null if the key is not found.
+     */
+    @Override
+    public V getValue(K key) {
+        return (key == null) ? null : map.get(key);
+    }
+
+    /**
+     * Checks if the dictionary contains a specific key.
+     *
+     * @param key The key to check for existence in the dictionary.
+     * @return true if the dictionary contains the key, false otherwise.
+     */
+    @Override
+    public boolean contains(K key) {
+        return getValue(key) != null;
+    }
+
+    /**
+     * Returns a weakly consistent iterator for the keys in the dictionary.
+     *
+     * @return An iterator for the keys in the dictionary.
+     */
+    @Override
+    public Iterator<K> getKeyIterator() {
+        return map.keySet().iterator();
+    }
+
+    /**
+     * Returns a weakly consistent iterator for the values in the dictionary.
+     *
+     * @return An iterator for the values in the dictionary.
+     */
+    @Override
+    public Iterator<V> getValueIterator() {
+        return map.values().iterator();
+    }
+
+    /**
+     * Checks if the dictionary is empty.
+     *
+     * @return true if the dictionary is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * Returns the number of key-value pairs in the dictionary.
+     *
+     * @return The size of the dictionary.
+     */
+    @Override
+    public int getSize() {
+        return map.size();
+    }
+
+    /**
+     * Clears the dictionary, removing all key-value pairs.
+     */
+    @Override
+    public void clear() {
+        map.clear();
+    }
+}
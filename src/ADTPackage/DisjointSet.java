@@ -0,0 +1,151 @@
+package ADTPackage;
+
+import java.util.Arrays;
+
+/**
+ * A disjoint-set (union-find) forest over the elements {@code 0 .. getSize() - 1},
+ * such as vertex or profile ids. Unions link the root of lower rank below the root of
+ * higher rank, and finds halve the paths they walk, so any sequence of operations
+ * takes nearly constant amortized time per operation.
+ *
+ * <p>Finds only ever point an element at one of its ancestors, so concurrent finds
+ * are safe with each other; unions and growth need exclusive access.
+ */
+public final class DisjointSet {
+    private int[] parent;  // Parent of each element, the element itself for roots
+    private byte[] rank;   // Upper bound on the height of each root's tree
+    private int[] setSize; // Number of elements in each root's set
+    private int size;
+    private int setCount;
+
+    /**
+     * Creates a disjoint set of the given number of singleton sets.
+     *
+     * @param size The number of elements.
+     * @throws IllegalArgumentException if the size is negative.
+     */
+    public DisjointSet(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative.");
+        }
+        parent = new int[Math.max(size, 1)];
+        rank = new byte[parent.length];
+        setSize = new int[parent.length];
+        grow(size);
+    }
+
+    /**
+     * Adds singleton sets until this disjoint set has the given number of elements.
+     *
+     * @param newSize The number of elements wanted; smaller sizes are ignored.
+     */
+    public void grow(int newSize) {
+        if (newSize <= size) {
+            return;
+        }
+        if (newSize > parent.length) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(newSize, 2L * parent.length));
+            parent = Arrays.copyOf(parent, capacity);
+            rank = Arrays.copyOf(rank, capacity);
+            setSize = Arrays.copyOf(setSize, capacity);
+        }
+        for (int element = size; element < newSize; element++) {
+            parent[element] = element;
+            setSize[element] = 1;
+        }
+        setCount += newSize - size;
+        size = newSize;
+    }
+
+    /**
+     * Returns the representative of the set holding an element.
+     *
+     * @param element The element.
+     * @return The root of the element's set; two elements are in the same set exactly
+     *         when they have the same root.
+     * @throws IndexOutOfBoundsException if the element is out of range.
+     */
+    public int find(int element) {
+        checkElement(element);
+        while (parent[element] != element) {
+            parent[element] = parent[parent[element]];  // Path halving
+            element = parent[element];
+        }
+        return element;
+    }
+
+    /**
+     * Merges the sets holding two elements.
+     *
+     * @param element1 An element of the first set.
+     * @param element2 An element of the second set.
+     * @return {@code true} if the sets were merged, {@code false} if the elements were already in one set.
+     * @throws IndexOutOfBoundsException if either element is out of range.
+     */
+    public boolean union(int element1, int element2) {
+        int root1 = find(element1);
+        int root2 = find(element2);
+        if (root1 == root2) {
+            return false;
+        }
+        if (rank[root1] < rank[root2]) {
+            int swap = root1;
+            root1 = root2;
+            root2 = swap;
+        }
+        parent[root2] = root1;
+        setSize[root1] += setSize[root2];
+        if (rank[root1] == rank[root2]) {
+            rank[root1]++;
+        }
+        setCount--;
+        return true;
+    }
+
+    /**
+     * Checks if two elements are in the same set.
+     *
+     * @param element1 The first element.
+     * @param element2 The second element.
+     * @return {@code true} if the elements are in the same set.
+     * @throws IndexOutOfBoundsException if either element is out of range.
+     */
+    public boolean connected(int element1, int element2) {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Returns the number of elements in the set holding an element.
+     *
+     * @param element The element.
+     * @return The size of the element's set.
+     * @throws IndexOutOfBoundsException if the element is out of range.
+     */
+    public int getSetSize(int element) {
+        return setSize[find(element)];
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return The number of elements.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of disjoint sets.
+     *
+     * @return The number of sets.
+     */
+    public int getSetCount() {
+        return setCount;
+    }
+
+    private void checkElement(int element) {
+        if (element < 0 || element >= size) {
+            throw new IndexOutOfBoundsException("Element " + element + " out of range for " + size + " elements.");
+        }
+    }
+}
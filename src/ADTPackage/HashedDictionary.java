@@ -0,0 +1,375 @@
+package ADTPackage;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hashed implementation of the DictionaryInterface that uses open addressing
+ * with linear probing. Removed entries leave a tombstone behind so that probe
+ * sequences stay intact, and the table is rehashed when it becomes too full.
+ *
+ * @param <K> The type of keys in the dictionary.
+ * @param <V> The type of values in the dictionary.
+ */
+public class HashedDictionary<K, V> implements DictionaryInterface<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final double MAX_LOAD_FACTOR = 0.5;
+    private static final Object TOMBSTONE = new Object(); // Marks a removed entry
+
+    private Object[] keys;      // Search keys, null for never-used slots
+    private V[] values;         // Values parallel to keys
+    private int numberOfEntries;
+    private int numberOfTombstones;
+    private int modCount;       // Bumped on every structural change for fail-fast iterators
+
+    /**
+     * Creates an empty dictionary with the default capacity.
+     */
+    public HashedDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty dictionary that can hold the given number of entries
+     * without rehashing.
+     *
+     * @param expectedSize The number of entries the dictionary is expected to hold.
+     * @throws IllegalArgumentException if the expected size is negative.
+     */
+    public HashedDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative.");
+        }
+        initializeDataFields(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Initializes the data fields of the dictionary.
+     */
+    private void initializeDataFields(int capacity) {
+        keys = new Object[capacity];
+        @SuppressWarnings("unchecked")
+        V[] tempValues = (V[]) new Object[capacity];
+        values = tempValues;
+        numberOfEntries = 0;
+        numberOfTombstones = 0;
+    }
+
+    /**
+     * Adds a new key-value pair to the dictionary or updates the value for an existing key.
+     *
+     * @param key   The key to add or update.
+     * @param value The value associated with the key.
+     * @return The old value associated with the key, or null if the key was not previously in the dictionary.
+     * @throws IllegalArgumentException if either the key or the value is null.
+     */
+    @Override
+    public V add(K key, V value) {
+        if ((key == null) || (value == null)) {
+            throw new IllegalArgumentException("Cannot add null to a dictionary.");
+        }
+
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        int firstTombstone = -1;
+
+        // Probe until the key or a never-used slot is found
+        while (keys[index] != null) {
+            if (keys[index] == TOMBSTONE) {
+                if (firstTombstone < 0) {
+                    firstTombstone = index;
+                }
+            } else if (key.equals(keys[index])) {
+                V oldValue = values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // Reuse the first tombstone on the probe path if there was one
+        if (firstTombstone >= 0) {
+            index = firstTombstone;
+            numberOfTombstones--;
+        }
+        keys[index] = key;
+        values[index] = value;
+        numberOfEntries++;
+        modCount++;
+
+        if (numberOfEntries + numberOfTombstones > keys.length * MAX_LOAD_FACTOR) {
+            rehash();
+        }
+        return null;
+    }
+
+    /**
+     * Removes a specific entry from the dictionary by its key.
+     *
+     * @param key The key of the entry to remove.
+     * @return The value associated with the removed key, or null if the key was not found.
+     * @throws IllegalArgumentException if the key is null.
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Cannot remove null key from the dictionary.");
+        }
+
+        int index = locate(key);
+        if (index < 0) {
+            return null; // Return null when key is not found
+        }
+
+        V removedValue = values[index];
+        keys[index] = TOMBSTONE;
+        values[index] = null;
+        numberOfEntries--;
+        numberOfTombstones++;
+        modCount++;
+        return removedValue;
+    }
+
+    /**
+     * Retrieves the value associated with a specific key.
+     *
+     * @param key The key whose value is to be retrieved.
+     * @return The value associated with the key, or null if the key is not found.
+     */
+    @Override
+    public V getValue(K key) {
+        if (key == null) {
+            return null;
+        }
+        int index = locate(key);
+        return (index >= 0) ? values[index] : null;
+    }
+
+    /**
+     * Checks if the dictionary contains a specific key.
+     *
+     * @param key The key to check for existence in the dictionary.
+     * @return true if the dictionary contains the key, false otherwise.
+     */
+    @Override
+    public boolean contains(K key) {
+        return getValue(key) != null;
+    }
+
+    /**
+     * Checks if the dictionary is empty.
+     *
+     * @return true if the dictionary is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return numberOfEntries == 0;
+    }
+
+    /**
+     * Returns the number of key-value pairs in the dictionary.
+     *
+     * @return The size of the dictionary.
+     */
+    @Override
+    public int getSize() {
+        return numberOfEntries;
+    }
+
+    /**
+     * Clears the dictionary, removing all key-value pairs.
+     */
+    @Override
+    public void clear() {
+        initializeDataFields(DEFAULT_CAPACITY);
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator for the keys in the dictionary.
+     *
+     * @return An iterator for the keys in the dictionary.
+     * @throws ConcurrentModificationException from the iterator if the dictionary
+     *         is structurally modified after the iterator was created.
+     */
+    @Override
+    public Iterator<K> getKeyIterator() {
+        return new KeyIterator();
+    }
+
+    /**
+     * Returns an iterator for the values in the dictionary.
+     *
+     * @return An iterator for the values in the dictionary.
+     * @throws ConcurrentModificationException from the iterator if the dictionary
+     *         is structurally modified after the iterator was created.
+     */
+    @Override
+    public Iterator<V> getValueIterator() {
+        return new ValueIterator();
+    }
+
+    /**
+     * Finds the slot holding the given key.
+     *
+     * @param key The key to search for.
+     * @return The index of the slot, or -1 if the key is not in the dictionary.
+     */
+    private int locate(K key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+
+        while (keys[index] != null) {
+            if (keys[index] != TOMBSTONE && key.equals(keys[index])) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Rebuilds the table, dropping tombstones and doubling the capacity when
+     * the live entries alone would exceed the load factor.
+     */
+    private void rehash() {
+        Object[] oldKeys = keys;
+        V[] oldValues = values;
+
+        int newCapacity = oldKeys.length;
+        if (numberOfEntries >= newCapacity * MAX_LOAD_FACTOR / 2) {
+            if (newCapacity >= MAX_CAPACITY) {
+                throw new IllegalStateException("Maximum dictionary capacity exceeded.");
+            }
+            newCapacity *= 2;
+        }
+        initializeDataFields(newCapacity);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null && key != TOMBSTONE) {
+                int index = hash(key) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+                numberOfEntries++;
+            }
+        }
+    }
+
+    /**
+     * Spreads the higher bits of the key's hash code into the lower bits, since
+     * the table index only uses the lower bits.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the power-of-two table size needed to hold the given number of
+     * entries under the maximum load factor.
+     */
+    private static int tableSizeFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / MAX_LOAD_FACTOR) + 1;
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < needed) {
+            if (capacity >= MAX_CAPACITY) {
+                throw new IllegalArgumentException("Expected size is too large.");
+            }
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    /**
+     * Base iterator that walks the occupied slots of the table and fails fast
+     * when the dictionary is modified during iteration.
+     */
+    private abstract class TableIterator {
+        private final Object[] table = keys;
+        private final int expectedModCount = modCount;
+        private int nextIndex = advance(0);
+
+        /**
+         * Returns the index of the first occupied slot at or after the given index.
+         */
+        private int advance(int index) {
+            while (index < table.length && (table[index] == null || table[index] == TOMBSTONE)) {
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * Checks if there are more entries to iterate over.
+         *
+         * @return true if there are more entries, false otherwise.
+         */
+        public boolean hasNext() {
+            checkForComodification();
+            return nextIndex < table.length;
+        }
+
+        /**
+         * Moves past the next occupied slot.
+         *
+         * @return The index of the slot that was passed.
+         * @throws NoSuchElementException if no more entries are available.
+         */
+        int nextSlot() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int slot = nextIndex;
+            nextIndex = advance(nextIndex + 1);
+            return slot;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Key iterator for traversing keys in the dictionary.
+     */
+    private class KeyIterator extends TableIterator implements Iterator<K> {
+
+        /**
+         * Returns the next key in the iteration.
+         *
+         * @return The next key in the iteration.
+         * @throws NoSuchElementException if no more keys are available.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public K next() {
+            return (K) keys[nextSlot()];
+        }
+    }
+
+    /**
+     * Value iterator for traversing values in the dictionary.
+     */
+    private class ValueIterator extends TableIterator implements Iterator<V> {
+
+        /**
+         * Returns the next value in the iteration.
+         *
+         * @return The next value in the iteration.
+         * @throws NoSuchElementException if no more values are available.
+         */
+        @Override
+        public V next() {
+            return values[nextSlot()];
+        }
+    }
+}
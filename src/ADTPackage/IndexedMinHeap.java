@@ -0,0 +1,249 @@
+package ADTPackage;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary min-heap of integer ids ordered by a {@code double} key. The heap keeps
+ * the position of every id it holds, so the key of an id already in the heap can be
+ * lowered in O(log n) time with {@link #decreaseKey(int, double)} instead of adding
+ * a second entry. Ids must lie in the range 0..capacity-1; the capacity grows as needed.
+ */
+public final class IndexedMinHeap {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] heap;       // Ids in heap order, index 0 is the root
+    private int[] position;   // Heap index of each id, or -1 if the id is not in the heap
+    private double[] keys;    // Key of each id currently in the heap
+    private int size;
+
+    /**
+     * Default constructor initializes the heap with default capacity.
+     */
+    public IndexedMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor with a custom initial capacity.
+     *
+     * @param initialCapacity One more than the largest id expected in the heap.
+     */
+    public IndexedMinHeap(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, DEFAULT_CAPACITY);
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new double[capacity];
+        Arrays.fill(position, -1);
+        size = 0;
+    }
+
+    /**
+     * Adds an id with the given key.
+     *
+     * @param id  The id to add.
+     * @param key The key of the id.
+     * @throws IllegalArgumentException if the id is negative or already in the heap.
+     */
+    public void add(int id, double key) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Heap ids cannot be negative.");
+        }
+        ensureCapacity(id + 1);
+        if (position[id] >= 0) {
+            throw new IllegalArgumentException("Id " + id + " is already in the heap.");
+        }
+
+        keys[id] = key;
+        heap[size] = id;
+        position[id] = size;
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Lowers the key of an id that is in the heap.
+     *
+     * @param id     The id whose key is lowered.
+     * @param newKey The new key, which must not be larger than the current key.
+     * @throws NoSuchElementException   if the id is not in the heap.
+     * @throws IllegalArgumentException if the new key is larger than the current key.
+     */
+    public void decreaseKey(int id, double newKey) {
+        if (!contains(id)) {
+            throw new NoSuchElementException("Id " + id + " is not in the heap.");
+        }
+        if (newKey > keys[id]) {
+            throw new IllegalArgumentException("New key is larger than the current key.");
+        }
+        keys[id] = newKey;
+        siftUp(position[id]);
+    }
+
+    /**
+     * Adds an id, or lowers its key if it is already in the heap with a larger key.
+     *
+     * @param id  The id to add or update.
+     * @param key The candidate key.
+     * @return {@code true} if the id was added or its key was lowered.
+     */
+    public boolean addOrDecreaseKey(int id, double key) {
+        if (!contains(id)) {
+            add(id, key);
+            return true;
+        }
+        if (key < keys[id]) {
+            decreaseKey(id, key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes and returns the id with the smallest key.
+     *
+     * @return The id with the smallest key.
+     * @throws NoSuchElementException if the heap is empty.
+     */
+    public int removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        int root = heap[0];
+        position[root] = -1;
+        size--;
+
+        if (size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return root;
+    }
+
+    /**
+     * Retrieves, but does not remove, the id with the smallest key.
+     *
+     * @return The id with the smallest key.
+     * @throws NoSuchElementException if the heap is empty.
+     */
+    public int peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Checks whether an id is in the heap.
+     *
+     * @param id The id to look for.
+     * @return {@code true} if the id is in the heap.
+     */
+    public boolean contains(int id) {
+        return id >= 0 && id < position.length && position[id] >= 0;
+    }
+
+    /**
+     * Returns the key of an id that is in the heap.
+     *
+     * @param id The id to look up.
+     * @return The key of the id.
+     * @throws NoSuchElementException if the id is not in the heap.
+     */
+    public double getKey(int id) {
+        if (!contains(id)) {
+            throw new NoSuchElementException("Id " + id + " is not in the heap.");
+        }
+        return keys[id];
+    }
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return {@code true} if the heap is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of ids in the heap.
+     *
+     * @return The number of ids in the heap.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Removes all ids from the heap. Runs in time proportional to the current size.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Moves the entry at the given heap index up until its parent is not larger.
+     */
+    private void siftUp(int index) {
+        int id = heap[index];
+        double key = keys[id];
+
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            int parentId = heap[parentIndex];
+            if (keys[parentId] <= key) {
+                break;
+            }
+            heap[index] = parentId;
+            position[parentId] = index;
+            index = parentIndex;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    /**
+     * Moves the entry at the given heap index down until neither child is smaller.
+     */
+    private void siftDown(int index) {
+        int id = heap[index];
+        double key = keys[id];
+        int childIndex = 2 * index + 1;
+
+        while (childIndex < size) {
+            int rightIndex = childIndex + 1;
+            if (rightIndex < size && keys[heap[rightIndex]] < keys[heap[childIndex]]) {
+                childIndex = rightIndex;
+            }
+            int childId = heap[childIndex];
+            if (key <= keys[childId]) {
+                break;
+            }
+            heap[index] = childId;
+            position[childId] = index;
+            index = childIndex;
+            childIndex = 2 * index + 1;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    /**
+     * Ensures ids below the given bound can be stored.
+     */
+    private void ensureCapacity(int requiredCapacity) {
+        if (requiredCapacity > position.length) {
+            int newCapacity = Math.max(requiredCapacity, 2 * position.length);
+            int oldCapacity = position.length;
+            heap = Arrays.copyOf(heap, newCapacity);
+            keys = Arrays.copyOf(keys, newCapacity);
+            position = Arrays.copyOf(position, newCapacity);
+            Arrays.fill(position, oldCapacity, newCapacity, -1);
+        }
+    }
+}
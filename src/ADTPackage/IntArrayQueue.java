@@ -0,0 +1,123 @@
+package ADTPackage;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A circular array-based queue of {@code int} values, such as vertex ids. It works
+ * like {@link ArrayQueue} but stores primitives, so entries are never boxed.
+ */
+public final class IntArrayQueue {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] queue;    // Circular array of entries
+    private int frontIndex; // Index of the front entry
+    private int size;
+
+    /**
+     * Constructs an empty queue with the default capacity.
+     */
+    public IntArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty queue that holds the given number of entries without growing.
+     *
+     * @param initialCapacity The number of entries the queue is expected to hold.
+     * @throws IllegalArgumentException if the capacity is negative or too large.
+     */
+    public IntArrayQueue(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid queue capacity: " + initialCapacity);
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < initialCapacity) {
+            capacity *= 2;
+        }
+        queue = new int[capacity];
+    }
+
+    /**
+     * Adds a value to the back of the queue.
+     *
+     * @param value The value to add.
+     */
+    public void enqueue(int value) {
+        if (size == queue.length) {
+            grow();
+        }
+        queue[(frontIndex + size) & (queue.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the front value of the queue.
+     *
+     * @return The front value.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public int dequeue() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int front = queue[frontIndex];
+        frontIndex = (frontIndex + 1) & (queue.length - 1);
+        size--;
+        return front;
+    }
+
+    /**
+     * Retrieves the front value without removing it.
+     *
+     * @return The front value.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public int getFront() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return queue[frontIndex];
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in the queue.
+     *
+     * @return The size of the queue.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Removes all values in constant time, keeping the capacity.
+     */
+    public void clear() {
+        frontIndex = 0;
+        size = 0;
+    }
+
+    /**
+     * Doubles the array, moving the values so the front value is at index 0.
+     */
+    private void grow() {
+        if (queue.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("Maximum queue capacity exceeded.");
+        }
+        int[] larger = new int[2 * queue.length];
+        int firstPart = queue.length - frontIndex;
+        System.arraycopy(queue, frontIndex, larger, 0, firstPart);
+        System.arraycopy(queue, 0, larger, firstPart, frontIndex);
+        queue = larger;
+        frontIndex = 0;
+    }
+}
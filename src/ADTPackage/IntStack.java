@@ -0,0 +1,98 @@
+package ADTPackage;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * A resizable array-based stack of {@code int} values, such as vertex ids. It works
+ * like {@link ArrayStack} but stores primitives, so entries are never boxed.
+ */
+public final class IntStack {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] stack;  // Values, with the bottom value at index 0
+    private int size;
+
+    /**
+     * Initializes an empty stack with the default capacity.
+     */
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Initializes an empty stack that holds the given number of values without growing.
+     *
+     * @param initialCapacity The number of values the stack is expected to hold.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public IntStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Stack capacity cannot be negative.");
+        }
+        stack = new int[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Adds a value to the top of this stack.
+     *
+     * @param value The value to add.
+     */
+    public void push(int value) {
+        if (size == stack.length) {
+            stack = Arrays.copyOf(stack, ArrayStack.grownCapacity(stack.length));
+        }
+        stack[size++] = value;
+    }
+
+    /**
+     * Removes and returns this stack's top value.
+     *
+     * @return The value at the top of the stack.
+     * @throws EmptyStackException If the stack is empty.
+     */
+    public int pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return stack[--size];
+    }
+
+    /**
+     * Retrieves this stack's top value without removing it.
+     *
+     * @return The value at the top of the stack.
+     * @throws EmptyStackException If the stack is empty.
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return stack[size - 1];
+    }
+
+    /**
+     * Checks whether this stack is empty.
+     *
+     * @return True if the stack is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values currently in the stack.
+     *
+     * @return The size of the stack.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Removes all values in constant time, keeping the capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,268 @@
+import ADTPackage.ConcurrentHashDictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A ProfileManager that can be shared by many request threads.
+ * Profiles are indexed in a concurrent dictionary, and each profile's friend list
+ * is guarded by one of a fixed set of read-write locks chosen by profile id
+ * (lock striping). A friendship change locks the stripes of both profiles in
+ * ascending stripe order, so changes between disjoint pairs of profiles run in
+ * parallel and two changes can never deadlock. Reads copy a friend list while
+ * holding its stripe's read lock, so they always see a consistent list.
+ *
+ * <p>Every change is appended to the write-ahead log while the locks of the profiles
+ * it changes are held, and a new profile is logged before other threads can see
+ * it, so replaying the log applies changes to each profile in the order they
+ * happened.
+ */
+public class ConcurrentProfileManager extends ProfileManager {
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final ConcurrentHashDictionary<String, Profile> profiles;
+    private final ReadWriteLock[] stripes;
+
+    /**
+     * Creates a concurrent profile manager with the default number of lock stripes.
+     */
+    public ConcurrentProfileManager() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates a concurrent profile manager.
+     *
+     * @param stripeCount the number of locks guarding friend lists; more stripes
+     *                    mean fewer unrelated updates contend for the same lock
+     * @throws IllegalArgumentException if the stripe count is not positive
+     */
+    public ConcurrentProfileManager(int stripeCount) {
+        this(new ConcurrentHashDictionary<>(), stripeCount);
+    }
+
+    private ConcurrentProfileManager(ConcurrentHashDictionary<String, Profile> profiles, int stripeCount) {
+        super(profiles);
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive.");
+        }
+        this.profiles = profiles;
+        stripes = new ReadWriteLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * Adds a new profile unless a profile with the same name already exists.
+     * The check and the insert happen atomically, and a profile that is not added
+     * keeps its id.
+     *
+     * @param profile the profile to be added
+     * @return true if the profile was added, false if the name is taken
+     */
+    @Override
+    public boolean addProfile(Profile profile) {
+        Profile existing = profiles.addComputedIfAbsent(profile.getName(), name -> {
+            // Both happen before the profile is visible: its id picks its lock stripe, and
+            // no change to it may be logged ahead of the profile itself
+            assignId(profile);
+            ProfileLog log = getLog();
+            if (log != null) {
+                log.addProfile(profile);
+            }
+            return profile;
+        });
+        return existing == null;
+    }
+
+    /**
+     * Sets the status of a profile while holding its lock, so concurrent changes are
+     * logged in the order they are applied.
+     *
+     * @param name      the name of the profile
+     * @param newStatus the new status
+     * @return true if the profile exists, false otherwise
+     */
+    @Override
+    boolean setStatus(String name, String newStatus) {
+        while (true) {
+            Profile profile = profiles.getValue(name);
+            if (profile == null) {
+                return false;
+            }
+            Lock lock = stripeOf(profile).writeLock();
+            lock.lock();
+            try {
+                if (isStored(name, profile)) {  // Else it was deleted before the lock was taken
+                    profile.setStatus(newStatus);
+                    ProfileLog log = getLog();
+                    if (log != null) {
+                        log.setStatus(name, newStatus);
+                    }
+                    return true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes a profile while holding its lock, so the deletion is logged in order
+     * with changes to the profile's friendships and status.
+     *
+     * @param name the name of the profile to remove
+     * @return the removed profile, or null if no profile has that name
+     */
+    @Override
+    Profile removeProfile(String name) {
+        while (true) {
+            Profile profile = profiles.getValue(name);
+            if (profile == null) {
+                return null;
+            }
+            Lock lock = stripeOf(profile).writeLock();
+            lock.lock();
+            try {
+                if (isStored(name, profile)) {  // Else it was deleted before the lock was taken
+                    profiles.remove(name);
+                    ProfileLog log = getLog();
+                    if (log != null) {
+                        log.deleteProfile(name);
+                    }
+                    invalidateNetworks();
+                    return profile;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Adds a friendship between two profiles while holding the locks of both.
+     *
+     * @param name1 the name of the first profile
+     * @param name2 the name of the second profile
+     * @return true if the friendship was established, false if a profile does not exist, both names are the same, or they are already friends
+     */
+    @Override
+    public boolean addFriend(String name1, String name2) {
+        Profile profile1 = profiles.getValue(name1);
+        Profile profile2 = profiles.getValue(name2);
+        if (profile1 == null || profile2 == null || profile1 == profile2) {
+            return false;
+        }
+
+        lockPair(profile1, profile2);
+        try {
+            if (!isStored(name1, profile1) || !isStored(name2, profile2)) {
+                return false;  // Deleted before the locks were taken
+            }
+            boolean added1 = profile1.addFriend(profile2);
+            boolean added2 = added1 && profile2.addFriend(profile1);
+            if (added1) {  // Calls that change nothing are not logged
+                ProfileLog log = getLog();
+                if (log != null) {
+                    log.addFriend(name1, name2); // Logged under the locks so the log keeps the order of changes
+                }
+                joinNetworks(profile1, profile2);
+            }
+            return added2;
+        } finally {
+            unlockPair(profile1, profile2);
+        }
+    }
+
+    /**
+     * Removes the friendship between two profiles while holding the locks of both.
+     *
+     * @param name1 the name of the first profile
+     * @param name2 the name of the second profile
+     * @return true if the friendship existed and was removed, false otherwise
+     */
+    @Override
+    public boolean removeFriend(String name1, String name2) {
+        Profile profile1 = profiles.getValue(name1);
+        Profile profile2 = profiles.getValue(name2);
+        if (profile1 == null || profile2 == null) {
+            return false;
+        }
+
+        lockPair(profile1, profile2);
+        try {
+            if (!isStored(name1, profile1) || !isStored(name2, profile2)) {
+                return false;  // Deleted before the locks were taken
+            }
+            boolean removed1 = profile1.removeFriend(profile2);
+            boolean removed2 = profile2.removeFriend(profile1);
+            if (removed1 || removed2) {
+                ProfileLog log = getLog();
+                if (log != null) {
+                    log.removeFriend(name1, name2);
+                }
+                invalidateNetworks();
+            }
+            return removed1 && removed2;
+        } finally {
+            unlockPair(profile1, profile2);
+        }
+    }
+
+    /**
+     * Returns a copy of a profile's friends taken under its stripe's read lock.
+     *
+     * @param profile the profile whose friends are read
+     * @return a snapshot of the profile's friends
+     */
+    @Override
+    protected List<Profile> friendsOf(Profile profile) {
+        Lock lock = stripeOf(profile).readLock();
+        lock.lock();
+        try {
+            return new ArrayList<>(profile.getFriends());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write-locks the stripes of two profiles, lower stripe first.
+     */
+    private void lockPair(Profile profile1, Profile profile2) {
+        int first = stripeIndex(profile1);
+        int second = stripeIndex(profile2);
+        stripes[Math.min(first, second)].writeLock().lock();
+        if (first != second) {
+            stripes[Math.max(first, second)].writeLock().lock();
+        }
+    }
+
+    /**
+     * Releases the stripes locked by {@link #lockPair(Profile, Profile)}.
+     */
+    private void unlockPair(Profile profile1, Profile profile2) {
+        int first = stripeIndex(profile1);
+        int second = stripeIndex(profile2);
+        if (first != second) {
+            stripes[Math.max(first, second)].writeLock().unlock();
+        }
+        stripes[Math.min(first, second)].writeLock().unlock();
+    }
+
+    private boolean isStored(String name, Profile profile) {
+        return profiles.getValue(name) == profile;
+    }
+
+    private ReadWriteLock stripeOf(Profile profile) {
+        return stripes[stripeIndex(profile)];
+    }
+
+    private int stripeIndex(Profile profile) {
+        return Math.floorMod(profile.getId(), stripes.length);
+    }
+}
@@ -1,7 +1,7 @@
 import GraphPackage.UndirectedGraph;
 import ADTPackage.QueueInterface;
 import ADTPackage.StackInterface;
-import ADTPackage.LinkedStack;
+import ADTPackage.ArrayStack;
 
 /**
  * Driver2: Tests graph functionalities including vertex addition, edge creation,
@@ -44,7 +44,7 @@ public class Driver2 {
 
         // Test Shortest Path
         System.out.println("\nFinding shortest path from A to E:");
-        StackInterface<String> path = new LinkedStack<>();
+        StackInterface<String> path = new ArrayStack<>();
         int pathLength = graph.getShortestPath("A", "E", path);
 
         if (pathLength != -1) {
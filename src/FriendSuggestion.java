@@ -0,0 +1,41 @@
+/**
+ * A friend-of-a-friend of some profile, together with the number of friends
+ * the two profiles have in common. Suggestions are ordered best first: more
+ * mutual friends rank higher, and ties are broken by name.
+ */
+public class FriendSuggestion implements Comparable<FriendSuggestion> {
+    private final Profile profile;
+    private final int mutualFriendCount;
+
+    /**
+     * Creates a suggestion.
+     *
+     * @param profile           the suggested profile
+     * @param mutualFriendCount the number of friends shared with the profile the suggestion is for
+     */
+    public FriendSuggestion(Profile profile, int mutualFriendCount) {
+        this.profile = profile;
+        this.mutualFriendCount = mutualFriendCount;
+    }
+
+    public Profile getProfile() { return profile; }
+
+    public int getMutualFriendCount() { return mutualFriendCount; }
+
+    /**
+     * Compares suggestions so that the better suggestion is the smaller one.
+     *
+     * @param other the suggestion to compare with
+     * @return a negative number if this suggestion ranks higher than the other
+     */
+    @Override
+    public int compareTo(FriendSuggestion other) {
+        int byCount = Integer.compare(other.mutualFriendCount, mutualFriendCount);
+        return (byCount != 0) ? byCount : profile.getName().compareTo(other.profile.getName());
+    }
+
+    @Override
+    public String toString() {
+        return profile.getName() + " (" + mutualFriendCount + " mutual)";
+    }
+}
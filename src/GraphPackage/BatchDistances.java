@@ -0,0 +1,81 @@
+package GraphPackage;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The breadth-first distances from each of a batch of source vertices to every
+ * vertex of a graph, as computed by {@link DirectedGraph#getDistances(List)}.
+ * Distances count edges and reflect the graph at the time they were computed.
+ *
+ * @param <T> The type of vertex labels.
+ */
+public final class BatchDistances<T> {
+    private final DirectedGraph<T> graph;
+    private final List<T> sources;
+    private final int[][] rows;  // Distance from each source to each vertex id, -1 if unreached
+
+    BatchDistances(DirectedGraph<T> graph, List<T> sources, int[][] rows) {
+        this.graph = graph;
+        this.sources = sources;
+        this.rows = rows;
+    }
+
+    /**
+     * Returns the number of sources in the batch.
+     *
+     * @return The number of sources, including any not in the graph.
+     */
+    public int getNumberOfSources() {
+        return rows.length;
+    }
+
+    /**
+     * Returns the label of a source.
+     *
+     * @param sourceIndex The position of the source in the batch.
+     * @return The source's label.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public T getSource(int sourceIndex) {
+        return sources.get(sourceIndex);
+    }
+
+    /**
+     * Returns the number of edges on a shortest path from a source to a vertex.
+     *
+     * @param sourceIndex The position of the source in the batch.
+     * @param end         The label of the vertex.
+     * @return The distance, or {@code -1} if the vertex was not reachable, or either
+     *         vertex was not in the graph.
+     * @throws IndexOutOfBoundsException if the source index is out of range.
+     */
+    public int getDistance(int sourceIndex, T end) {
+        int[] row = rows[sourceIndex];
+        VertexInterface<T> endVertex = graph.getVertex(end);
+        if (row == null || endVertex == null || endVertex.getId() >= row.length) {
+            return -1;
+        }
+        return row[endVertex.getId()];
+    }
+
+    /**
+     * Returns the distances from a source to the given vertices.
+     *
+     * @param sourceIndex The position of the source in the batch.
+     * @param ends        The labels of the vertices.
+     * @return The distance to each vertex, as {@link #getDistance(int, Object)} gives it.
+     * @throws IndexOutOfBoundsException if the source index is out of range.
+     */
+    public int[] getDistances(int sourceIndex, List<T> ends) {
+        int[] distances = new int[ends.size()];
+        if (rows[sourceIndex] == null) {
+            Arrays.fill(distances, -1);
+            return distances;
+        }
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = getDistance(sourceIndex, ends.get(i));
+        }
+        return distances;
+    }
+}
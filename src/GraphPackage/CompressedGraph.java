@@ -0,0 +1,457 @@
+package GraphPackage;
+
+import ADTPackage.ArrayQueue;
+import ADTPackage.HashedDictionary;
+import ADTPackage.IndexedMinHeap;
+import ADTPackage.QueueInterface;
+import ADTPackage.StackInterface;
+
+import java.util.Arrays;
+
+/**
+ * An immutable snapshot of a graph in compressed sparse row (CSR) form.
+ * Vertices are numbered 0..n-1; the out-edges of vertex {@code v} are stored in
+ * {@code targets[offsets[v]..offsets[v + 1])} with the matching weights in the
+ * same range of {@code weights}. Traversals run over these primitive arrays
+ * instead of following vertex and edge objects.
+ *
+ * <p>Neighbors keep the order of the graph the snapshot was taken from, so
+ * traversals visit vertices in the same order as on the original graph.
+ *
+ * @param <T> The type of vertex labels (must be unique).
+ */
+public class CompressedGraph<T> implements GraphInterface<T> {
+    private final T[] labels;                              // Label of each vertex id
+    private final HashedDictionary<T, Integer> vertexIds;  // Label to vertex id
+    private final int[] offsets;                           // Start of each vertex's edges, length n + 1
+    private final int[] targets;                           // End vertex id of each edge
+    private final double[] weights;                        // Weight of each edge
+    private final int edgeCount;                           // Edge count as reported by the source graph
+    private volatile int[][] reverseEdges;                 // In-edge offsets and sources, built on first use
+
+    /**
+     * Constructs a snapshot from prebuilt CSR arrays.
+     *
+     * @param labels    The label of each vertex id.
+     * @param offsets   The start offset of each vertex's edges, with a final entry equal to the edge total.
+     * @param targets   The end vertex id of each edge.
+     * @param weights   The weight of each edge.
+     * @param edgeCount The number of edges reported by {@link #getNumberOfEdges()}.
+     */
+    CompressedGraph(T[] labels, int[] offsets, int[] targets, double[] weights, int edgeCount) {
+        this.labels = labels;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.edgeCount = edgeCount;
+
+        vertexIds = new HashedDictionary<>(labels.length);
+        for (int id = 0; id < labels.length; id++) {
+            vertexIds.add(labels[id], id);
+        }
+    }
+
+    /**
+     * Returns the id assigned to a vertex label in this snapshot.
+     *
+     * @param vertexLabel The label of the vertex.
+     * @return The vertex id, or {@code -1} if the label is not in the graph.
+     */
+    public int getVertexId(T vertexLabel) {
+        Integer id = vertexIds.getValue(vertexLabel);
+        return (id == null) ? -1 : id;
+    }
+
+    /**
+     * Returns the label of the vertex with the given id.
+     *
+     * @param vertexId The id of the vertex.
+     * @return The label of the vertex.
+     */
+    public T getLabel(int vertexId) {
+        return labels[vertexId];
+    }
+
+    /**
+     * Returns the number of edges leaving the vertex with the given id.
+     *
+     * @param vertexId The id of the vertex.
+     * @return The out-degree of the vertex.
+     */
+    public int getOutDegree(int vertexId) {
+        return offsets[vertexId + 1] - offsets[vertexId];
+    }
+
+    /** Returns the index of the first edge of a vertex. */
+    int edgeStart(int vertexId) {
+        return offsets[vertexId];
+    }
+
+    /** Returns the index one past the last edge of a vertex. */
+    int edgeEnd(int vertexId) {
+        return offsets[vertexId + 1];
+    }
+
+    /** Returns the end vertex id of an edge. */
+    int edgeTarget(int edgeIndex) {
+        return targets[edgeIndex];
+    }
+
+    /** Returns the weight of an edge. */
+    double edgeWeight(int edgeIndex) {
+        return weights[edgeIndex];
+    }
+
+    /**
+     * Returns the edges of this graph grouped by end vertex: the in-edges of vertex
+     * {@code v} come from {@code sources[inOffsets[v]..inOffsets[v + 1])}, in order of
+     * their begin vertex. The arrays are built on the first call and shared afterwards.
+     *
+     * @return The two arrays {@code {inOffsets, sources}}.
+     */
+    int[][] getReverseEdges() {
+        int[][] reverse = reverseEdges;
+        return (reverse != null) ? reverse : buildReverseEdges();
+    }
+
+    private synchronized int[][] buildReverseEdges() {
+        if (reverseEdges != null) {
+            return reverseEdges;
+        }
+        int vertexCount = labels.length;
+        int[] inOffsets = new int[vertexCount + 1];
+        for (int e = 0; e < offsets[vertexCount]; e++) {
+            inOffsets[targets[e] + 1]++;
+        }
+        Arrays.parallelPrefix(inOffsets, Integer::sum);
+        int[] sources = new int[inOffsets[vertexCount]];
+        int[] next = Arrays.copyOf(inOffsets, vertexCount);
+        for (int u = 0; u < vertexCount; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                sources[next[targets[e]]++] = u;
+            }
+        }
+        reverseEdges = new int[][]{inOffsets, sources};
+        return reverseEdges;
+    }
+
+    /**
+     * Throws an exception because the snapshot cannot be modified.
+     */
+    @Override
+    public boolean addVertex(T vertexLabel) {
+        throw readOnly();
+    }
+
+    /**
+     * Throws an exception because the snapshot cannot be modified.
+     */
+    @Override
+    public boolean addEdge(T begin, T end, double edgeWeight) {
+        throw readOnly();
+    }
+
+    /**
+     * Throws an exception because the snapshot cannot be modified.
+     */
+    @Override
+    public boolean addEdge(T begin, T end) {
+        throw readOnly();
+    }
+
+    /**
+     * Throws an exception because the snapshot cannot be modified.
+     */
+    @Override
+    public boolean removeVertex(T vertexLabel) {
+        throw readOnly();
+    }
+
+    /**
+     * Throws an exception because the snapshot cannot be modified.
+     */
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    /**
+     * Checks if there is an edge from the {@code begin} vertex to the {@code end} vertex.
+     *
+     * @param begin The label of the starting vertex.
+     * @param end   The label of the ending vertex.
+     * @return {@code true} if the edge exists, {@code false} otherwise.
+     */
+    @Override
+    public boolean hasEdge(T begin, T end) {
+        int beginId = getVertexId(begin);
+        int endId = getVertexId(end);
+
+        if (beginId >= 0 && endId >= 0) {
+            for (int e = offsets[beginId]; e < offsets[beginId + 1]; e++) {
+                if (targets[e] == endId) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the graph is empty (i.e., it has no vertices).
+     *
+     * @return {@code true} if the graph is empty, {@code false} otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return labels.length == 0;
+    }
+
+    /**
+     * Returns the number of vertices in the graph.
+     *
+     * @return The number of vertices in the graph.
+     */
+    @Override
+    public int getNumberOfVertices() {
+        return labels.length;
+    }
+
+    /**
+     * Returns the number of edges in the graph, as counted by the graph the snapshot was taken from.
+     *
+     * @return The number of edges in the graph.
+     */
+    @Override
+    public int getNumberOfEdges() {
+        return edgeCount;
+    }
+
+    /**
+     * Returns a breadth-first traversal of the graph starting from the specified vertex.
+     *
+     * @param origin The label of the vertex to start the traversal.
+     * @return A queue containing the labels of the vertices in breadth-first order.
+     */
+    @Override
+    public QueueInterface<T> getBreadthFirstTraversal(T origin) {
+        QueueInterface<T> traversalOrder = new ArrayQueue<>();
+        int originId = getVertexId(origin);
+
+        if (originId >= 0) {
+            boolean[] visited = new boolean[labels.length];
+            int[] vertexQueue = new int[labels.length];
+            int head = 0;
+            int tail = 0;
+
+            visited[originId] = true;
+            vertexQueue[tail++] = originId;
+
+            while (head < tail) {
+                int frontId = vertexQueue[head++];
+                traversalOrder.enqueue(labels[frontId]);
+
+                for (int e = offsets[frontId]; e < offsets[frontId + 1]; e++) {
+                    int neighborId = targets[e];
+                    if (!visited[neighborId]) {
+                        visited[neighborId] = true;
+                        vertexQueue[tail++] = neighborId;
+                    }
+                }
+            }
+        }
+        return traversalOrder;
+    }
+
+    /**
+     * Returns a depth-first traversal of the graph starting from the specified vertex.
+     * Each stack frame keeps the position of the next edge to examine, so every
+     * edge is looked at only once.
+     *
+     * @param origin The label of the vertex to start the traversal.
+     * @return A queue containing the labels of the vertices in depth-first order.
+     */
+    @Override
+    public QueueInterface<T> getDepthFirstTraversal(T origin) {
+        QueueInterface<T> traversalOrder = new ArrayQueue<>();
+        int originId = getVertexId(origin);
+
+        if (originId >= 0) {
+            boolean[] visited = new boolean[labels.length];
+            int[] vertexStack = new int[labels.length];
+            int[] nextEdge = new int[labels.length];
+            int top = 0;
+
+            visited[originId] = true;
+            traversalOrder.enqueue(origin);
+            vertexStack[top] = originId;
+            nextEdge[top] = offsets[originId];
+
+            while (top >= 0) {
+                int topId = vertexStack[top];
+                int edge = nextEdge[top];
+                int end = offsets[topId + 1];
+
+                while (edge < end && visited[targets[edge]]) {
+                    edge++;
+                }
+
+                if (edge < end) {
+                    int neighborId = targets[edge];
+                    nextEdge[top] = edge + 1;
+                    visited[neighborId] = true;
+                    traversalOrder.enqueue(labels[neighborId]);
+                    top++;
+                    vertexStack[top] = neighborId;
+                    nextEdge[top] = offsets[neighborId];
+                } else {
+                    top--;
+                }
+            }
+        }
+        return traversalOrder;
+    }
+
+    /**
+     * Finds the shortest path from the {@code begin} vertex to the {@code end} vertex using breadth-first search.
+     *
+     * @param begin The label of the starting vertex.
+     * @param end   The label of the ending vertex.
+     * @param path  A stack to hold the labels of the vertices in the shortest path.
+     * @return The number of edges in the shortest path, or {@code -1} if no path exists.
+     */
+    @Override
+    public int getShortestPath(T begin, T end, StackInterface<T> path) {
+        int originId = getVertexId(begin);
+        int endId = getVertexId(end);
+
+        if (originId < 0 || endId < 0) {
+            return -1;
+        }
+
+        boolean[] visited = new boolean[labels.length];
+        int[] predecessor = new int[labels.length];
+        int[] vertexQueue = new int[labels.length];
+        int head = 0;
+        int tail = 0;
+        boolean done = false;
+
+        visited[originId] = true;
+        predecessor[originId] = -1;
+        vertexQueue[tail++] = originId;
+
+        while (!done && head < tail) {
+            int frontId = vertexQueue[head++];
+
+            for (int e = offsets[frontId]; !done && e < offsets[frontId + 1]; e++) {
+                int neighborId = targets[e];
+                if (!visited[neighborId]) {
+                    visited[neighborId] = true;
+                    predecessor[neighborId] = frontId;
+                    vertexQueue[tail++] = neighborId;
+                    done = neighborId == endId;
+                }
+            }
+        }
+
+        if (done) {
+            return pushPath(endId, predecessor, path) - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the cheapest path from the {@code begin} vertex to the {@code end} vertex using Dijkstra's algorithm.
+     *
+     * @param begin The label of the starting vertex.
+     * @param end   The label of the ending vertex.
+     * @param path  A stack to hold the labels of the vertices in the cheapest path.
+     * @return The total cost of the cheapest path, or {@code -1} if no path exists.
+     */
+    @Override
+    public double getCheapestPath(T begin, T end, StackInterface<T> path) {
+        return getCheapestPath(begin, end, path, null, null);
+    }
+
+    /**
+     * Finds the cheapest path from the {@code begin} vertex to the {@code end} vertex using A* search,
+     * keying each vertex by its cost plus the heuristic's estimate.
+     *
+     * @param begin      The label of the starting vertex.
+     * @param end        The label of the ending vertex.
+     * @param path       A stack to hold the labels of the vertices in the cheapest path.
+     * @param heuristic  A consistent estimate of the cost to {@code end}, or null for plain Dijkstra.
+     * @param statistics Where to record the number of vertices settled, or null.
+     * @return The total cost of the cheapest path, or {@code -1} if no path exists.
+     */
+    @Override
+    public double getCheapestPath(T begin, T end, StackInterface<T> path, DistanceHeuristic<T> heuristic,
+                                  SearchStatistics statistics) {
+        int originId = getVertexId(begin);
+        int endId = getVertexId(end);
+
+        if (originId < 0 || endId < 0) {
+            return -1;
+        }
+
+        double[] cost = new double[labels.length];
+        int[] predecessor = new int[labels.length];
+        boolean[] settled = new boolean[labels.length];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+
+        IndexedMinHeap priorityQueue = new IndexedMinHeap(labels.length);
+        cost[originId] = 0;
+        predecessor[originId] = -1;
+        priorityQueue.add(originId, (heuristic == null) ? 0 : heuristic.estimate(begin, end));
+        int settledCount = 0;
+
+        try {
+            while (!priorityQueue.isEmpty()) {
+                int frontId = priorityQueue.removeMin();
+                settled[frontId] = true;
+                settledCount++;
+
+                if (frontId == endId) {
+                    pushPath(endId, predecessor, path);
+                    return cost[endId];
+                }
+
+                for (int e = offsets[frontId]; e < offsets[frontId + 1]; e++) {
+                    int neighborId = targets[e];
+                    double nextCost = cost[frontId] + weights[e];
+
+                    if (!settled[neighborId] && nextCost < cost[neighborId]) {
+                        cost[neighborId] = nextCost;
+                        predecessor[neighborId] = frontId;
+                        double key = (heuristic == null) ? nextCost
+                                : nextCost + heuristic.estimate(labels[neighborId], end);
+                        priorityQueue.addOrDecreaseKey(neighborId, key);
+                    }
+                }
+            }
+            return -1;
+        } finally {
+            if (statistics != null) {
+                statistics.record(settledCount);
+            }
+        }
+    }
+
+    /**
+     * Pushes the labels on the predecessor chain ending at the given vertex onto a stack.
+     *
+     * @return The number of vertices pushed.
+     */
+    private int pushPath(int endId, int[] predecessor, StackInterface<T> path) {
+        int pathLength = 0;
+        for (int id = endId; id >= 0; id = predecessor[id]) {
+            path.push(labels[id]);
+            pathLength++;
+        }
+        return pathLength;
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("A compressed graph snapshot cannot be modified.");
+    }
+}
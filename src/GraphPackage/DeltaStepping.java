@@ -0,0 +1,441 @@
+package GraphPackage;
+
+import ADTPackage.StackInterface;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Computes the cheapest path costs from one vertex to every vertex of a graph with
+ * non-negative edge weights, using Meyer and Sanders' delta-stepping.
+ *
+ * <p>Vertices wait in buckets of width {@code delta} by tentative cost, and the
+ * lowest non-empty bucket is settled in phases. Each phase relaxes the light edges
+ * (weight at most delta) of the vertices just taken from the bucket, which may put
+ * vertices back into it; once it stays empty, the heavy edges of everything taken
+ * from it are relaxed once. Vertex ids are split among owners, one per parallel
+ * task: relaxations are sent as requests to the owner of the end vertex, and every
+ * owner applies its requests alone, so no locks or atomic updates are needed.
+ *
+ * <p>A small delta does little wasted work but many phases; a large delta does the
+ * opposite. By default delta is the largest weight divided by the average out-degree.
+ */
+public class DeltaStepping {
+    private static final int CHUNKS_PER_CORE = 4;
+    private static final int MAX_BUCKETS = 1 << 16;  // Delta is raised if the largest weight spans more buckets
+
+    private double delta;  // 0 to pick one from the graph
+
+    /**
+     * Sets the width of the buckets.
+     *
+     * @param delta The bucket width, greater than 0.
+     * @return This computation.
+     * @throws IllegalArgumentException if the width is not positive.
+     */
+    public DeltaStepping setDelta(double delta) {
+        if (!(delta > 0)) {
+            throw new IllegalArgumentException("Delta must be positive.");
+        }
+        this.delta = delta;
+        return this;
+    }
+
+    /**
+     * Computes the cheapest path costs from a vertex of a graph, using a CSR snapshot of it.
+     *
+     * @param graph  The graph.
+     * @param source The label of the starting vertex.
+     * @param <T>    The type of vertex labels.
+     * @return The costs and predecessors of every vertex; nothing is reached if the source is not in the graph.
+     * @throws IllegalArgumentException if an edge weight is negative, infinite or NaN.
+     */
+    public <T> Result<T> compute(DirectedGraph<T> graph, T source) {
+        return compute(graph.freeze(), source);
+    }
+
+    /**
+     * Computes the cheapest path costs from a vertex of a compressed graph.
+     *
+     * @param graph  The graph.
+     * @param source The label of the starting vertex.
+     * @param <T>    The type of vertex labels.
+     * @return The costs and predecessors of every vertex; nothing is reached if the source is not in the graph.
+     * @throws IllegalArgumentException if an edge weight is negative, infinite or NaN.
+     */
+    public <T> Result<T> compute(CompressedGraph<T> graph, T source) {
+        long start = System.nanoTime();
+        int vertexCount = graph.getNumberOfVertices();
+        double[] distance = new double[vertexCount];
+        int[] predecessor = new int[vertexCount];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessor, -1);
+        int sourceId = graph.getVertexId(source);
+        if (sourceId < 0) {
+            return new Result<>(graph, distance, predecessor, 0, System.nanoTime() - start);
+        }
+
+        int edgeTotal = graph.edgeEnd(vertexCount - 1);
+        double maxWeight = 0;
+        for (int e = 0; e < edgeTotal; e++) {
+            double weight = graph.edgeWeight(e);
+            if (!(weight >= 0) || weight == Double.POSITIVE_INFINITY) {
+                throw new IllegalArgumentException("Delta-stepping needs finite non-negative edge weights.");
+            }
+            maxWeight = Math.max(maxWeight, weight);
+        }
+        double width = (delta > 0) ? delta
+                : (maxWeight == 0) ? 1 : maxWeight / Math.max(edgeTotal, 1) * vertexCount;
+        width = Math.max(width, maxWeight / MAX_BUCKETS);
+        double step = width;
+
+        // Copy the edges with each vertex's light edges first
+        int[] targets = new int[edgeTotal];
+        double[] weights = new double[edgeTotal];
+        int[] lightEnd = new int[vertexCount];
+        IntStream.range(0, vertexCount).parallel().forEach(v -> {
+            int light = graph.edgeStart(v);
+            int heavy = graph.edgeEnd(v);
+            for (int e = graph.edgeStart(v); e < graph.edgeEnd(v); e++) {
+                int slot = (graph.edgeWeight(e) <= step) ? light++ : --heavy;
+                targets[slot] = graph.edgeTarget(e);
+                weights[slot] = graph.edgeWeight(e);
+            }
+            lightEnd[v] = light;
+        });
+
+        // Pending costs never span more than maxWeight / step buckets, so the buckets can be cyclic
+        long spannedBuckets = (long) (maxWeight / step) + 2;
+        if (spannedBuckets > MAX_BUCKETS + 2) {
+            throw new IllegalArgumentException("Edge weights span too many buckets of width " + step + ".");
+        }
+        int bucketCount = (int) spannedBuckets;
+        int range = (vertexCount + chunkCount(vertexCount) - 1) / chunkCount(vertexCount);
+        int ownerCount = (vertexCount + range - 1) / range;
+        Owner[] owners = new Owner[ownerCount];
+        for (int o = 0; o < ownerCount; o++) {
+            owners[o] = new Owner(bucketCount, ownerCount);
+        }
+        long[] bucketOf = new long[vertexCount];  // Bucket each vertex waits in, -1 if none
+        Arrays.fill(bucketOf, -1);
+        Search search = new Search(graph, targets, weights, lightEnd, distance, predecessor, bucketOf, owners,
+                range, step);
+
+        distance[sourceId] = 0;
+        search.place(owners[sourceId / range], sourceId, 0);
+        int phases = 0;
+        for (long bucket = 0; search.hasPending(); bucket++) {
+            while (search.isEmpty(bucket)) {
+                bucket++;
+            }
+            long current = bucket;
+            while (true) {
+                IntStream.range(0, ownerCount).parallel().forEach(o -> search.takeBucket(owners[o], current));
+                if (search.isFrontierEmpty()) {
+                    break;
+                }
+                IntStream.range(0, ownerCount).parallel().forEach(o -> search.relaxFrontier(owners[o]));
+                IntStream.range(0, ownerCount).parallel().forEach(search::applyRequests);
+                phases++;
+            }
+            IntStream.range(0, ownerCount).parallel().forEach(o -> search.relaxSettled(owners[o]));
+            IntStream.range(0, ownerCount).parallel().forEach(search::applyRequests);
+        }
+        return new Result<>(graph, distance, predecessor, phases, System.nanoTime() - start);
+    }
+
+    private static int chunkCount(int vertexCount) {
+        return Math.max(1, Math.min(vertexCount, CHUNKS_PER_CORE * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * The arrays shared by the owners during one computation.
+     */
+    private static final class Search {
+        private final CompressedGraph<?> graph;
+        private final int[] targets;      // Edge targets, light edges first for each vertex
+        private final double[] weights;   // Edge weights in the same order
+        private final int[] lightEnd;     // End of each vertex's light edges
+        private final double[] distance;
+        private final int[] predecessor;
+        private final long[] bucketOf;
+        private final Owner[] owners;
+        private final int range;          // Vertex ids per owner
+        private final double step;
+
+        Search(CompressedGraph<?> graph, int[] targets, double[] weights, int[] lightEnd, double[] distance,
+               int[] predecessor, long[] bucketOf, Owner[] owners, int range, double step) {
+            this.graph = graph;
+            this.targets = targets;
+            this.weights = weights;
+            this.lightEnd = lightEnd;
+            this.distance = distance;
+            this.predecessor = predecessor;
+            this.bucketOf = bucketOf;
+            this.owners = owners;
+            this.range = range;
+            this.step = step;
+        }
+
+        boolean hasPending() {
+            for (Owner owner : owners) {
+                if (owner.pending > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isEmpty(long bucket) {
+            for (Owner owner : owners) {
+                if (owner.bucket(bucket).size > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isFrontierEmpty() {
+            for (Owner owner : owners) {
+                if (owner.frontier.size > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Moves an owner's vertices still waiting in a bucket into its frontier and
+         * its settled list, skipping entries left behind by vertices that moved.
+         */
+        void takeBucket(Owner owner, long bucket) {
+            IntList waiting = owner.bucket(bucket);
+            owner.frontier.size = 0;
+            for (int i = 0; i < waiting.size; i++) {
+                int v = waiting.items[i];
+                if (bucketOf[v] == bucket) {
+                    bucketOf[v] = -1;
+                    owner.pending--;
+                    owner.frontier.add(v);
+                    owner.settled.add(v);
+                }
+            }
+            waiting.size = 0;
+        }
+
+        void relaxFrontier(Owner owner) {
+            for (int i = 0; i < owner.frontier.size; i++) {
+                int v = owner.frontier.items[i];
+                request(owner, v, graph.edgeStart(v), lightEnd[v]);
+            }
+        }
+
+        void relaxSettled(Owner owner) {
+            for (int i = 0; i < owner.settled.size; i++) {
+                int v = owner.settled.items[i];
+                request(owner, v, lightEnd[v], graph.edgeEnd(v));
+            }
+            owner.settled.size = 0;
+        }
+
+        /**
+         * Sends a request for every edge in a range that would lower its end's cost.
+         * Costs are only read here; they change while requests are applied.
+         */
+        private void request(Owner owner, int v, int from, int to) {
+            for (int e = from; e < to; e++) {
+                int target = targets[e];
+                double cost = distance[v] + weights[e];
+                if (cost < distance[target]) {
+                    owner.outbox[target / range].add(target, v, cost);
+                }
+            }
+        }
+
+        /**
+         * Applies every request sent to one owner, keeping the lowest cost per vertex.
+         */
+        void applyRequests(int ownerIndex) {
+            Owner owner = owners[ownerIndex];
+            for (Owner sender : owners) {
+                Requests requests = sender.outbox[ownerIndex];
+                for (int i = 0; i < requests.size; i++) {
+                    int target = requests.targets[i];
+                    double cost = requests.costs[i];
+                    if (cost < distance[target]) {
+                        distance[target] = cost;
+                        predecessor[target] = requests.sources[i];
+                        place(owner, target, (long) (cost / step));
+                    }
+                }
+                requests.size = 0;
+            }
+        }
+
+        /**
+         * Puts a vertex in a bucket, leaving any older entry behind to be skipped.
+         */
+        void place(Owner owner, int v, long bucket) {
+            if (bucketOf[v] == bucket) {
+                return;
+            }
+            if (bucketOf[v] < 0) {
+                owner.pending++;
+            }
+            bucketOf[v] = bucket;
+            owner.bucket(bucket).add(v);
+        }
+    }
+
+    /**
+     * The buckets, lists and outgoing requests of one range of vertex ids.
+     */
+    private static final class Owner {
+        private final IntList[] buckets;    // Cyclic by bucket number
+        private final IntList frontier = new IntList();
+        private final IntList settled = new IntList();  // Taken from the current bucket, heavy edges not yet relaxed
+        private final Requests[] outbox;    // Requests to each owner
+        private int pending;                // Vertices waiting in some bucket
+
+        Owner(int bucketCount, int ownerCount) {
+            buckets = new IntList[bucketCount];
+            outbox = new Requests[ownerCount];
+            for (int o = 0; o < ownerCount; o++) {
+                outbox[o] = new Requests();
+            }
+        }
+
+        IntList bucket(long bucket) {
+            int slot = (int) (bucket % buckets.length);
+            if (buckets[slot] == null) {
+                buckets[slot] = new IntList();
+            }
+            return buckets[slot];
+        }
+    }
+
+    private static final class IntList {
+        private int[] items = new int[16];
+        private int size;
+
+        void add(int item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, 2 * size);
+            }
+            items[size++] = item;
+        }
+    }
+
+    /**
+     * Relaxation requests as parallel arrays of end vertex, begin vertex and new cost.
+     */
+    private static final class Requests {
+        private int[] targets = new int[16];
+        private int[] sources = new int[16];
+        private double[] costs = new double[16];
+        private int size;
+
+        void add(int target, int source, double cost) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, 2 * size);
+                sources = Arrays.copyOf(sources, 2 * size);
+                costs = Arrays.copyOf(costs, 2 * size);
+            }
+            targets[size] = target;
+            sources[size] = source;
+            costs[size++] = cost;
+        }
+    }
+
+    /**
+     * The cheapest path costs from one source vertex.
+     *
+     * @param <T> The type of vertex labels.
+     */
+    public static final class Result<T> {
+        private final CompressedGraph<T> graph;
+        private final double[] distance;
+        private final int[] predecessor;
+        private final int phases;
+        private final long elapsedNanos;
+
+        private Result(CompressedGraph<T> graph, double[] distance, int[] predecessor, int phases,
+                       long elapsedNanos) {
+            this.graph = graph;
+            this.distance = distance;
+            this.predecessor = predecessor;
+            this.phases = phases;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns the cost of the cheapest path to every vertex, indexed by the vertex
+         * ids of the searched snapshot. The array is not copied and must not be changed.
+         *
+         * @return The costs, {@link Double#POSITIVE_INFINITY} for unreachable vertices.
+         */
+        public double[] getDistances() {
+            return distance;
+        }
+
+        /**
+         * Returns the id of a vertex in {@link #getDistances()}.
+         *
+         * @param vertexLabel The label of the vertex.
+         * @return The vertex id, or {@code -1} if the label is not in the graph.
+         */
+        public int getVertexId(T vertexLabel) {
+            return graph.getVertexId(vertexLabel);
+        }
+
+        /**
+         * Returns the cost of the cheapest path to a vertex.
+         *
+         * @param vertexLabel The label of the vertex.
+         * @return The cost, or {@link Double#POSITIVE_INFINITY} if the vertex is
+         *         unreachable or not in the graph.
+         */
+        public double getDistance(T vertexLabel) {
+            int id = graph.getVertexId(vertexLabel);
+            return (id < 0) ? Double.POSITIVE_INFINITY : distance[id];
+        }
+
+        /**
+         * Pushes the labels of the cheapest path to a vertex onto a stack, like
+         * {@link GraphInterface#getCheapestPath(Object, Object, StackInterface)}, so the
+         * source ends up on top.
+         *
+         * @param end  The label of the last vertex of the path.
+         * @param path A stack to hold the labels of the vertices in the path.
+         * @return The cost of the path, or {@code -1} if the vertex is unreachable or not in the graph.
+         */
+        public double getPath(T end, StackInterface<T> path) {
+            int endId = graph.getVertexId(end);
+            if (endId < 0 || distance[endId] == Double.POSITIVE_INFINITY) {
+                return -1;
+            }
+            for (int id = endId; id >= 0; id = predecessor[id]) {
+                path.push(graph.getLabel(id));
+            }
+            return distance[endId];
+        }
+
+        /**
+         * Returns the number of light-edge phases run.
+         *
+         * @return The phase count.
+         */
+        public int getPhases() {
+            return phases;
+        }
+
+        /**
+         * Returns how long the computation took, including copying the edges.
+         *
+         * @return The elapsed time in nanoseconds.
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
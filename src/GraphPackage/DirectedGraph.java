@@ -1,29 +1,76 @@
 package GraphPackage;
 
-import ADTPackage.LinkedQueue;
-import ADTPackage.LinkedStack;
-import ADTPackage.PriorityQueueInterface;
+import ADTPackage.ArrayQueue;
+import ADTPackage.DictionaryInterface;
+import ADTPackage.HashedDictionary;
+import ADTPackage.IndexedMinHeap;
+import ADTPackage.IntArrayQueue;
+import ADTPackage.IntStack;
 import ADTPackage.QueueInterface;
 import ADTPackage.StackInterface;
 import ADTPackage.UnsortedLinkedDictionary;
-import ADTPackage.HeapPriorityQueue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
 
 /**
  * A class that implements a directed graph using vertices and edges.
+ * Traversals keep their visited marks, costs and predecessors in pooled per-query
+ * contexts rather than on the vertices, so any number of threads may query the
+ * graph at once as long as no thread modifies it meanwhile.
  *
  * @param <T> The type of vertex labels (must be unique).
  */
 public class DirectedGraph<T> implements GraphInterface<T> {
-    private final UnsortedLinkedDictionary<T, VertexInterface<T>> vertices;
+    private final DictionaryInterface<T, VertexInterface<T>> vertices;
+    private final List<VertexInterface<T>> vertexList; // Vertex of each id, null once removed
+    private volatile List<List<VertexInterface<T>>> incomingLists; // Reverse adjacency by id, built on first use
+    private final Queue<TraversalContext> contextPool;   // Idle per-query traversal state
+    private final int neighborIndexThreshold;
     private int edgeCount;
 
     /**
      * Constructs an empty directed graph.
      */
     public DirectedGraph() {
-        vertices = new UnsortedLinkedDictionary<>();
+        this(new UnsortedLinkedDictionary<>());
+    }
+
+    /**
+     * Constructs an empty directed graph that stores its vertices in the given dictionary.
+     * Passing a {@link ADTPackage.HashedDictionary} gives constant expected time vertex lookups.
+     *
+     * @param vertexDictionary An empty dictionary used to map labels to vertices.
+     * @throws IllegalArgumentException if the dictionary is null or not empty.
+     */
+    public DirectedGraph(DictionaryInterface<T, VertexInterface<T>> vertexDictionary) {
+        this(vertexDictionary, Vertex.DEFAULT_INDEX_THRESHOLD);
+    }
+
+    /**
+     * Constructs an empty directed graph whose vertices switch from scanning their edges to
+     * a hash index once their degree passes the given threshold.
+     *
+     * @param vertexDictionary       An empty dictionary used to map labels to vertices.
+     * @param neighborIndexThreshold The degree above which a vertex indexes its edges.
+     * @throws IllegalArgumentException if the dictionary is null or not empty, or the threshold is negative.
+     */
+    public DirectedGraph(DictionaryInterface<T, VertexInterface<T>> vertexDictionary, int neighborIndexThreshold) {
+        if (vertexDictionary == null || !vertexDictionary.isEmpty()) {
+            throw new IllegalArgumentException("Vertex dictionary must be empty.");
+        }
+        if (neighborIndexThreshold < 0) {
+            throw new IllegalArgumentException("Index threshold must not be negative.");
+        }
+        this.neighborIndexThreshold = neighborIndexThreshold;
+        vertices = vertexDictionary;
+        vertexList = new ArrayList<>();
+        contextPool = new ConcurrentLinkedQueue<>();
         edgeCount = 0;
     }
 
@@ -35,8 +82,56 @@ public class DirectedGraph<T> implements GraphInterface<T> {
      */
     @Override
     public boolean addVertex(T vertexLabel) {
-        VertexInterface<T> addOutcome = vertices.add(vertexLabel, new Vertex<>(vertexLabel));
-        return addOutcome == null;
+        if (vertices.contains(vertexLabel)) {
+            return false;  // Keep the existing vertex and its edges
+        }
+        VertexInterface<T> newVertex = new Vertex<>(vertexLabel, vertexList.size(), neighborIndexThreshold);
+        vertices.add(vertexLabel, newVertex);
+        vertexList.add(newVertex);
+        if (incomingLists != null) {
+            incomingLists.add(new ArrayList<>());
+        }
+        return true;
+    }
+
+    /**
+     * Adds vertices built by {@link GraphBuilder} to this empty graph. The vertex ids must
+     * run from 0 in array order, and their edges must already be in place.
+     *
+     * @param builtVertices The vertices, indexed by id.
+     * @param builtEdges    The total number of edges of the vertices.
+     */
+    void addBuiltVertices(Vertex<T>[] builtVertices, int builtEdges) {
+        if (!vertexList.isEmpty() || incomingLists != null) {
+            throw new IllegalStateException("Built vertices can only be added to an empty graph.");
+        }
+        for (Vertex<T> vertex : builtVertices) {
+            vertices.add(vertex.getLabel(), vertex);
+            vertexList.add(vertex);
+        }
+        edgeCount = builtEdges;
+    }
+
+    /**
+     * Returns the vertex with the given label, or null if there is none.
+     */
+    VertexInterface<T> getVertex(T label) {
+        return vertices.getValue(label);
+    }
+
+    /**
+     * Returns the vertex with the given id, or null if it was removed.
+     */
+    VertexInterface<T> getVertexById(int id) {
+        return vertexList.get(id);
+    }
+
+    /**
+     * Returns one more than the largest vertex id handed out so far, including the ids
+     * of removed vertices.
+     */
+    int getVertexIdBound() {
+        return vertexList.size();
     }
 
     /**
@@ -52,9 +147,14 @@ public class DirectedGraph<T> implements GraphInterface<T> {
         VertexInterface<T> beginVertex = vertices.getValue(begin);
         VertexInterface<T> endVertex = vertices.getValue(end);
 
-        if (beginVertex != null && endVertex != null && !beginVertex.hasEdge(endVertex)) {
-            boolean result = beginVertex.connect(endVertex, edgeWeight);
-            if (result) edgeCount++;
+        if (beginVertex != null && endVertex != null) {
+            boolean result = beginVertex.connect(endVertex, edgeWeight);  // False if the edge exists
+            if (result) {
+                edgeCount++;
+                if (incomingLists != null) {
+                    incomingLists.get(endVertex.getId()).add(beginVertex);
+                }
+            }
             return result;
         }
         return false;
@@ -104,8 +204,20 @@ public class DirectedGraph<T> implements GraphInterface<T> {
         }
 
         vertices.remove(vertexLabel);
+        vertexList.set(vertexToRemove.getId(), null);
         edgeCount -= vertexToRemove.getNeighborCount();
 
+        if (incomingLists != null) {
+            Iterator<VertexInterface<T>> neighbors = vertexToRemove.getNeighborIterator();
+            while (neighbors.hasNext()) {
+                VertexInterface<T> neighbor = neighbors.next();
+                if (neighbor != vertexToRemove) {
+                    incomingLists.get(neighbor.getId()).remove(vertexToRemove);
+                }
+            }
+            incomingLists.set(vertexToRemove.getId(), null);
+        }
+
         Iterator<VertexInterface<T>> vertexIterator = vertices.getValueIterator();
         while (vertexIterator.hasNext()) {
             VertexInterface<T> currentVertex = vertexIterator.next();
@@ -152,6 +264,8 @@ public class DirectedGraph<T> implements GraphInterface<T> {
     @Override
     public void clear() {
         vertices.clear();
+        vertexList.clear();
+        incomingLists = null;
         edgeCount = 0;
     }
 
@@ -163,28 +277,32 @@ public class DirectedGraph<T> implements GraphInterface<T> {
      */
     @Override
     public QueueInterface<T> getBreadthFirstTraversal(T origin) {
-        resetVertices();
-        QueueInterface<T> traversalOrder = new LinkedQueue<>();
-        QueueInterface<VertexInterface<T>> vertexQueue = new LinkedQueue<>();
-
+        QueueInterface<T> traversalOrder = new ArrayQueue<>();
         VertexInterface<T> originVertex = vertices.getValue(origin);
-        if (originVertex != null) {
-            originVertex.visit();
-            traversalOrder.enqueue(origin);
-            vertexQueue.enqueue(originVertex);
 
-            while (!vertexQueue.isEmpty()) {
-                VertexInterface<T> frontVertex = vertexQueue.dequeue();
-                Iterator<VertexInterface<T>> neighbors = frontVertex.getNeighborIterator();
+        if (originVertex != null) {
+            TraversalContext context = acquireContext();
+            try {
+                IntArrayQueue vertexQueue = context.frontier;
+                context.reach(originVertex.getId(), -1);
+                traversalOrder.enqueue(origin);
+                vertexQueue.enqueue(originVertex.getId());
+
+                while (!vertexQueue.isEmpty()) {
+                    VertexInterface<T> frontVertex = vertexList.get(vertexQueue.dequeue());
+                    Iterator<VertexInterface<T>> neighbors = frontVertex.getNeighborIterator();
 
-                while (neighbors.hasNext()) {
-                    VertexInterface<T> nextNeighbor = neighbors.next();
-                    if (!nextNeighbor.isVisited()) {
-                        nextNeighbor.visit();
-                        traversalOrder.enqueue(nextNeighbor.getLabel());
-                        vertexQueue.enqueue(nextNeighbor);
+                    while (neighbors.hasNext()) {
+                        VertexInterface<T> nextNeighbor = neighbors.next();
+                        if (!context.isReached(nextNeighbor.getId())) {
+                            context.reach(nextNeighbor.getId(), frontVertex.getId());
+                            traversalOrder.enqueue(nextNeighbor.getLabel());
+                            vertexQueue.enqueue(nextNeighbor.getId());
+                        }
                     }
                 }
+            } finally {
+                releaseContext(context);
             }
         }
         return traversalOrder;
@@ -192,33 +310,52 @@ public class DirectedGraph<T> implements GraphInterface<T> {
 
     /**
      * Returns a depth-first traversal of the graph starting from the specified vertex.
+     * Each stack frame keeps the position of the next edge to examine, so a vertex's
+     * neighbors are resumed where the search left off instead of being rescanned from
+     * the first edge, and the traversal takes O(V + E) time.
      *
      * @param origin The label of the vertex to start the traversal.
      * @return A queue containing the labels of the vertices in depth-first order.
      */
     @Override
     public QueueInterface<T> getDepthFirstTraversal(T origin) {
-        resetVertices();
-        QueueInterface<T> traversalOrder = new LinkedQueue<>();
-        StackInterface<VertexInterface<T>> vertexStack = new LinkedStack<>();
-
+        QueueInterface<T> traversalOrder = new ArrayQueue<>();
         VertexInterface<T> originVertex = vertices.getValue(origin);
+
         if (originVertex != null) {
-            originVertex.visit();
-            traversalOrder.enqueue(origin);
-            vertexStack.push(originVertex);
-
-            while (!vertexStack.isEmpty()) {
-                VertexInterface<T> topVertex = vertexStack.peek();
-                VertexInterface<T> nextNeighbor = topVertex.getUnvisitedNeighbor();
-
-                if (nextNeighbor != null) {
-                    nextNeighbor.visit();
-                    traversalOrder.enqueue(nextNeighbor.getLabel());
-                    vertexStack.push(nextNeighbor);
-                } else {
-                    vertexStack.pop();
+            TraversalContext context = acquireContext();
+            try {
+                IntStack vertexStack = context.vertexStack;
+                IntStack nextEdge = context.edgeCursors;  // Parallel to vertexStack
+                context.reach(originVertex.getId(), -1);
+                traversalOrder.enqueue(origin);
+                vertexStack.push(originVertex.getId());
+                nextEdge.push(0);
+
+                while (!vertexStack.isEmpty()) {
+                    int topId = vertexStack.peek();
+                    VertexInterface<T> topVertex = vertexList.get(topId);
+                    int edge = nextEdge.pop();
+                    int end = topVertex.getNeighborCount();
+
+                    // Edges before the cursor lead to reached vertices, which stay reached
+                    while (edge < end && context.isReached(topVertex.getNeighbor(edge).getId())) {
+                        edge++;
+                    }
+
+                    if (edge < end) {
+                        VertexInterface<T> nextNeighbor = topVertex.getNeighbor(edge);
+                        nextEdge.push(edge + 1);
+                        context.reach(nextNeighbor.getId(), topId);
+                        traversalOrder.enqueue(nextNeighbor.getLabel());
+                        vertexStack.push(nextNeighbor.getId());
+                        nextEdge.push(0);
+                    } else {
+                        vertexStack.pop();
+                    }
                 }
+            } finally {
+                releaseContext(context);
             }
         }
         return traversalOrder;
@@ -234,10 +371,6 @@ public class DirectedGraph<T> implements GraphInterface<T> {
      */
     @Override
     public int getShortestPath(T begin, T end, StackInterface<T> path) {
-        resetVertices();
-        boolean done = false;
-
-        QueueInterface<VertexInterface<T>> vertexQueue = new LinkedQueue<>();
         VertexInterface<T> originVertex = vertices.getValue(begin);
         VertexInterface<T> endVertex = vertices.getValue(end);
 
@@ -245,43 +378,282 @@ public class DirectedGraph<T> implements GraphInterface<T> {
             return -1;
         }
 
-        originVertex.visit();
-        vertexQueue.enqueue(originVertex);
+        TraversalContext context = acquireContext();
+        try {
+            IntArrayQueue vertexQueue = context.frontier;
+            int endId = endVertex.getId();
+            boolean done = false;
+
+            context.reach(originVertex.getId(), -1);
+            vertexQueue.enqueue(originVertex.getId());
+
+            while (!done && !vertexQueue.isEmpty()) {
+                int frontId = vertexQueue.dequeue();
+                Iterator<VertexInterface<T>> neighbors = vertexList.get(frontId).getNeighborIterator();
+
+                while (!done && neighbors.hasNext()) {
+                    int neighborId = neighbors.next().getId();
+                    if (!context.isReached(neighborId)) {
+                        context.reach(neighborId, frontId);
+                        vertexQueue.enqueue(neighborId);
+                        done = neighborId == endId;
+                    }
+                }
+            }
+
+            if (done) {
+                return pushPath(endId, context.forwardLink, path) - 1;
+            }
+            return -1;
+        } finally {
+            releaseContext(context);
+        }
+    }
+
+    /**
+     * Finds the shortest path from the {@code begin} vertex to the {@code end} vertex using a
+     * bidirectional breadth-first search. One search grows forward from {@code begin} and another
+     * grows backward from {@code end} along incoming edges; each round expands one whole level of
+     * whichever frontier is smaller, and the search stops once the two meet. On small-world graphs
+     * this explores far fewer vertices than a single breadth-first search.
+     *
+     * @param begin The label of the starting vertex.
+     * @param end   The label of the ending vertex.
+     * @param path  A stack to hold the labels of the vertices in the shortest path.
+     * @return The number of edges in the shortest path, or {@code -1} if no path exists.
+     */
+    public int getShortestPathBidirectional(T begin, T end, StackInterface<T> path) {
+        VertexInterface<T> originVertex = vertices.getValue(begin);
+        VertexInterface<T> endVertex = vertices.getValue(end);
 
-        while (!done && !vertexQueue.isEmpty()) {
-            VertexInterface<T> frontVertex = vertexQueue.dequeue();
-            Iterator<VertexInterface<T>> neighbors = frontVertex.getNeighborIterator();
+        // Like getShortestPath, a vertex is never reported as a path to itself
+        if (originVertex == null || endVertex == null || originVertex == endVertex) {
+            return -1;
+        }
 
-            while (!done && neighbors.hasNext()) {
-                VertexInterface<T> nextNeighbor = neighbors.next();
-                if (!nextNeighbor.isVisited()) {
-                    nextNeighbor.visit();
-                    nextNeighbor.setPredecessor(frontVertex);
-                    vertexQueue.enqueue(nextNeighbor);
+        TraversalContext context = acquireContext();
+        try {
+            int originId = originVertex.getId();
+            int endId = endVertex.getId();
+            context.reach(originId, -1);
+            context.forwardDistance[originId] = 0;
+            context.forwardQueue[0] = originId;
+            context.reachBackward(endId, -1);
+            context.backwardDistance[endId] = 0;
+            context.backwardQueue[0] = endId;
+
+            int forwardHead = 0;
+            int forwardTail = 1;
+            int backwardHead = 0;
+            int backwardTail = 1;
+            int bestLength = Integer.MAX_VALUE;
+            int meetFrom = -1;  // Last vertex reached by the forward search on the best path
+            int meetTo = -1;    // First vertex reached by the backward search on the best path
+
+            while (bestLength == Integer.MAX_VALUE && forwardHead < forwardTail && backwardHead < backwardTail) {
+                boolean expandForward = forwardTail - forwardHead <= backwardTail - backwardHead;
+                int[] queue = expandForward ? context.forwardQueue : context.backwardQueue;
+                int[] distance = expandForward ? context.forwardDistance : context.backwardDistance;
+                int[] otherDistance = expandForward ? context.backwardDistance : context.forwardDistance;
+                int head = expandForward ? forwardHead : backwardHead;
+                int levelEnd = expandForward ? forwardTail : backwardTail;
+                int tail = levelEnd;
+
+                // Expand the whole level so the shortest of all meeting points is found
+                for (; head < levelEnd; head++) {
+                    int currentId = queue[head];
+                    VertexInterface<T> currentVertex = vertexList.get(currentId);
+                    Iterator<VertexInterface<T>> neighbors = expandForward
+                            ? currentVertex.getNeighborIterator()
+                            : getIncomingNeighborIterator(currentVertex);
 
-                    if (nextNeighbor.equals(endVertex)) {
-                        done = true;
+                    while (neighbors.hasNext()) {
+                        int neighborId = neighbors.next().getId();
+                        boolean reachedByOther = expandForward
+                                ? context.isReachedBackward(neighborId)
+                                : context.isReached(neighborId);
+                        if (reachedByOther) {
+                            int length = distance[currentId] + 1 + otherDistance[neighborId];
+                            if (length < bestLength) {
+                                bestLength = length;
+                                meetFrom = expandForward ? currentId : neighborId;
+                                meetTo = expandForward ? neighborId : currentId;
+                            }
+                        }
+
+                        boolean reachedBySelf = expandForward
+                                ? context.isReached(neighborId)
+                                : context.isReachedBackward(neighborId);
+                        if (!reachedBySelf) {
+                            if (expandForward) {
+                                context.reach(neighborId, currentId);
+                            } else {
+                                context.reachBackward(neighborId, currentId);
+                            }
+                            distance[neighborId] = distance[currentId] + 1;
+                            queue[tail++] = neighborId;
+                        }
                     }
                 }
+
+                if (expandForward) {
+                    forwardHead = head;
+                    forwardTail = tail;
+                } else {
+                    backwardHead = head;
+                    backwardTail = tail;
+                }
+            }
+
+            if (bestLength == Integer.MAX_VALUE) {
+                return -1;
+            }
+
+            // Push the backward half from end to the meeting point, then the forward half back to begin
+            IntStack backwardHalf = context.vertexStack;
+            for (int id = meetTo; id >= 0; id = context.backwardLink[id]) {
+                backwardHalf.push(id);
+            }
+            while (!backwardHalf.isEmpty()) {
+                path.push(vertexList.get(backwardHalf.pop()).getLabel());
             }
+            pushPath(meetFrom, context.forwardLink, path);
+            return bestLength;
+        } finally {
+            releaseContext(context);
         }
+    }
+
+    /**
+     * Finds the breadth-first distances from each of many sources to every vertex.
+     * Sources are searched 64 at a time in one multi-source breadth-first search: each
+     * vertex holds a 64-bit mask of the sources that have reached it and of those
+     * whose frontier it is on, so an edge is read once per level for the whole batch
+     * instead of once per source. Batches run in parallel on the common fork-join pool.
+     *
+     * @param sources The labels of the sources; labels not in the graph reach nothing.
+     * @return The distances from each source, in the order given.
+     */
+    public BatchDistances<T> getDistances(List<T> sources) {
+        List<T> sourceList = new ArrayList<>(sources);
+        int vertexBound = vertexList.size();
+        int[][] rows = new int[sourceList.size()][];
+        int batches = (sourceList.size() + Long.SIZE - 1) / Long.SIZE;
+        IntStream.range(0, batches).parallel().forEach(batch -> {
+            int first = batch * Long.SIZE;
+            int last = Math.min(first + Long.SIZE, sourceList.size());
+            searchBatch(sourceList.subList(first, last), vertexBound, rows, first);
+        });
+        return new BatchDistances<>(this, sourceList, rows);
+    }
 
-        if (done) {
-            int pathLength = 0;
-            VertexInterface<T> vertex = endVertex;
+    /**
+     * Runs one multi-source breadth-first search for up to 64 sources, filling their
+     * rows of distances starting at row {@code firstRow}.
+     */
+    private void searchBatch(List<T> batch, int vertexBound, int[][] rows, int firstRow) {
+        long[] seen = new long[vertexBound];       // Sources that have reached each vertex
+        long[] visit = new long[vertexBound];      // Sources whose current frontier holds each vertex
+        long[] visitNext = new long[vertexBound];  // Sources whose next frontier holds each vertex
+        int[] frontier = new int[vertexBound];
+        int[] nextFrontier = new int[vertexBound];
+        int frontierSize = 0;
+
+        for (int bit = 0; bit < batch.size(); bit++) {
+            VertexInterface<T> source = vertices.getValue(batch.get(bit));
+            if (source == null) {
+                continue;
+            }
+            int[] row = new int[vertexBound];
+            Arrays.fill(row, -1);
+            rows[firstRow + bit] = row;
+
+            int id = source.getId();
+            row[id] = 0;
+            if (visit[id] == 0) {
+                frontier[frontierSize++] = id;
+            }
+            seen[id] |= 1L << bit;
+            visit[id] |= 1L << bit;
+        }
 
-            while (vertex != null) {
-                path.push(vertex.getLabel());
-                vertex = vertex.getPredecessor();
-                pathLength++;
+        for (int level = 1; frontierSize > 0; level++) {
+            int nextSize = 0;
+            for (int i = 0; i < frontierSize; i++) {
+                int frontId = frontier[i];
+                long frontMask = visit[frontId];
+                VertexInterface<T> frontVertex = vertexList.get(frontId);
+                int degree = frontVertex.getNeighborCount();
+                for (int edge = 0; edge < degree; edge++) {
+                    int neighborId = frontVertex.getNeighbor(edge).getId();
+                    long arriving = frontMask & ~seen[neighborId];
+                    if (arriving != 0) {
+                        if (visitNext[neighborId] == 0) {
+                            nextFrontier[nextSize++] = neighborId;
+                        }
+                        visitNext[neighborId] |= arriving;
+                        seen[neighborId] |= arriving;
+                        // Record the level for each source that just arrived
+                        for (long bits = arriving; bits != 0; bits &= bits - 1) {
+                            rows[firstRow + Long.numberOfTrailingZeros(bits)][neighborId] = level;
+                        }
+                    }
+                }
+                visit[frontId] = 0;
             }
-            return pathLength - 1;
+
+            long[] swapMasks = visit;
+            visit = visitNext;
+            visitNext = swapMasks;
+            int[] swapFrontier = frontier;
+            frontier = nextFrontier;
+            nextFrontier = swapFrontier;
+            frontierSize = nextSize;
+        }
+    }
+
+    /**
+     * Returns an iterator over the vertices that have an edge to the given vertex.
+     * The reverse adjacency index is built on the first call and kept up to date afterwards.
+     *
+     * @param vertex A vertex of this graph.
+     * @return An iterator over the vertices with an edge ending at {@code vertex}.
+     */
+    protected Iterator<VertexInterface<T>> getIncomingNeighborIterator(VertexInterface<T> vertex) {
+        List<List<VertexInterface<T>>> lists = incomingLists;
+        if (lists == null) {
+            lists = buildIncomingLists();
         }
-        return -1;
+        return lists.get(vertex.getId()).iterator();
+    }
+
+    /**
+     * Builds the reverse adjacency index from the current edges, unless a concurrent query already has.
+     */
+    private synchronized List<List<VertexInterface<T>>> buildIncomingLists() {
+        if (incomingLists != null) {
+            return incomingLists;
+        }
+        List<List<VertexInterface<T>>> lists = new ArrayList<>(vertexList.size());
+        for (VertexInterface<T> vertex : vertexList) {
+            lists.add(vertex == null ? null : new ArrayList<>());
+        }
+        for (VertexInterface<T> vertex : vertexList) {
+            if (vertex != null) {
+                Iterator<VertexInterface<T>> neighbors = vertex.getNeighborIterator();
+                while (neighbors.hasNext()) {
+                    lists.get(neighbors.next().getId()).add(vertex);
+                }
+            }
+        }
+        incomingLists = lists;
+        return lists;
     }
 
     /**
      * Finds the cheapest path from the {@code begin} vertex to the {@code end} vertex using Dijkstra's algorithm.
+     * Tentative costs and predecessors are kept in primitive arrays indexed by vertex id, and each
+     * vertex is held in an indexed min-heap at most once, with its key lowered as cheaper edges are found.
      *
      * @param begin The label of the starting vertex.
      * @param end   The label of the ending vertex.
@@ -290,10 +662,24 @@ public class DirectedGraph<T> implements GraphInterface<T> {
      */
     @Override
     public double getCheapestPath(T begin, T end, StackInterface<T> path) {
-        resetVertices();
-        boolean done = false;
+        return getCheapestPath(begin, end, path, null, null);
+    }
 
-        PriorityQueueInterface<EntryPQ> priorityQueue = new HeapPriorityQueue<>();
+    /**
+     * Finds the cheapest path from the {@code begin} vertex to the {@code end} vertex using A* search,
+     * which runs the Dijkstra search above with each vertex keyed by its cost plus the heuristic's
+     * estimate. The estimate is computed each time a vertex's cost is lowered.
+     *
+     * @param begin      The label of the starting vertex.
+     * @param end        The label of the ending vertex.
+     * @param path       A stack to hold the labels of the vertices in the cheapest path.
+     * @param heuristic  A consistent estimate of the cost to {@code end}, or null for plain Dijkstra.
+     * @param statistics Where to record the number of vertices settled, or null.
+     * @return The total cost of the cheapest path, or {@code -1} if no path exists.
+     */
+    @Override
+    public double getCheapestPath(T begin, T end, StackInterface<T> path, DistanceHeuristic<T> heuristic,
+                                  SearchStatistics statistics) {
         VertexInterface<T> originVertex = vertices.getValue(begin);
         VertexInterface<T> endVertex = vertices.getValue(end);
 
@@ -301,91 +687,123 @@ public class DirectedGraph<T> implements GraphInterface<T> {
             return -1;
         }
 
-        priorityQueue.add(new EntryPQ(originVertex, 0, null));
-
-        while (!done && !priorityQueue.isEmpty()) {
-            EntryPQ frontEntry = priorityQueue.remove();
-            VertexInterface<T> frontVertex = frontEntry.getVertex();
-
-            if (!frontVertex.isVisited()) {
-                frontVertex.visit();
-                frontVertex.setCost(frontEntry.getCost());
-                frontVertex.setPredecessor(frontEntry.getPredecessor());
-
-                if (frontVertex.equals(endVertex)) {
-                    done = true;
-                } else {
-                    Iterator<VertexInterface<T>> neighbors = frontVertex.getNeighborIterator();
-                    Iterator<Double> edgeWeights = frontVertex.getWeightIterator();
-
-                    while (neighbors.hasNext()) {
-                        VertexInterface<T> nextNeighbor = neighbors.next();
-                        double weight = edgeWeights.next();
+        TraversalContext context = acquireContext();
+        int settledCount = 0;
+        try {
+            double[] cost = context.cost;
+            IndexedMinHeap priorityQueue = context.heap;
+            int originId = originVertex.getId();
+            int endId = endVertex.getId();
+
+            context.reach(originId, -1);
+            cost[originId] = 0;
+            priorityQueue.add(originId, (heuristic == null) ? 0 : heuristic.estimate(begin, end));
+
+            while (!priorityQueue.isEmpty()) {
+                int frontId = priorityQueue.removeMin();
+                context.settle(frontId);
+                settledCount++;
+
+                if (frontId == endId) {
+                    pushPath(endId, context.forwardLink, path);
+                    return cost[endId];
+                }
 
-                        if (!nextNeighbor.isVisited()) {
-                            double nextCost = frontVertex.getCost() + weight;
-                            priorityQueue.add(new EntryPQ(nextNeighbor, nextCost, frontVertex));
-                        }
+                // Read the edges by index so no weight is boxed and no iterator is allocated
+                VertexInterface<T> frontVertex = vertexList.get(frontId);
+                int degree = frontVertex.getNeighborCount();
+                for (int edge = 0; edge < degree; edge++) {
+                    VertexInterface<T> neighbor = frontVertex.getNeighbor(edge);
+                    int neighborId = neighbor.getId();
+                    double nextCost = cost[frontId] + frontVertex.getWeight(edge);
+
+                    if (!context.isSettled(neighborId)
+                            && (!context.isReached(neighborId) || nextCost < cost[neighborId])) {
+                        context.reach(neighborId, frontId);
+                        cost[neighborId] = nextCost;
+                        double key = (heuristic == null) ? nextCost
+                                : nextCost + heuristic.estimate(neighbor.getLabel(), end);
+                        priorityQueue.addOrDecreaseKey(neighborId, key);
                     }
                 }
             }
-        }
-
-        if (done) {
-            double pathCost = endVertex.getCost();
-            VertexInterface<T> vertex = endVertex;
-
-            while (vertex != null) {
-                path.push(vertex.getLabel());
-                vertex = vertex.getPredecessor();
+            return -1;
+        } finally {
+            releaseContext(context);
+            if (statistics != null) {
+                statistics.record(settledCount);
             }
-            return pathCost;
         }
-        return -1;
     }
 
     /**
-     * Resets all vertices to their initial state (unvisited, with no predecessors).
+     * Pushes the labels on the predecessor chain ending at the given vertex onto a stack.
+     *
+     * @return The number of vertices pushed.
      */
-    private void resetVertices() {
-        Iterator<VertexInterface<T>> vertexIterator = vertices.getValueIterator();
-        while (vertexIterator.hasNext()) {
-            VertexInterface<T> nextVertex = vertexIterator.next();
-            nextVertex.unvisit();
-            nextVertex.setCost(0);
-            nextVertex.setPredecessor(null);
+    private int pushPath(int endId, int[] predecessor, StackInterface<T> path) {
+        int pathLength = 0;
+        for (int id = endId; id >= 0; id = predecessor[id]) {
+            path.push(vertexList.get(id).getLabel());
+            pathLength++;
         }
+        return pathLength;
     }
 
     /**
-     * A helper class used for the priority queue in the cheapest path algorithm.
+     * Takes a traversal context from the pool, or creates one if none is free,
+     * and starts a new query on it.
      */
-    private class EntryPQ implements Comparable<EntryPQ> {
-        private final VertexInterface<T> vertex;
-        private final VertexInterface<T> predecessor;
-        private final double cost;
-
-        public EntryPQ(VertexInterface<T> vertex, double cost, VertexInterface<T> predecessor) {
-            this.vertex = vertex;
-            this.predecessor = predecessor;
-            this.cost = cost;
-        }
-
-        public VertexInterface<T> getVertex() {
-            return vertex;
+    private TraversalContext acquireContext() {
+        TraversalContext context = contextPool.poll();
+        if (context == null) {
+            context = new TraversalContext(vertexList.size());
         }
+        context.begin(vertexList.size());
+        return context;
+    }
 
-        public double getCost() {
-            return cost;
-        }
+    /**
+     * Returns a traversal context to the pool once its query is finished.
+     */
+    private void releaseContext(TraversalContext context) {
+        contextPool.offer(context);
+    }
 
-        public VertexInterface<T> getPredecessor() {
-            return predecessor;
+    /**
+     * Takes an immutable compressed sparse row snapshot of this graph. The snapshot
+     * supports all read operations of {@link GraphInterface} over primitive arrays and
+     * is unaffected by later changes to this graph.
+     *
+     * @return A read-only CSR view of the current vertices and edges.
+     */
+    public CompressedGraph<T> freeze() {
+        int vertexCount = vertices.getSize();
+        @SuppressWarnings("unchecked")
+        T[] labels = (T[]) new Object[vertexCount];
+        HashedDictionary<VertexInterface<T>, Integer> vertexIds = new HashedDictionary<>(vertexCount);
+
+        // Number the vertices in dictionary order and count their edges
+        int[] offsets = new int[vertexCount + 1];
+        Iterator<VertexInterface<T>> vertexIterator = vertices.getValueIterator();
+        for (int id = 0; id < vertexCount; id++) {
+            VertexInterface<T> vertex = vertexIterator.next();
+            labels[id] = vertex.getLabel();
+            vertexIds.add(vertex, id);
+            offsets[id + 1] = offsets[id] + vertex.getNeighborCount();
         }
 
-        @Override
-        public int compareTo(EntryPQ otherEntry) {
-            return Double.compare(this.cost, otherEntry.cost);
+        // Copy each adjacency list into its slice of the edge arrays
+        int[] targets = new int[offsets[vertexCount]];
+        double[] weights = new double[offsets[vertexCount]];
+        for (int id = 0; id < vertexCount; id++) {
+            VertexInterface<T> vertex = vertices.getValue(labels[id]);
+            int degree = vertex.getNeighborCount();
+            for (int edge = 0; edge < degree; edge++) {
+                targets[offsets[id] + edge] = vertexIds.getValue(vertex.getNeighbor(edge));
+                weights[offsets[id] + edge] = vertex.getWeight(edge);
+            }
         }
+        return new CompressedGraph<>(labels, offsets, targets, weights, getNumberOfEdges());
     }
 }
@@ -0,0 +1,25 @@
+package GraphPackage;
+
+/**
+ * Estimates the cost of the cheapest path between two vertices, to guide an A*
+ * search toward its goal.
+ *
+ * <p>The estimate must never exceed the true cost (admissible), and must not drop by
+ * more than an edge's weight across that edge (consistent). Straight-line distance
+ * between embedded vertices and landmark distance bounds are both.
+ *
+ * @param <T> The type of vertex labels.
+ * @see GraphInterface#getCheapestPath(Object, Object, ADTPackage.StackInterface, DistanceHeuristic, SearchStatistics)
+ */
+@FunctionalInterface
+public interface DistanceHeuristic<T> {
+
+    /**
+     * Estimates the cost of the cheapest path from one vertex to another.
+     *
+     * @param current The label of the vertex the path starts at.
+     * @param goal    The label of the vertex the path ends at.
+     * @return A lower bound on the path cost, at least 0.
+     */
+    double estimate(T current, T goal);
+}
@@ -0,0 +1,19 @@
+package GraphPackage;
+
+/**
+ * Receives the edges of a vertex as primitive values, so weighted graph algorithms
+ * can walk an adjacency list without boxing the edge weights.
+ *
+ * @see VertexInterface#forEachNeighbor(EdgeConsumer)
+ */
+@FunctionalInterface
+public interface EdgeConsumer {
+
+    /**
+     * Accepts one edge.
+     *
+     * @param neighborId The graph id of the edge's end vertex.
+     * @param weight     The weight of the edge.
+     */
+    void accept(int neighborId, double weight);
+}
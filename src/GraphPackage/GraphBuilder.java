@@ -0,0 +1,347 @@
+package GraphPackage;
+
+import ADTPackage.HashedDictionary;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Builds a {@link DirectedGraph}, {@link UndirectedGraph} or {@link CompressedGraph}
+ * from many edges at once.
+ * Edges are collected as primitive id triples, then grouped by begin vertex with a
+ * counting sort, and duplicate edges are dropped in parallel so each vertex gets its
+ * adjacency arrays allocated once at their exact size. The result is the same graph
+ * that adding the vertices in first-seen order and then each edge in turn would give:
+ * the first of several parallel edges keeps its weight, and every vertex lists its
+ * edges in the order they were added.
+ *
+ * <p>A builder is not thread-safe and can build any number of graphs.
+ *
+ * @param <T> The type of vertex labels (must be unique).
+ */
+public class GraphBuilder<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final HashedDictionary<T, Integer> ids;  // Dense id of each label, in first-seen order
+    private T[] labels;
+    private int vertexCount;
+    private int[] begins;
+    private int[] ends;
+    private double[] weights;
+    private int edgeCount;
+    private int neighborIndexThreshold = Vertex.DEFAULT_INDEX_THRESHOLD;
+
+    /**
+     * Creates an empty builder.
+     */
+    public GraphBuilder() {
+        this(DEFAULT_CAPACITY, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty builder sized for the given numbers of vertices and edges.
+     *
+     * @param expectedVertices The number of distinct vertices expected.
+     * @param expectedEdges    The number of edges expected, counting duplicates.
+     * @throws IllegalArgumentException if either number is negative.
+     */
+    public GraphBuilder(int expectedVertices, int expectedEdges) {
+        if (expectedVertices < 0 || expectedEdges < 0) {
+            throw new IllegalArgumentException("Expected sizes cannot be negative.");
+        }
+        ids = new HashedDictionary<>(expectedVertices);
+        @SuppressWarnings("unchecked")
+        T[] tempLabels = (T[]) new Object[Math.max(expectedVertices, 1)];
+        labels = tempLabels;
+        begins = new int[Math.max(expectedEdges, 1)];
+        ends = new int[begins.length];
+        weights = new double[begins.length];
+    }
+
+    /**
+     * Sets the degree above which the built vertices index their edges.
+     *
+     * @param threshold The neighbor index threshold, see {@link Vertex#Vertex(Object, int, int)}.
+     * @return This builder.
+     * @throws IllegalArgumentException if the threshold is negative.
+     */
+    public GraphBuilder<T> setNeighborIndexThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Index threshold must not be negative.");
+        }
+        neighborIndexThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Adds a vertex, which is useful for vertices without edges.
+     *
+     * @param vertexLabel The label of the vertex.
+     * @return {@code true} if the vertex is new, {@code false} if it was already added.
+     */
+    public boolean addVertex(T vertexLabel) {
+        int before = vertexCount;
+        idOf(vertexLabel);
+        return vertexCount > before;
+    }
+
+    /**
+     * Adds an edge, adding its end points as vertices if they are new.
+     *
+     * @param begin      The label of the starting vertex.
+     * @param end        The label of the ending vertex.
+     * @param edgeWeight The weight of the edge.
+     */
+    public void addEdge(T begin, T end, double edgeWeight) {
+        int beginId = idOf(begin);
+        int endId = idOf(end);
+        if (edgeCount == begins.length) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 2L * edgeCount);
+            if (capacity == edgeCount) {
+                throw new IllegalStateException("Too many edges for one builder.");
+            }
+            begins = Arrays.copyOf(begins, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        begins[edgeCount] = beginId;
+        ends[edgeCount] = endId;
+        weights[edgeCount] = edgeWeight;
+        edgeCount++;
+    }
+
+    /**
+     * Adds an edge with a default weight of 0.
+     *
+     * @param begin The label of the starting vertex.
+     * @param end   The label of the ending vertex.
+     */
+    public void addEdge(T begin, T end) {
+        addEdge(begin, end, 0);
+    }
+
+    /**
+     * Adds the edges {@code begins[i] -> ends[i]} with weight {@code edgeWeights[i]}.
+     *
+     * @param beginLabels The label of the starting vertex of each edge.
+     * @param endLabels   The label of the ending vertex of each edge.
+     * @param edgeWeights The weight of each edge, or null for weights of 0.
+     * @throws IllegalArgumentException if the arrays have different lengths.
+     */
+    public void addEdges(T[] beginLabels, T[] endLabels, double[] edgeWeights) {
+        if (beginLabels.length != endLabels.length
+                || (edgeWeights != null && edgeWeights.length != beginLabels.length)) {
+            throw new IllegalArgumentException("Edge arrays must have the same length.");
+        }
+        for (int i = 0; i < beginLabels.length; i++) {
+            addEdge(beginLabels[i], endLabels[i], (edgeWeights == null) ? 0 : edgeWeights[i]);
+        }
+    }
+
+    /**
+     * Returns the number of distinct vertices added so far.
+     *
+     * @return The number of vertices.
+     */
+    public int getNumberOfVertices() {
+        return vertexCount;
+    }
+
+    /**
+     * Returns the number of edges added so far, counting duplicates.
+     *
+     * @return The number of edges.
+     */
+    public int getNumberOfEdges() {
+        return edgeCount;
+    }
+
+    /**
+     * Builds a directed graph with every vertex and edge added so far.
+     *
+     * @return A new directed graph backed by a hashed vertex dictionary.
+     */
+    public DirectedGraph<T> buildDirected() {
+        DirectedGraph<T> graph = new DirectedGraph<>(new HashedDictionary<>(vertexCount), neighborIndexThreshold);
+        build(graph, false);
+        return graph;
+    }
+
+    /**
+     * Builds an undirected graph with every vertex and edge added so far, as if each
+     * edge had been passed to {@link UndirectedGraph#addEdge(Object, Object, double)}.
+     *
+     * @return A new undirected graph backed by a hashed vertex dictionary.
+     */
+    public UndirectedGraph<T> buildUndirected() {
+        UndirectedGraph<T> graph = new UndirectedGraph<>(new HashedDictionary<>(vertexCount), neighborIndexThreshold);
+        build(graph, true);
+        return graph;
+    }
+
+    /**
+     * Builds a read-only CSR snapshot with every vertex and directed edge added so far.
+     * Vertex ids follow the order in which labels were first added, and skipping the
+     * vertex and edge objects makes this the fastest way to load a graph for analytics.
+     *
+     * @return A new compressed graph.
+     */
+    public CompressedGraph<T> buildCompressed() {
+        GroupedEdges grouped = groupEdges(false);
+        int[] offsets = new int[vertexCount + 1];
+        for (int id = 0; id < vertexCount; id++) {
+            offsets[id + 1] = offsets[id] + grouped.degrees[id];
+        }
+        int[] targets = new int[offsets[vertexCount]];
+        double[] edgeWeights = new double[offsets[vertexCount]];
+        IntStream.range(0, vertexCount).parallel().forEach(id -> {
+            System.arraycopy(grouped.targets, grouped.offsets[id], targets, offsets[id], grouped.degrees[id]);
+            System.arraycopy(grouped.weights, grouped.offsets[id], edgeWeights, offsets[id], grouped.degrees[id]);
+        });
+        return new CompressedGraph<>(Arrays.copyOf(labels, vertexCount), offsets, targets, edgeWeights,
+                offsets[vertexCount]);
+    }
+
+    /**
+     * Fills an empty graph. An undirected edge k becomes the directed edges 2k and
+     * 2k + 1, in that order, just as UndirectedGraph.addEdge adds them.
+     */
+    private void build(DirectedGraph<T> graph, boolean undirected) {
+        GroupedEdges grouped = groupEdges(undirected);
+
+        Vertex<T>[] vertices = newVertexArray(vertexCount);
+        IntStream.range(0, vertexCount).parallel()
+                .forEach(id -> vertices[id] = new Vertex<>(labels[id], id, neighborIndexThreshold));
+        IntStream.range(0, vertexCount).parallel().forEach(id -> {
+            int start = grouped.offsets[id];
+            int degree = grouped.degrees[id];
+            VertexInterface<T>[] neighbors = newNeighborArray(degree);
+            for (int e = 0; e < degree; e++) {
+                neighbors[e] = vertices[grouped.targets[start + e]];
+            }
+            vertices[id].setEdges(neighbors, Arrays.copyOfRange(grouped.weights, start, start + degree));
+        });
+
+        long totalEdges = 0;
+        for (int degree : grouped.degrees) {
+            totalEdges += degree;
+        }
+        graph.addBuiltVertices(vertices, (int) totalEdges);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Vertex<T>[] newVertexArray(int length) {
+        return (Vertex<T>[]) new Vertex<?>[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> VertexInterface<T>[] newNeighborArray(int length) {
+        return (VertexInterface<T>[]) new VertexInterface<?>[length];
+    }
+
+    /**
+     * Groups the edges by begin vertex and drops duplicates, keeping each vertex's
+     * edges in insertion order.
+     */
+    private GroupedEdges groupEdges(boolean undirected) {
+        int directedCount = undirected ? 2 * edgeCount : edgeCount;
+        if (directedCount < 0) {
+            throw new IllegalStateException("Too many edges for one graph.");
+        }
+
+        // Counting sort by begin vertex, stable so each vertex keeps its insertion order
+        int[] offsets = new int[vertexCount + 1];
+        for (int k = 0; k < edgeCount; k++) {
+            offsets[begins[k] + 1]++;
+            if (undirected) {
+                offsets[ends[k] + 1]++;
+            }
+        }
+        Arrays.parallelPrefix(offsets, Integer::sum);
+
+        int[] next = Arrays.copyOf(offsets, vertexCount);
+        int[] targets = new int[directedCount];
+        double[] sortedWeights = new double[directedCount];
+        for (int k = 0; k < edgeCount; k++) {
+            int slot = next[begins[k]]++;
+            targets[slot] = ends[k];
+            sortedWeights[slot] = weights[k];
+            if (undirected) {
+                slot = next[ends[k]]++;
+                targets[slot] = begins[k];
+                sortedWeights[slot] = weights[k];
+            }
+        }
+
+        // Drop duplicates vertex by vertex. Each mark array holds, per target, the id of
+        // the last vertex that reached it, so arrays are shared between chunks unreset.
+        int[] degrees = next;  // Reused: the scatter is done with it
+        Queue<int[]> markPool = new ConcurrentLinkedQueue<>();
+        int chunks = chunkCount();
+        int chunkSize = (vertexCount + chunks - 1) / chunks;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int[] lastBegin = markPool.poll();
+            if (lastBegin == null) {
+                lastBegin = new int[vertexCount];
+                Arrays.fill(lastBegin, -1);
+            }
+            int chunkEnd = (int) Math.min(vertexCount, (long) (chunk + 1) * chunkSize);
+            for (int id = chunk * chunkSize; id < chunkEnd; id++) {
+                int unique = 0;
+                for (int e = offsets[id]; e < offsets[id + 1]; e++) {
+                    if (lastBegin[targets[e]] != id) {
+                        lastBegin[targets[e]] = id;
+                        targets[offsets[id] + unique] = targets[e];  // Compact the slice in place
+                        sortedWeights[offsets[id] + unique] = sortedWeights[e];
+                        unique++;
+                    }
+                }
+                degrees[id] = unique;
+            }
+            markPool.add(lastBegin);
+        });
+        return new GroupedEdges(offsets, degrees, targets, sortedWeights);
+    }
+
+    /**
+     * Returns the number of vertex ranges to deduplicate, several per core so uneven
+     * degrees still balance.
+     */
+    private int chunkCount() {
+        int chunks = 4 * Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(chunks, vertexCount));
+    }
+
+    /**
+     * Edges grouped by begin vertex: the distinct edges of vertex {@code v} are the first
+     * {@code degrees[v]} entries from {@code offsets[v]} in the target and weight arrays.
+     */
+    private static final class GroupedEdges {
+        private final int[] offsets;
+        private final int[] degrees;
+        private final int[] targets;
+        private final double[] weights;
+
+        private GroupedEdges(int[] offsets, int[] degrees, int[] targets, double[] weights) {
+            this.offsets = offsets;
+            this.degrees = degrees;
+            this.targets = targets;
+            this.weights = weights;
+        }
+    }
+
+    private int idOf(T label) {
+        Integer id = ids.getValue(label);
+        if (id != null) {
+            return id;
+        }
+        if (vertexCount == labels.length) {
+            labels = Arrays.copyOf(labels, 2 * vertexCount);
+        }
+        ids.add(label, vertexCount);  // Rejects null labels
+        labels[vertexCount] = label;
+        return vertexCount++;
+    }
+}
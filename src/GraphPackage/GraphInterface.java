@@ -115,4 +115,20 @@ public interface GraphInterface<T> {
      * @return The cost of the cheapest path or -1 if no path exists.
      */
     double getCheapestPath(T begin, T end, StackInterface<T> path);
+
+    /**
+     * Finds the least-cost path between two vertices using A* search: Dijkstra's
+     * algorithm with each vertex ordered by its cost so far plus the heuristic's
+     * estimate of the cost still to go, which settles fewer vertices the closer the
+     * estimate is to the true cost.
+     *
+     * @param begin      The starting vertex.
+     * @param end        The ending vertex.
+     * @param path       A stack to store the least-cost path.
+     * @param heuristic  A consistent estimate of the cost to {@code end}, or null for plain Dijkstra.
+     * @param statistics Where to record the number of vertices settled, or null.
+     * @return The cost of the cheapest path or -1 if no path exists.
+     */
+    double getCheapestPath(T begin, T end, StackInterface<T> path, DistanceHeuristic<T> heuristic,
+                           SearchStatistics statistics);
 }
@@ -0,0 +1,514 @@
+package GraphPackage;
+
+import ADTPackage.IndexedMinHeap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A heuristic for A* cheapest path searches built from the cheapest path costs to and
+ * from a few landmark vertices (ALT: A*, landmarks, triangle inequality). For any
+ * landmark L, the cost from u to t is at least {@code d(L, t) - d(L, u)} and at least
+ * {@code d(u, L) - d(t, L)}; the estimate is the largest of these bounds. Landmarks
+ * far out on the edge of the graph give the tightest bounds, so searches settle far
+ * fewer vertices than Dijkstra's algorithm.
+ *
+ * <p>The costs are kept in two tables indexed by vertex id, with the costs of one
+ * vertex to or from every landmark next to each other, so an estimate reads two short
+ * runs of memory. The tables can be saved to a file and loaded back for the same
+ * graph. They hold the costs of the graph as it was when they were computed: after
+ * an edge is added or made cheaper, estimates may be too high and should be recomputed.
+ *
+ * @param <T> The type of vertex labels.
+ */
+public final class Landmarks<T> implements DistanceHeuristic<T> {
+    static final int MAGIC = 0x50414C54; // "PALT"
+    static final int VERSION = 1;
+    private static final int HEADER_LENGTH = 32;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /**
+     * How landmarks are chosen.
+     */
+    public enum Selection {
+        /**
+         * Each landmark is the vertex farthest from the landmarks chosen so far, which
+         * spreads them around the edge of the graph. Costs one search per landmark in turn.
+         */
+        FARTHEST,
+        /**
+         * The landmarks are the vertices with the most edges. Cheaper to choose, but
+         * usually gives looser bounds.
+         */
+        HIGHEST_DEGREE
+    }
+
+    private final DirectedGraph<T> graph;
+    private final int[] landmarkIds;
+    private final double[] forward;   // Cost from each landmark to vertex v at [v * count + landmark]
+    private final double[] backward;  // Cost from vertex v to each landmark at [v * count + landmark]
+    private final long fingerprint;
+    private volatile Goal goal;       // Id of the last goal looked up, reused by the next estimates
+
+    private Landmarks(DirectedGraph<T> graph, int[] landmarkIds, double[] forward, double[] backward,
+                      long fingerprint) {
+        this.graph = graph;
+        this.landmarkIds = landmarkIds;
+        this.forward = forward;
+        this.backward = backward;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Chooses landmarks in a graph and computes the cheapest path costs to and from
+     * each of them. The searches of different landmarks run in parallel.
+     *
+     * @param graph     The graph, with non-negative edge weights.
+     * @param count     The number of landmarks wanted; fewer are chosen if the graph has fewer vertices.
+     * @param selection How to choose the landmarks.
+     * @param <T>       The type of vertex labels.
+     * @return The landmark heuristic for the graph.
+     * @throws IllegalArgumentException if the count is less than 1, the graph has no
+     *                                  vertices, the tables would be too large, or an
+     *                                  edge weight is negative.
+     */
+    public static <T> Landmarks<T> compute(DirectedGraph<T> graph, int count, Selection selection) {
+        if (count < 1) {
+            throw new IllegalArgumentException("At least one landmark is needed.");
+        }
+        Adjacency out = Adjacency.of(graph);
+        Adjacency in = out.reverse();
+        int vertexBound = out.offsets.length - 1;
+        int landmarkCount = Math.min(count, graph.getNumberOfVertices());
+        if (landmarkCount == 0) {
+            throw new IllegalArgumentException("A graph without vertices has no landmarks.");
+        }
+        if ((long) vertexBound * landmarkCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many landmarks for a graph of this size.");
+        }
+
+        double[] forward = new double[vertexBound * landmarkCount];
+        double[] backward = new double[vertexBound * landmarkCount];
+        int[] landmarkIds = (selection == Selection.FARTHEST)
+                ? selectFarthest(graph, out, landmarkCount, forward)
+                : selectHighestDegree(graph, out, in, landmarkCount);
+        IntStream.range(0, landmarkCount).parallel().forEach(landmark -> {
+            if (selection != Selection.FARTHEST) {
+                scatter(out.costsFrom(landmarkIds[landmark]), forward, landmark, landmarkCount);
+            }
+            scatter(in.costsFrom(landmarkIds[landmark]), backward, landmark, landmarkCount);
+        });
+        return new Landmarks<>(graph, landmarkIds, forward, backward, fingerprint(graph));
+    }
+
+    /**
+     * Chooses landmarks one at a time, each the vertex whose cost from the nearest
+     * chosen landmark is largest. Vertices no landmark reaches count as farthest, so
+     * separate parts of the graph each get a landmark. The forward costs of each
+     * landmark are filled in along the way.
+     */
+    private static <T> int[] selectFarthest(DirectedGraph<T> graph, Adjacency out, int landmarkCount,
+                                            double[] forward) {
+        int vertexBound = out.offsets.length - 1;
+        double[] nearest = new double[vertexBound];  // Cost from the nearest landmark so far
+        Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+        int[] landmarkIds = new int[landmarkCount];
+
+        // Start from the vertex farthest from an arbitrary one, rather than from an arbitrary one
+        int start = 0;
+        while (graph.getVertexById(start) == null) {
+            start++;
+        }
+        double[] costs = out.costsFrom(start);
+        int candidate = farthest(graph, costs, landmarkIds, 0);
+        for (int landmark = 0; landmark < landmarkCount; landmark++) {
+            landmarkIds[landmark] = candidate;
+            costs = out.costsFrom(candidate);
+            scatter(costs, forward, landmark, landmarkCount);
+            for (int v = 0; v < vertexBound; v++) {
+                nearest[v] = Math.min(nearest[v], costs[v]);
+            }
+            candidate = farthest(graph, nearest, landmarkIds, landmark + 1);
+        }
+        return landmarkIds;
+    }
+
+    /**
+     * Returns the vertex with the largest cost, unreachable vertices first, skipping
+     * removed vertices and chosen landmarks.
+     */
+    private static <T> int farthest(DirectedGraph<T> graph, double[] costs, int[] chosen, int chosenCount) {
+        int best = -1;
+        for (int v = 0; v < costs.length; v++) {
+            if (graph.getVertexById(v) != null && (best < 0 || costs[v] > costs[best])
+                    && !contains(chosen, chosenCount, v)) {
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    private static boolean contains(int[] ids, int count, int id) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> int[] selectHighestDegree(DirectedGraph<T> graph, Adjacency out, Adjacency in,
+                                                 int landmarkCount) {
+        Integer[] ids = new Integer[out.offsets.length - 1];
+        for (int v = 0; v < ids.length; v++) {
+            ids[v] = v;
+        }
+        Arrays.sort(ids, (a, b) -> Integer.compare(out.degree(b) + in.degree(b), out.degree(a) + in.degree(a)));
+        int[] landmarkIds = new int[landmarkCount];
+        int chosen = 0;
+        for (int i = 0; chosen < landmarkCount; i++) {
+            if (graph.getVertexById(ids[i]) != null) {
+                landmarkIds[chosen++] = ids[i];
+            }
+        }
+        return landmarkIds;
+    }
+
+    private static void scatter(double[] costs, double[] table, int landmark, int landmarkCount) {
+        for (int v = 0; v < costs.length; v++) {
+            table[v * landmarkCount + landmark] = costs[v];
+        }
+    }
+
+    /**
+     * Estimates the cost of the cheapest path between two vertices.
+     *
+     * @param current The label of the vertex the path starts at.
+     * @param goal    The label of the vertex the path ends at.
+     * @return A lower bound on the path cost, or 0 if either vertex is unknown to the tables.
+     */
+    @Override
+    public double estimate(T current, T goal) {
+        VertexInterface<T> currentVertex = graph.getVertex(current);
+        int goalId = goalId(goal);
+        if (currentVertex == null || goalId < 0 || currentVertex.getId() >= rowCount()) {
+            return 0;
+        }
+        int count = landmarkIds.length;
+        int u = currentVertex.getId() * count;
+        int t = goalId * count;
+        double bound = 0;
+        for (int landmark = 0; landmark < count; landmark++) {
+            // A landmark gives no bound for vertices it does not reach or is not reached from
+            double ahead = forward[t + landmark] - forward[u + landmark];
+            if (ahead > bound && forward[u + landmark] != Double.POSITIVE_INFINITY) {
+                bound = ahead;
+            }
+            double behind = backward[u + landmark] - backward[t + landmark];
+            if (behind > bound && backward[t + landmark] != Double.POSITIVE_INFINITY) {
+                bound = behind;
+            }
+        }
+        return (bound == Double.POSITIVE_INFINITY) ? 0 : bound;
+    }
+
+    /**
+     * Looks up the id of a goal vertex, remembering it since one search asks for
+     * estimates to the same goal many times.
+     */
+    private int goalId(T label) {
+        Goal last = goal;
+        if (last != null && last.label.equals(label)) {
+            return last.id;
+        }
+        VertexInterface<T> vertex = graph.getVertex(label);
+        int id = (vertex == null || vertex.getId() >= rowCount()) ? -1 : vertex.getId();
+        goal = new Goal(label, id);
+        return id;
+    }
+
+    private int rowCount() {
+        return forward.length / landmarkIds.length;
+    }
+
+    /**
+     * Returns the landmark vertices.
+     *
+     * @return The labels of the landmarks, in the order they were chosen.
+     */
+    public List<T> getLandmarks() {
+        List<T> labels = new ArrayList<>(landmarkIds.length);
+        for (int id : landmarkIds) {
+            VertexInterface<T> vertex = graph.getVertexById(id);
+            labels.add((vertex == null) ? null : vertex.getLabel());
+        }
+        return Collections.unmodifiableList(labels);
+    }
+
+    /**
+     * Writes the landmarks and cost tables to a file, replacing any existing file.
+     *
+     * <p>Layout (big-endian): int magic ("PALT"), int version, int minimum reader
+     * version, int header length, int vertex id bound, int landmark count, long graph
+     * fingerprint; then each landmark's vertex id; then the forward and backward tables
+     * as doubles. The file is written to a temporary file and moved into place.
+     *
+     * @param file The file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(VERSION).putInt(HEADER_LENGTH)
+                    .putInt(rowCount()).putInt(landmarkIds.length).putLong(fingerprint);
+            for (int id : landmarkIds) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    drain(channel, buffer);
+                }
+                buffer.putInt(id);
+            }
+            for (double[] table : new double[][]{forward, backward}) {
+                int written = 0;
+                while (written < table.length) {
+                    if (buffer.remaining() < Double.BYTES) {
+                        drain(channel, buffer);
+                    }
+                    DoubleBuffer doubles = buffer.asDoubleBuffer();
+                    int chunk = Math.min(doubles.remaining(), table.length - written);
+                    doubles.put(table, written, chunk);
+                    buffer.position(buffer.position() + chunk * Double.BYTES);
+                    written += chunk;
+                }
+            }
+            drain(channel, buffer);
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads landmarks and cost tables saved for a graph.
+     *
+     * @param graph The graph the tables were computed for, unchanged since.
+     * @param file  The file written by {@link #save(Path)}.
+     * @param <T>   The type of vertex labels.
+     * @return The landmark heuristic for the graph.
+     * @throws IOException if the file cannot be read, is not a landmark file, or was
+     *                     computed for a different graph or a different version of it.
+     */
+    public static <T> Landmarks<T> load(DirectedGraph<T> graph, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.limit(0);
+            require(channel, buffer, HEADER_LENGTH);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a landmark file: " + file);
+            }
+            int version = buffer.getInt();
+            int minimumReaderVersion = buffer.getInt();
+            if (minimumReaderVersion > VERSION) {
+                throw new IOException("Landmark file version " + version + " requires reader version "
+                        + minimumReaderVersion + ".");
+            }
+            int headerLength = buffer.getInt();
+            int vertexBound = buffer.getInt();
+            int landmarkCount = buffer.getInt();
+            long savedFingerprint = buffer.getLong();
+            if (vertexBound != graph.getVertexIdBound() || savedFingerprint != fingerprint(graph)) {
+                throw new IOException("Landmark file was computed for a different graph: " + file);
+            }
+            if (landmarkCount < 1 || headerLength < HEADER_LENGTH || headerLength > BUFFER_SIZE
+                    || (long) vertexBound * landmarkCount > Integer.MAX_VALUE - 8) {
+                throw new IOException("Corrupt landmark file: " + file);
+            }
+            require(channel, buffer, headerLength - HEADER_LENGTH);
+            buffer.position(buffer.position() + headerLength - HEADER_LENGTH);
+
+            int[] landmarkIds = new int[landmarkCount];
+            for (int i = 0; i < landmarkCount; i++) {
+                require(channel, buffer, Integer.BYTES);
+                landmarkIds[i] = buffer.getInt();
+                if (landmarkIds[i] < 0 || landmarkIds[i] >= vertexBound) {
+                    throw new IOException("Corrupt landmark file: " + file);
+                }
+            }
+            double[][] tables = new double[2][vertexBound * landmarkCount];
+            for (double[] table : tables) {
+                int read = 0;
+                while (read < table.length) {
+                    require(channel, buffer, Double.BYTES);
+                    DoubleBuffer doubles = buffer.asDoubleBuffer();
+                    int chunk = Math.min(doubles.remaining(), table.length - read);
+                    doubles.get(table, read, chunk);
+                    buffer.position(buffer.position() + chunk * Double.BYTES);
+                    read += chunk;
+                }
+            }
+            return new Landmarks<>(graph, landmarkIds, tables[0], tables[1], savedFingerprint);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Refills the buffer until at least the given number of bytes can be read from it.
+     */
+    private static void require(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of landmark file.");
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Hashes the vertex ids, edges and weights of a graph, so tables saved for one
+     * graph are not loaded for another.
+     */
+    private static <T> long fingerprint(DirectedGraph<T> graph) {
+        long hash = graph.getVertexIdBound();
+        for (int id = 0; id < graph.getVertexIdBound(); id++) {
+            VertexInterface<T> vertex = graph.getVertexById(id);
+            if (vertex == null) {
+                hash = mix(hash, -1);
+                continue;
+            }
+            int edgeCount = vertex.getNeighborCount();
+            hash = mix(hash, edgeCount);
+            for (int edge = 0; edge < edgeCount; edge++) {
+                hash = mix(hash, vertex.getNeighbor(edge).getId());
+                hash = mix(hash, Double.doubleToLongBits(vertex.getWeight(edge)));
+            }
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * 0x9E3779B97F4A7C15L + 0x632BE59BD9B4E019L;
+    }
+
+    /**
+     * Edges grouped by begin vertex, indexed by graph vertex id.
+     */
+    private static final class Adjacency {
+        private final int[] offsets;
+        private final int[] targets;
+        private final double[] weights;
+
+        private Adjacency(int[] offsets, int[] targets, double[] weights) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+        }
+
+        static <T> Adjacency of(DirectedGraph<T> graph) {
+            int vertexBound = graph.getVertexIdBound();
+            int[] offsets = new int[vertexBound + 1];
+            for (int id = 0; id < vertexBound; id++) {
+                VertexInterface<T> vertex = graph.getVertexById(id);
+                offsets[id + 1] = offsets[id] + ((vertex == null) ? 0 : vertex.getNeighborCount());
+            }
+            int[] targets = new int[offsets[vertexBound]];
+            double[] weights = new double[offsets[vertexBound]];
+            for (int id = 0; id < vertexBound; id++) {
+                VertexInterface<T> vertex = graph.getVertexById(id);
+                for (int edge = 0; vertex != null && edge < vertex.getNeighborCount(); edge++) {
+                    targets[offsets[id] + edge] = vertex.getNeighbor(edge).getId();
+                    weights[offsets[id] + edge] = vertex.getWeight(edge);
+                    if (!(weights[offsets[id] + edge] >= 0)) {
+                        throw new IllegalArgumentException("Landmarks need non-negative edge weights.");
+                    }
+                }
+            }
+            return new Adjacency(offsets, targets, weights);
+        }
+
+        Adjacency reverse() {
+            int vertexBound = offsets.length - 1;
+            int[] inOffsets = new int[vertexBound + 1];
+            for (int target : targets) {
+                inOffsets[target + 1]++;
+            }
+            Arrays.parallelPrefix(inOffsets, Integer::sum);
+            int[] sources = new int[targets.length];
+            double[] inWeights = new double[targets.length];
+            int[] next = Arrays.copyOf(inOffsets, vertexBound);
+            for (int u = 0; u < vertexBound; u++) {
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int slot = next[targets[e]]++;
+                    sources[slot] = u;
+                    inWeights[slot] = weights[e];
+                }
+            }
+            return new Adjacency(inOffsets, sources, inWeights);
+        }
+
+        int degree(int id) {
+            return offsets[id + 1] - offsets[id];
+        }
+
+        /**
+         * Runs Dijkstra's algorithm over every vertex reachable from a source.
+         *
+         * @return The cost of each vertex id, {@link Double#POSITIVE_INFINITY} if unreachable.
+         */
+        double[] costsFrom(int source) {
+            double[] cost = new double[offsets.length - 1];
+            Arrays.fill(cost, Double.POSITIVE_INFINITY);
+            boolean[] settled = new boolean[cost.length];
+            IndexedMinHeap priorityQueue = new IndexedMinHeap(cost.length);
+            cost[source] = 0;
+            priorityQueue.add(source, 0);
+            while (!priorityQueue.isEmpty()) {
+                int frontId = priorityQueue.removeMin();
+                settled[frontId] = true;
+                for (int e = offsets[frontId]; e < offsets[frontId + 1]; e++) {
+                    int neighborId = targets[e];
+                    double nextCost = cost[frontId] + weights[e];
+                    if (!settled[neighborId] && nextCost < cost[neighborId]) {
+                        cost[neighborId] = nextCost;
+                        priorityQueue.addOrDecreaseKey(neighborId, nextCost);
+                    }
+                }
+            }
+            return cost;
+        }
+    }
+
+    /**
+     * A goal label and its vertex id.
+     */
+    private static final class Goal {
+        private final Object label;
+        private final int id;
+
+        private Goal(Object label, int id) {
+            this.label = label;
+            this.id = id;
+        }
+    }
+}
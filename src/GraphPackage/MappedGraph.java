@@ -0,0 +1,806 @@
+package GraphPackage;
+
+import ADTPackage.ArrayQueue;
+import ADTPackage.IndexedMinHeap;
+import ADTPackage.QueueInterface;
+import ADTPackage.StackInterface;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A read-only graph kept in memory-mapped files in compressed sparse row (CSR) form,
+ * for graphs too large to hold as objects on the heap. Opening a graph only maps its
+ * files, so it takes the same short time at any size; pages are read in by the
+ * operating system as traversals touch them and stay in its page cache.
+ *
+ * <p>A graph directory holds these files, all big-endian:
+ * <pre>
+ * header:        int magic ("PMAP"), int version, int minimum reader version,
+ *                int header length, int vertex count, long edge count,
+ *                long label byte count, int label index capacity, int flags
+ *                (1 if the graph has weights)
+ * offsets:       long per vertex, plus a final one: where its edges start
+ * targets:       int per edge: the end vertex id
+ * weights:       double per edge, only if the graph has weights
+ * labels:        the encoded labels, one after another
+ * label-offsets: long per vertex, plus a final one: where its label starts
+ * label-index:   an open addressing hash table of int slots holding vertex id + 1,
+ *                0 for an empty slot, keyed by a hash of the encoded label
+ * </pre>
+ * A graph whose weights are all 0 is stored without a weights file. Traversal state is
+ * kept in heap arrays of one entry per vertex, so a graph of a billion edges over
+ * tens of millions of vertices needs little heap.
+ *
+ * @param <T> The type of vertex labels (must be unique).
+ */
+public class MappedGraph<T> implements GraphInterface<T> {
+    static final int MAGIC = 0x504D4150; // "PMAP"
+    static final int VERSION = 1;
+    private static final int HEADER_LENGTH = 44;
+    private static final int WEIGHTED = 1;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_INDEX_CAPACITY = 1 << 30;  // The largest power of two an int array can hold
+
+    /** Encodes labels that are strings as UTF-8. */
+    public static final LabelCodec<String> STRING_LABELS = new LabelCodec<String>() {
+        @Override
+        public byte[] encode(String label) {
+            return label.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /** Encodes labels that are integers as four bytes. */
+    public static final LabelCodec<Integer> INTEGER_LABELS = new LabelCodec<Integer>() {
+        @Override
+        public byte[] encode(Integer label) {
+            return ByteBuffer.allocate(Integer.BYTES).putInt(label).array();
+        }
+
+        @Override
+        public Integer decode(byte[] bytes) {
+            return ByteBuffer.wrap(bytes).getInt();
+        }
+    };
+
+    /**
+     * Converts vertex labels to and from the bytes stored in a graph's label file.
+     *
+     * @param <T> The type of vertex labels.
+     */
+    public interface LabelCodec<T> {
+        /**
+         * Encodes a label. Equal labels must give equal bytes.
+         *
+         * @param label The label.
+         * @return The encoded label.
+         */
+        byte[] encode(T label);
+
+        /**
+         * Decodes a label.
+         *
+         * @param bytes The bytes written by {@link #encode(Object)}.
+         * @return The label.
+         */
+        T decode(byte[] bytes);
+    }
+
+    private final LabelCodec<T> codec;
+    private final int vertexCount;
+    private final long edgeCount;
+    private final MappedArray offsets;
+    private final MappedArray targets;
+    private final MappedArray weights;       // Null if every weight is 0
+    private final MappedArray labels;
+    private final MappedArray labelOffsets;
+    private final MappedArray labelIndex;
+    private final int indexMask;
+
+    private MappedGraph(LabelCodec<T> codec, int vertexCount, long edgeCount, MappedArray offsets,
+                        MappedArray targets, MappedArray weights, MappedArray labels, MappedArray labelOffsets,
+                        MappedArray labelIndex, int indexCapacity) {
+        this.codec = codec;
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.labels = labels;
+        this.labelOffsets = labelOffsets;
+        this.labelIndex = labelIndex;
+        this.indexMask = indexCapacity - 1;
+    }
+
+    /**
+     * Writes a graph to a directory in the mapped format, replacing any graph there.
+     *
+     * @param graph     The graph.
+     * @param codec     How to store the labels.
+     * @param directory The directory to write; it is created if needed.
+     * @param <T>       The type of vertex labels.
+     * @throws IOException if the files cannot be written.
+     * @throws IllegalArgumentException if the graph has more than 2^29 vertices, too many for the label index.
+     */
+    public static <T> void write(DirectedGraph<T> graph, LabelCodec<T> codec, Path directory) throws IOException {
+        write(graph.freeze(), codec, directory);
+    }
+
+    /**
+     * Writes a compressed graph to a directory in the mapped format, replacing any
+     * graph there. The header is written last, so a directory whose writing was cut
+     * short cannot be opened as a graph with missing data.
+     *
+     * @param graph     The graph.
+     * @param codec     How to store the labels.
+     * @param directory The directory to write; it is created if needed.
+     * @param <T>       The type of vertex labels.
+     * @throws IOException if the files cannot be written.
+     * @throws IllegalArgumentException if the graph has more than 2^29 vertices, too many for the label index.
+     */
+    public static <T> void write(CompressedGraph<T> graph, LabelCodec<T> codec, Path directory) throws IOException {
+        int vertexCount = graph.getNumberOfVertices();
+        int indexCapacity = indexCapacity(vertexCount);  // Checked before any file is touched
+        Files.createDirectories(directory);
+        Files.deleteIfExists(directory.resolve("header"));
+        long edges = (vertexCount == 0) ? 0 : graph.edgeEnd(vertexCount - 1);
+
+        boolean weighted = false;
+        try (Output offsetOutput = new Output(directory.resolve("offsets"));
+             Output targetOutput = new Output(directory.resolve("targets"))) {
+            for (int v = 0; v < vertexCount; v++) {
+                offsetOutput.putLong(graph.edgeStart(v));
+                for (int e = graph.edgeStart(v); e < graph.edgeEnd(v); e++) {
+                    targetOutput.putInt(graph.edgeTarget(e));
+                    weighted |= graph.edgeWeight(e) != 0;
+                }
+            }
+            offsetOutput.putLong(edges);
+        }
+        Files.deleteIfExists(directory.resolve("weights"));
+        if (weighted) {
+            try (Output weightOutput = new Output(directory.resolve("weights"))) {
+                for (int e = 0; e < edges; e++) {
+                    weightOutput.putDouble(graph.edgeWeight(e));
+                }
+            }
+        }
+
+        // Labels, then a hash table at most half full that finds each label's id
+        int[] index = new int[indexCapacity];
+        long labelBytes = 0;
+        try (Output labelOutput = new Output(directory.resolve("labels"));
+             Output labelOffsetOutput = new Output(directory.resolve("label-offsets"))) {
+            for (int v = 0; v < vertexCount; v++) {
+                byte[] encoded = codec.encode(graph.getLabel(v));
+                labelOffsetOutput.putLong(labelBytes);
+                labelOutput.putBytes(encoded);
+                labelBytes += encoded.length;
+
+                int slot = (int) hash(encoded) & (indexCapacity - 1);
+                while (index[slot] != 0) {
+                    slot = (slot + 1) & (indexCapacity - 1);
+                }
+                index[slot] = v + 1;
+            }
+            labelOffsetOutput.putLong(labelBytes);
+        }
+        try (Output indexOutput = new Output(directory.resolve("label-index"))) {
+            for (int slot : index) {
+                indexOutput.putInt(slot);
+            }
+        }
+
+        Path header = directory.resolve("header");
+        Path temporary = directory.resolve("header.tmp");
+        try (Output headerOutput = new Output(temporary)) {
+            headerOutput.putInt(MAGIC);
+            headerOutput.putInt(VERSION);
+            headerOutput.putInt(VERSION); // Minimum reader version
+            headerOutput.putInt(HEADER_LENGTH);
+            headerOutput.putInt(vertexCount);
+            headerOutput.putLong(edges);
+            headerOutput.putLong(labelBytes);
+            headerOutput.putInt(indexCapacity);
+            headerOutput.putInt(weighted ? WEIGHTED : 0);
+        }
+        Files.move(temporary, header, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the size of a label index at most half full: the power of two at least
+     * twice the vertex count.
+     *
+     * @throws IllegalArgumentException if the index would not fit in an int array.
+     */
+    private static int indexCapacity(int vertexCount) {
+        long capacity = Long.highestOneBit(Math.max(2L, 2L * vertexCount - 1)) * 2;
+        if (capacity > MAX_INDEX_CAPACITY) {
+            throw new IllegalArgumentException("Too many vertices for the label index: " + vertexCount);
+        }
+        return (int) capacity;
+    }
+
+    /**
+     * Opens a graph written by {@link #write(CompressedGraph, LabelCodec, Path)} by
+     * mapping its files.
+     *
+     * @param directory The graph directory.
+     * @param codec     How the labels were stored.
+     * @param <T>       The type of vertex labels.
+     * @return The graph.
+     * @throws IOException if a file cannot be read, or the files are not a complete graph.
+     */
+    public static <T> MappedGraph<T> open(Path directory, LabelCodec<T> codec) throws IOException {
+        ByteBuffer header;
+        try {
+            header = ByteBuffer.wrap(Files.readAllBytes(directory.resolve("header")));
+        } catch (java.nio.file.NoSuchFileException e) {
+            throw new IOException("Not a mapped graph: " + directory, e);
+        }
+        if (header.remaining() < HEADER_LENGTH || header.getInt() != MAGIC) {
+            throw new IOException("Not a mapped graph: " + directory);
+        }
+        int version = header.getInt();
+        int minimumReaderVersion = header.getInt();
+        if (minimumReaderVersion > VERSION) {
+            throw new IOException("Mapped graph version " + version + " requires reader version "
+                    + minimumReaderVersion + ".");
+        }
+        header.getInt(); // Header length; later versions may append fields
+        int vertexCount = header.getInt();
+        long edges = header.getLong();
+        long labelBytes = header.getLong();
+        int indexCapacity = header.getInt();
+        boolean weighted = (header.getInt() & WEIGHTED) != 0;
+        if (vertexCount < 0 || edges < 0 || Integer.bitCount(indexCapacity) != 1
+                || indexCapacity < vertexCount) {
+            throw new IOException("Corrupt mapped graph header: " + directory);
+        }
+
+        return new MappedGraph<>(codec, vertexCount, edges,
+                MappedArray.map(directory.resolve("offsets"), (vertexCount + 1L) * Long.BYTES),
+                MappedArray.map(directory.resolve("targets"), edges * Integer.BYTES),
+                weighted ? MappedArray.map(directory.resolve("weights"), edges * Double.BYTES) : null,
+                MappedArray.map(directory.resolve("labels"), labelBytes),
+                MappedArray.map(directory.resolve("label-offsets"), (vertexCount + 1L) * Long.BYTES),
+                MappedArray.map(directory.resolve("label-index"), (long) indexCapacity * Integer.BYTES),
+                indexCapacity);
+    }
+
+    /**
+     * Returns the id of a vertex label.
+     *
+     * @param vertexLabel The label of the vertex.
+     * @return The vertex id, or {@code -1} if the label is not in the graph.
+     */
+    public int getVertexId(T vertexLabel) {
+        byte[] encoded = codec.encode(vertexLabel);
+        for (int slot = (int) hash(encoded) & indexMask; ; slot = (slot + 1) & indexMask) {
+            int entry = labelIndex.getInt(slot);
+            if (entry == 0) {
+                return -1;
+            }
+            if (labelEquals(entry - 1, encoded)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private boolean labelEquals(int id, byte[] encoded) {
+        long start = labelOffsets.getLong(id);
+        if (labelOffsets.getLong(id + 1) - start != encoded.length) {
+            return false;
+        }
+        for (int i = 0; i < encoded.length; i++) {
+            if (labels.getByte(start + i) != encoded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the label of the vertex with the given id, decoding it from the label file.
+     *
+     * @param vertexId The id of the vertex.
+     * @return The label of the vertex.
+     */
+    public T getLabel(int vertexId) {
+        long start = labelOffsets.getLong(vertexId);
+        byte[] encoded = new byte[(int) (labelOffsets.getLong(vertexId + 1) - start)];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = labels.getByte(start + i);
+        }
+        return codec.decode(encoded);
+    }
+
+    /**
+     * Returns the number of edges leaving the vertex with the given id.
+     *
+     * @param vertexId The id of the vertex.
+     * @return The out-degree of the vertex.
+     */
+    public int getOutDegree(int vertexId) {
+        return (int) (offsets.getLong(vertexId + 1) - offsets.getLong(vertexId));
+    }
+
+    /**
+     * Returns the number of edges, which may exceed the range of
+     * {@link #getNumberOfEdges()}.
+     *
+     * @return The number of edges in the graph.
+     */
+    public long getEdgeCount() {
+        return edgeCount;
+    }
+
+    private double weight(long edge) {
+        return (weights == null) ? 0 : weights.getDouble(edge);
+    }
+
+    /**
+     * Throws an exception because the mapped graph cannot be modified.
+     */
+    @Override
+    public boolean addVertex(T vertexLabel) {
+        throw readOnly();
+    }
+
+    /**
+     * Throws an exception because the mapped graph cannot be modified.
+     */
+    @Override
+    public boolean addEdge(T begin, T end, double edgeWeight) {
+        throw readOnly();
+    }
+
+    /**
+     * Throws an exception because the mapped graph cannot be modified.
+     */
+    @Override
+    public boolean addEdge(T begin, T end) {
+        throw readOnly();
+    }
+
+    /**
+     * Throws an exception because the mapped graph cannot be modified.
+     */
+    @Override
+    public boolean removeVertex(T vertexLabel) {
+        throw readOnly();
+    }
+
+    /**
+     * Throws an exception because the mapped graph cannot be modified.
+     */
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    /**
+     * Checks if there is an edge from the {@code begin} vertex to the {@code end} vertex.
+     *
+     * @param begin The label of the starting vertex.
+     * @param end   The label of the ending vertex.
+     * @return {@code true} if the edge exists, {@code false} otherwise.
+     */
+    @Override
+    public boolean hasEdge(T begin, T end) {
+        int beginId = getVertexId(begin);
+        int endId = getVertexId(end);
+
+        if (beginId >= 0 && endId >= 0) {
+            for (long e = offsets.getLong(beginId); e < offsets.getLong(beginId + 1); e++) {
+                if (targets.getInt(e) == endId) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the graph is empty (i.e., it has no vertices).
+     *
+     * @return {@code true} if the graph is empty, {@code false} otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return vertexCount == 0;
+    }
+
+    /**
+     * Returns the number of vertices in the graph.
+     *
+     * @return The number of vertices in the graph.
+     */
+    @Override
+    public int getNumberOfVertices() {
+        return vertexCount;
+    }
+
+    /**
+     * Returns the number of edges in the graph, or {@link Integer#MAX_VALUE} if there
+     * are more; see {@link #getEdgeCount()}.
+     *
+     * @return The number of edges in the graph.
+     */
+    @Override
+    public int getNumberOfEdges() {
+        return (int) Math.min(edgeCount, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a breadth-first traversal of the graph starting from the specified vertex.
+     *
+     * @param origin The label of the vertex to start the traversal.
+     * @return A queue containing the labels of the vertices in breadth-first order.
+     */
+    @Override
+    public QueueInterface<T> getBreadthFirstTraversal(T origin) {
+        QueueInterface<T> traversalOrder = new ArrayQueue<>();
+        int originId = getVertexId(origin);
+
+        if (originId >= 0) {
+            boolean[] visited = new boolean[vertexCount];
+            int[] vertexQueue = new int[vertexCount];
+            int head = 0;
+            int tail = 0;
+
+            visited[originId] = true;
+            vertexQueue[tail++] = originId;
+
+            while (head < tail) {
+                int frontId = vertexQueue[head++];
+                traversalOrder.enqueue(getLabel(frontId));
+
+                long end = offsets.getLong(frontId + 1);
+                for (long e = offsets.getLong(frontId); e < end; e++) {
+                    int neighborId = targets.getInt(e);
+                    if (!visited[neighborId]) {
+                        visited[neighborId] = true;
+                        vertexQueue[tail++] = neighborId;
+                    }
+                }
+            }
+        }
+        return traversalOrder;
+    }
+
+    /**
+     * Returns a depth-first traversal of the graph starting from the specified vertex.
+     * Each stack frame keeps the position of the next edge to examine, so every
+     * edge is looked at only once.
+     *
+     * @param origin The label of the vertex to start the traversal.
+     * @return A queue containing the labels of the vertices in depth-first order.
+     */
+    @Override
+    public QueueInterface<T> getDepthFirstTraversal(T origin) {
+        QueueInterface<T> traversalOrder = new ArrayQueue<>();
+        int originId = getVertexId(origin);
+
+        if (originId >= 0) {
+            boolean[] visited = new boolean[vertexCount];
+            int[] vertexStack = new int[vertexCount];
+            long[] nextEdge = new long[vertexCount];
+            int top = 0;
+
+            visited[originId] = true;
+            traversalOrder.enqueue(origin);
+            vertexStack[top] = originId;
+            nextEdge[top] = offsets.getLong(originId);
+
+            while (top >= 0) {
+                int topId = vertexStack[top];
+                long edge = nextEdge[top];
+                long end = offsets.getLong(topId + 1);
+
+                while (edge < end && visited[targets.getInt(edge)]) {
+                    edge++;
+                }
+
+                if (edge < end) {
+                    int neighborId = targets.getInt(edge);
+                    nextEdge[top] = edge + 1;
+                    visited[neighborId] = true;
+                    traversalOrder.enqueue(getLabel(neighborId));
+                    top++;
+                    vertexStack[top] = neighborId;
+                    nextEdge[top] = offsets.getLong(neighborId);
+                } else {
+                    top--;
+                }
+            }
+        }
+        return traversalOrder;
+    }
+
+    /**
+     * Finds the shortest path from the {@code begin} vertex to the {@code end} vertex using breadth-first search.
+     *
+     * @param begin The label of the starting vertex.
+     * @param end   The label of the ending vertex.
+     * @param path  A stack to hold the labels of the vertices in the shortest path.
+     * @return The number of edges in the shortest path, or {@code -1} if no path exists.
+     */
+    @Override
+    public int getShortestPath(T begin, T end, StackInterface<T> path) {
+        int originId = getVertexId(begin);
+        int endId = getVertexId(end);
+
+        if (originId < 0 || endId < 0) {
+            return -1;
+        }
+
+        boolean[] visited = new boolean[vertexCount];
+        int[] predecessor = new int[vertexCount];
+        int[] vertexQueue = new int[vertexCount];
+        int head = 0;
+        int tail = 0;
+        boolean done = false;
+
+        visited[originId] = true;
+        predecessor[originId] = -1;
+        vertexQueue[tail++] = originId;
+
+        while (!done && head < tail) {
+            int frontId = vertexQueue[head++];
+
+            long edgeEnd = offsets.getLong(frontId + 1);
+            for (long e = offsets.getLong(frontId); !done && e < edgeEnd; e++) {
+                int neighborId = targets.getInt(e);
+                if (!visited[neighborId]) {
+                    visited[neighborId] = true;
+                    predecessor[neighborId] = frontId;
+                    vertexQueue[tail++] = neighborId;
+                    done = neighborId == endId;
+                }
+            }
+        }
+
+        if (done) {
+            return pushPath(endId, predecessor, path) - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the cheapest path from the {@code begin} vertex to the {@code end} vertex using Dijkstra's algorithm.
+     *
+     * @param begin The label of the starting vertex.
+     * @param end   The label of the ending vertex.
+     * @param path  A stack to hold the labels of the vertices in the cheapest path.
+     * @return The total cost of the cheapest path, or {@code -1} if no path exists.
+     */
+    @Override
+    public double getCheapestPath(T begin, T end, StackInterface<T> path) {
+        return getCheapestPath(begin, end, path, null, null);
+    }
+
+    /**
+     * Finds the cheapest path from the {@code begin} vertex to the {@code end} vertex using A* search,
+     * keying each vertex by its cost plus the heuristic's estimate.
+     *
+     * @param begin      The label of the starting vertex.
+     * @param end        The label of the ending vertex.
+     * @param path       A stack to hold the labels of the vertices in the cheapest path.
+     * @param heuristic  A consistent estimate of the cost to {@code end}, or null for plain Dijkstra.
+     * @param statistics Where to record the number of vertices settled, or null.
+     * @return The total cost of the cheapest path, or {@code -1} if no path exists.
+     */
+    @Override
+    public double getCheapestPath(T begin, T end, StackInterface<T> path, DistanceHeuristic<T> heuristic,
+                                  SearchStatistics statistics) {
+        int originId = getVertexId(begin);
+        int endId = getVertexId(end);
+
+        if (originId < 0 || endId < 0) {
+            return -1;
+        }
+
+        double[] cost = new double[vertexCount];
+        int[] predecessor = new int[vertexCount];
+        boolean[] settled = new boolean[vertexCount];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+
+        IndexedMinHeap priorityQueue = new IndexedMinHeap(vertexCount);
+        cost[originId] = 0;
+        predecessor[originId] = -1;
+        priorityQueue.add(originId, (heuristic == null) ? 0 : heuristic.estimate(begin, end));
+        int settledCount = 0;
+
+        try {
+            while (!priorityQueue.isEmpty()) {
+                int frontId = priorityQueue.removeMin();
+                settled[frontId] = true;
+                settledCount++;
+
+                if (frontId == endId) {
+                    pushPath(endId, predecessor, path);
+                    return cost[endId];
+                }
+
+                long edgeEnd = offsets.getLong(frontId + 1);
+                for (long e = offsets.getLong(frontId); e < edgeEnd; e++) {
+                    int neighborId = targets.getInt(e);
+                    double nextCost = cost[frontId] + weight(e);
+
+                    if (!settled[neighborId] && nextCost < cost[neighborId]) {
+                        cost[neighborId] = nextCost;
+                        predecessor[neighborId] = frontId;
+                        double key = (heuristic == null) ? nextCost
+                                : nextCost + heuristic.estimate(getLabel(neighborId), end);
+                        priorityQueue.addOrDecreaseKey(neighborId, key);
+                    }
+                }
+            }
+            return -1;
+        } finally {
+            if (statistics != null) {
+                statistics.record(settledCount);
+            }
+        }
+    }
+
+    /**
+     * Pushes the labels on the predecessor chain ending at the given vertex onto a stack.
+     *
+     * @return The number of vertices pushed.
+     */
+    private int pushPath(int endId, int[] predecessor, StackInterface<T> path) {
+        int pathLength = 0;
+        for (int id = endId; id >= 0; id = predecessor[id]) {
+            path.push(getLabel(id));
+            pathLength++;
+        }
+        return pathLength;
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("A mapped graph cannot be modified.");
+    }
+
+    /**
+     * Hashes an encoded label with 64-bit FNV-1a, finished with a multiply so the low
+     * bits used for the slot depend on every byte.
+     */
+    private static long hash(byte[] encoded) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : encoded) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return (hash ^ (hash >>> 32)) * 0x9E3779B97F4A7C15L >>> 16;
+    }
+
+    /**
+     * A read-only file mapped in segments of 1 GiB, since one mapping cannot exceed
+     * 2 GiB. Values never straddle two segments because every value size divides the
+     * segment size.
+     */
+    private static final class MappedArray {
+        private static final int SEGMENT_SHIFT = 30;
+        private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+        private final MappedByteBuffer[] segments;
+
+        private MappedArray(MappedByteBuffer[] segments) {
+            this.segments = segments;
+        }
+
+        /**
+         * Maps a file that must hold exactly the given number of bytes.
+         */
+        static MappedArray map(Path file, long expectedBytes) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() != expectedBytes) {
+                    throw new IOException("Mapped graph file " + file + " holds " + channel.size()
+                            + " bytes instead of " + expectedBytes + ".");
+                }
+                int count = (int) ((expectedBytes + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+                MappedByteBuffer[] segments = new MappedByteBuffer[count];
+                for (int i = 0; i < count; i++) {
+                    long start = (long) i << SEGMENT_SHIFT;
+                    segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                            Math.min(1L << SEGMENT_SHIFT, expectedBytes - start));
+                }
+                return new MappedArray(segments);  // Mappings stay valid after the channel closes
+            }
+        }
+
+        byte getByte(long index) {
+            return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+        }
+
+        int getInt(long index) {
+            long position = index * Integer.BYTES;
+            return segments[(int) (position >>> SEGMENT_SHIFT)].getInt((int) (position & SEGMENT_MASK));
+        }
+
+        long getLong(long index) {
+            long position = index * Long.BYTES;
+            return segments[(int) (position >>> SEGMENT_SHIFT)].getLong((int) (position & SEGMENT_MASK));
+        }
+
+        double getDouble(long index) {
+            long position = index * Double.BYTES;
+            return segments[(int) (position >>> SEGMENT_SHIFT)].getDouble((int) (position & SEGMENT_MASK));
+        }
+    }
+
+    /**
+     * Buffered big-endian writer of one file.
+     */
+    private static final class Output implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        Output(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRoom(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRoom(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensureRoom(Double.BYTES);
+            buffer.putDouble(value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureRoom(1);
+                int chunk = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+            }
+        }
+
+        private void ensureRoom(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                channel.force(true);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package GraphPackage;
+
+import ADTPackage.IndexedMinHeap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Computes PageRank scores, the stationary distribution of a random walk that follows
+ * a random out-edge with probability {@code damping} and jumps to a random vertex
+ * otherwise. Vertices without out-edges spread their score over every vertex. Edge
+ * weights are ignored.
+ *
+ * <p>Scores live in primitive arrays indexed by vertex id. Each iteration pulls
+ * contributions along incoming edges, so every vertex's new score is written by one
+ * thread without locks; the vertices are split into ranges of roughly equal in-edge
+ * counts that run in parallel on the common fork-join pool. Iteration stops once the
+ * total absolute change of the scores (the L1 residual) falls below the tolerance, or
+ * after the maximum number of iterations.
+ */
+public class PageRank {
+    /** The default probability of following an edge rather than jumping. */
+    public static final double DEFAULT_DAMPING = 0.85;
+    /** The default L1 residual below which the scores count as converged. */
+    public static final double DEFAULT_TOLERANCE = 1e-6;
+    /** The default maximum number of iterations. */
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+    private static final int CHUNKS_PER_CORE = 4;
+
+    private double damping = DEFAULT_DAMPING;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+
+    /**
+     * Sets the probability of following an edge rather than jumping to a random vertex.
+     *
+     * @param damping The damping factor, from 0 up to but excluding 1.
+     * @return This computation.
+     * @throws IllegalArgumentException if the damping factor is out of range.
+     */
+    public PageRank setDamping(double damping) {
+        if (!(damping >= 0 && damping < 1)) {
+            throw new IllegalArgumentException("Damping must be at least 0 and less than 1.");
+        }
+        this.damping = damping;
+        return this;
+    }
+
+    /**
+     * Sets the L1 residual below which iteration stops.
+     *
+     * @param tolerance The tolerance, greater than 0.
+     * @return This computation.
+     * @throws IllegalArgumentException if the tolerance is not positive.
+     */
+    public PageRank setTolerance(double tolerance) {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("Tolerance must be positive.");
+        }
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    /**
+     * Sets the most iterations to run, whether or not the scores have converged.
+     *
+     * @param maxIterations The maximum number of iterations, at least 1.
+     * @return This computation.
+     * @throws IllegalArgumentException if the maximum is less than 1.
+     */
+    public PageRank setMaxIterations(int maxIterations) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("At least one iteration is needed.");
+        }
+        this.maxIterations = maxIterations;
+        return this;
+    }
+
+    /**
+     * Computes the scores of every vertex of a graph, using a CSR snapshot of it.
+     *
+     * @param graph The graph to rank.
+     * @param <T>   The type of vertex labels.
+     * @return The scores and convergence statistics.
+     */
+    public <T> Result<T> compute(DirectedGraph<T> graph) {
+        return compute(graph.freeze());
+    }
+
+    /**
+     * Computes the scores of every vertex of a compressed graph.
+     *
+     * @param graph The graph to rank.
+     * @param <T>   The type of vertex labels.
+     * @return The scores and convergence statistics.
+     */
+    public <T> Result<T> compute(CompressedGraph<T> graph) {
+        long start = System.nanoTime();
+        int vertexCount = graph.getNumberOfVertices();
+        if (vertexCount == 0) {
+            return new Result<>(graph, new double[0], new double[0], true, System.nanoTime() - start);
+        }
+
+        // Pull along the reversed edges, so each vertex reads only its in-neighbors
+        int[][] reverse = graph.getReverseEdges();
+        int[] inOffsets = reverse[0];
+        int[] sources = reverse[1];
+
+        int[] bounds = balancedRanges(inOffsets, vertexCount);
+        int chunks = bounds.length - 1;
+        double[] score = new double[vertexCount];
+        double[] nextScore = new double[vertexCount];
+        double[] contribution = new double[vertexCount];  // Score each vertex sends along each out-edge
+        double[] chunkSums = new double[chunks];
+        Arrays.fill(score, 1.0 / vertexCount);
+
+        double[] residuals = new double[maxIterations];
+        int iterations = 0;
+        boolean converged = false;
+        while (iterations < maxIterations && !converged) {
+            double[] current = score;
+            double[] updated = nextScore;
+
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                double dangling = 0;
+                for (int u = bounds[chunk]; u < bounds[chunk + 1]; u++) {
+                    int degree = graph.getOutDegree(u);
+                    if (degree == 0) {
+                        dangling += current[u];
+                        contribution[u] = 0;
+                    } else {
+                        contribution[u] = current[u] / degree;
+                    }
+                }
+                chunkSums[chunk] = dangling;
+            });
+            double base = (1 - damping) / vertexCount + damping * sum(chunkSums) / vertexCount;
+
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                double change = 0;
+                for (int v = bounds[chunk]; v < bounds[chunk + 1]; v++) {
+                    double pulled = 0;
+                    for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                        pulled += contribution[sources[e]];
+                    }
+                    updated[v] = base + damping * pulled;
+                    change += Math.abs(updated[v] - current[v]);
+                }
+                chunkSums[chunk] = change;
+            });
+
+            residuals[iterations++] = sum(chunkSums);
+            converged = residuals[iterations - 1] < tolerance;
+            score = updated;
+            nextScore = current;
+        }
+        return new Result<>(graph, score, Arrays.copyOf(residuals, iterations), converged,
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Splits the vertex ids into ranges of roughly equal work, counting one unit per
+     * vertex and one per incoming edge, so a few hubs do not stall one thread.
+     *
+     * @return The range bounds: range i is {@code bounds[i]} up to {@code bounds[i + 1]}.
+     */
+    private static int[] balancedRanges(int[] inOffsets, int vertexCount) {
+        int chunks = Math.max(1, Math.min(vertexCount,
+                CHUNKS_PER_CORE * Runtime.getRuntime().availableProcessors()));
+        long totalWork = (long) vertexCount + inOffsets[vertexCount];
+        int[] bounds = new int[chunks + 1];
+        int v = 0;
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            long target = totalWork * chunk / chunks;
+            while (v < vertexCount && (long) v + inOffsets[v] < target) {
+                v++;
+            }
+            bounds[chunk] = v;
+        }
+        bounds[chunks] = vertexCount;
+        return bounds;
+    }
+
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * The scores computed for one graph, with convergence statistics.
+     *
+     * @param <T> The type of vertex labels.
+     */
+    public static final class Result<T> {
+        private final CompressedGraph<T> graph;
+        private final double[] scores;
+        private final double[] residuals;
+        private final boolean converged;
+        private final long elapsedNanos;
+
+        private Result(CompressedGraph<T> graph, double[] scores, double[] residuals, boolean converged,
+                       long elapsedNanos) {
+            this.graph = graph;
+            this.scores = scores;
+            this.residuals = residuals;
+            this.converged = converged;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns the score of a vertex. Scores add up to 1 over all vertices.
+         *
+         * @param vertexLabel The label of the vertex.
+         * @return The vertex's score, or 0 if the label is not in the graph.
+         */
+        public double getScore(T vertexLabel) {
+            int id = graph.getVertexId(vertexLabel);
+            return (id < 0) ? 0 : scores[id];
+        }
+
+        /**
+         * Returns the highest-scoring vertices, best first, with equal scores in vertex id order.
+         *
+         * @param limit The most vertices to return.
+         * @return Up to {@code limit} vertex labels.
+         */
+        public List<T> getTopRanked(int limit) {
+            int count = Math.max(0, Math.min(limit, scores.length));
+            if (count == 0) {
+                return Collections.emptyList();
+            }
+            // Keep the best vertices seen so far in a min-heap, so the worst is evicted first
+            IndexedMinHeap best = new IndexedMinHeap(scores.length);
+            for (int id = 0; id < scores.length; id++) {
+                if (best.getSize() < count) {
+                    best.add(id, scores[id]);
+                } else if (scores[id] > best.getKey(best.peekMin())) {
+                    best.removeMin();
+                    best.add(id, scores[id]);
+                }
+            }
+            // The heap breaks ties arbitrarily, so only its lowest score is used: take every
+            // vertex above it, then the lowest ids at it
+            double cutoff = best.getKey(best.peekMin());
+            Integer[] ids = new Integer[count];
+            int taken = 0;
+            for (int id = 0; id < scores.length; id++) {
+                if (scores[id] > cutoff) {
+                    ids[taken++] = id;
+                }
+            }
+            for (int id = 0; id < scores.length && taken < count; id++) {
+                if (scores[id] == cutoff) {
+                    ids[taken++] = id;
+                }
+            }
+            Arrays.sort(ids, (a, b) -> (scores[a] != scores[b]) ? Double.compare(scores[b], scores[a]) : a - b);
+            List<T> ranked = new ArrayList<>(count);
+            for (int id : ids) {
+                ranked.add(graph.getLabel(id));
+            }
+            return ranked;
+        }
+
+        /**
+         * Returns the number of iterations run.
+         *
+         * @return The iteration count.
+         */
+        public int getIterations() {
+            return residuals.length;
+        }
+
+        /**
+         * Returns the L1 residual of the last iteration.
+         *
+         * @return The total absolute change of the scores in the last iteration, or 0 if none ran.
+         */
+        public double getResidual() {
+            return (residuals.length == 0) ? 0 : residuals[residuals.length - 1];
+        }
+
+        /**
+         * Returns the L1 residual of every iteration, in order.
+         *
+         * @return A copy of the residuals.
+         */
+        public double[] getResidualHistory() {
+            return residuals.clone();
+        }
+
+        /**
+         * Checks if the residual fell below the tolerance before the iteration limit.
+         *
+         * @return {@code true} if the scores converged.
+         */
+        public boolean hasConverged() {
+            return converged;
+        }
+
+        /**
+         * Returns how long the computation took, including reversing the edges on first use.
+         *
+         * @return The elapsed time in nanoseconds.
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
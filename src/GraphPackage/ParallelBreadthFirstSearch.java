@@ -0,0 +1,339 @@
+package GraphPackage;
+
+import ADTPackage.ArrayQueue;
+import ADTPackage.QueueInterface;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * A level-synchronous breadth-first search that expands each level in parallel and
+ * picks, level by level, the cheaper of two directions (Beamer's direction-optimizing
+ * search).
+ *
+ * <p>Top-down levels scan the out-edges of the frontier and claim unvisited
+ * neighbors in an atomic visited bitset. Once the frontier's out-edges outnumber the
+ * edges of unvisited vertices divided by {@code alpha}, the search switches to
+ * bottom-up levels, in which every unvisited vertex scans its in-edges and stops at
+ * the first parent on the frontier; with a large frontier most vertices find one
+ * quickly. The search returns to top-down once the frontier shrinks below the vertex
+ * count divided by {@code beta}.
+ *
+ * <p>Levels run on the common fork-join pool, or on the pool whose thread starts the
+ * search. The same vertices are reached at the same levels as by a sequential
+ * breadth-first search; only the order within a level may differ.
+ */
+public class ParallelBreadthFirstSearch {
+    /** The default ratio of unvisited edges to frontier edges below which to go bottom-up. */
+    public static final int DEFAULT_ALPHA = 14;
+    /** The default ratio of vertices to frontier vertices above which to go back top-down. */
+    public static final int DEFAULT_BETA = 24;
+    private static final int CHUNKS_PER_CORE = 4;
+    private static final int MIN_CHUNK = 1024;  // Smaller frontiers are not worth splitting further
+
+    private int alpha = DEFAULT_ALPHA;
+    private int beta = DEFAULT_BETA;
+
+    /**
+     * Sets how eagerly the search switches to bottom-up levels. Larger values switch
+     * for smaller frontiers.
+     *
+     * @param alpha The ratio, at least 1.
+     * @return This search.
+     * @throws IllegalArgumentException if the ratio is less than 1.
+     */
+    public ParallelBreadthFirstSearch setAlpha(int alpha) {
+        if (alpha < 1) {
+            throw new IllegalArgumentException("Alpha must be at least 1.");
+        }
+        this.alpha = alpha;
+        return this;
+    }
+
+    /**
+     * Sets how eagerly the search returns to top-down levels. Larger values wait for
+     * smaller frontiers.
+     *
+     * @param beta The ratio, at least 1.
+     * @return This search.
+     * @throws IllegalArgumentException if the ratio is less than 1.
+     */
+    public ParallelBreadthFirstSearch setBeta(int beta) {
+        if (beta < 1) {
+            throw new IllegalArgumentException("Beta must be at least 1.");
+        }
+        this.beta = beta;
+        return this;
+    }
+
+    /**
+     * Searches a graph from one vertex, using a CSR snapshot of it.
+     *
+     * @param graph  The graph to search.
+     * @param origin The label of the starting vertex.
+     * @param <T>    The type of vertex labels.
+     * @return The level of every reached vertex; nothing is reached if the origin is not in the graph.
+     */
+    public <T> Result<T> search(DirectedGraph<T> graph, T origin) {
+        return search(graph.freeze(), origin);
+    }
+
+    /**
+     * Searches a compressed graph from one vertex.
+     *
+     * @param graph  The graph to search.
+     * @param origin The label of the starting vertex.
+     * @param <T>    The type of vertex labels.
+     * @return The level of every reached vertex; nothing is reached if the origin is not in the graph.
+     */
+    public <T> Result<T> search(CompressedGraph<T> graph, T origin) {
+        int vertexCount = graph.getNumberOfVertices();
+        int[] level = new int[vertexCount];
+        Arrays.fill(level, -1);
+        int originId = graph.getVertexId(origin);
+        if (originId < 0) {
+            return new Result<>(graph, level, new int[0], -1, 0);
+        }
+
+        AtomicLongArray visited = new AtomicLongArray((vertexCount + Long.SIZE - 1) / Long.SIZE);
+        int[] order = new int[vertexCount];  // Reached vertex ids, level by level
+        order[0] = originId;
+        level[originId] = 0;
+        visited.set(originId / Long.SIZE, 1L << originId);
+        int frontierStart = 0;
+        int frontierEnd = 1;
+        long uncheckedEdges = graph.edgeEnd(vertexCount - 1) - graph.getOutDegree(originId);
+        int depth = 0;
+        int bottomUpLevels = 0;
+        boolean bottomUp = false;
+
+        while (frontierStart < frontierEnd) {
+            long frontierEdges = 0;
+            for (int i = frontierStart; i < frontierEnd; i++) {
+                frontierEdges += graph.getOutDegree(order[i]);
+            }
+            if (!bottomUp && frontierEdges > uncheckedEdges / alpha) {
+                bottomUp = true;
+            } else if (bottomUp && frontierEnd - frontierStart < vertexCount / beta) {
+                bottomUp = false;
+            }
+
+            int[][] found = bottomUp
+                    ? expandBottomUp(graph, level, visited, depth)
+                    : expandTopDown(graph, order, frontierStart, frontierEnd, level, visited, depth);
+            if (bottomUp) {
+                bottomUpLevels++;
+            }
+
+            // Append each chunk's newly reached vertices to form the next frontier
+            int next = frontierEnd;
+            for (int[] chunk : found) {
+                for (int i = 1; i <= chunk[0]; i++) {
+                    order[next++] = chunk[i];
+                    uncheckedEdges -= graph.getOutDegree(chunk[i]);
+                }
+            }
+            frontierStart = frontierEnd;
+            frontierEnd = next;
+            depth++;
+        }
+        return new Result<>(graph, level, Arrays.copyOf(order, frontierEnd), depth - 1, bottomUpLevels);
+    }
+
+    /**
+     * Expands one level from the frontier's out-edges. Each chunk of the frontier
+     * claims neighbors by setting their visited bits; only the thread that sets a bit
+     * records the vertex.
+     *
+     * @return For each chunk, its count of newly reached vertices followed by their ids.
+     */
+    private static <T> int[][] expandTopDown(CompressedGraph<T> graph, int[] order, int frontierStart,
+                                             int frontierEnd, int[] level, AtomicLongArray visited, int depth) {
+        int frontierSize = frontierEnd - frontierStart;
+        int chunks = chunkCount(frontierSize);
+        int[][] found = new int[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int from = frontierStart + (int) ((long) frontierSize * chunk / chunks);
+            int to = frontierStart + (int) ((long) frontierSize * (chunk + 1) / chunks);
+            int[] reached = new int[16];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                int frontId = order[i];
+                for (int e = graph.edgeStart(frontId); e < graph.edgeEnd(frontId); e++) {
+                    int neighborId = graph.edgeTarget(e);
+                    if (claim(visited, neighborId)) {
+                        level[neighborId] = depth + 1;
+                        if (++count == reached.length) {
+                            reached = Arrays.copyOf(reached, 2 * reached.length);
+                        }
+                        reached[count] = neighborId;
+                    }
+                }
+            }
+            reached[0] = count;
+            found[chunk] = reached;
+        });
+        return found;
+    }
+
+    /**
+     * Expands one level from the unvisited vertices' in-edges. Each chunk owns a range
+     * of 64-aligned vertex ids, so no two chunks write the same visited word.
+     *
+     * @return For each chunk, its count of newly reached vertices followed by their ids.
+     */
+    private static <T> int[][] expandBottomUp(CompressedGraph<T> graph, int[] level, AtomicLongArray visited,
+                                              int depth) {
+        int[][] reverse = graph.getReverseEdges();
+        int[] inOffsets = reverse[0];
+        int[] sources = reverse[1];
+        int words = visited.length();
+        int chunks = chunkCount(graph.getNumberOfVertices());
+        int[][] found = new int[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int fromWord = (int) ((long) words * chunk / chunks);
+            int toWord = (int) ((long) words * (chunk + 1) / chunks);
+            int[] reached = new int[16];
+            int count = 0;
+            for (int word = fromWord; word < toWord; word++) {
+                long bits = visited.get(word);
+                long added = 0;
+                int end = Math.min(level.length, (word + 1) * Long.SIZE);
+                for (int v = word * Long.SIZE; v < end; v++) {
+                    if ((bits & (1L << v)) != 0) {
+                        continue;
+                    }
+                    for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                        if (level[sources[e]] == depth) {
+                            level[v] = depth + 1;
+                            added |= 1L << v;
+                            if (++count == reached.length) {
+                                reached = Arrays.copyOf(reached, 2 * reached.length);
+                            }
+                            reached[count] = v;
+                            break;
+                        }
+                    }
+                }
+                if (added != 0) {
+                    visited.set(word, bits | added);
+                }
+            }
+            reached[0] = count;
+            found[chunk] = reached;
+        });
+        return found;
+    }
+
+    /**
+     * Sets the visited bit of a vertex.
+     *
+     * @return {@code true} if this call set the bit, {@code false} if it was already set.
+     */
+    private static boolean claim(AtomicLongArray visited, int vertexId) {
+        int word = vertexId / Long.SIZE;
+        long bit = 1L << vertexId;
+        long bits = visited.get(word);
+        while ((bits & bit) == 0) {
+            long witness = visited.compareAndExchange(word, bits, bits | bit);
+            if (witness == bits) {
+                return true;
+            }
+            bits = witness;
+        }
+        return false;
+    }
+
+    private static int chunkCount(int work) {
+        int cores = CHUNKS_PER_CORE * Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(cores, work / MIN_CHUNK));
+    }
+
+    /**
+     * The vertices reached by one search and their levels.
+     *
+     * @param <T> The type of vertex labels.
+     */
+    public static final class Result<T> {
+        private final CompressedGraph<T> graph;
+        private final int[] level;  // Edges from the origin to each vertex id, -1 if unreached
+        private final int[] order;  // Reached vertex ids in level order
+        private final int depth;
+        private final int bottomUpLevels;
+
+        private Result(CompressedGraph<T> graph, int[] level, int[] order, int depth, int bottomUpLevels) {
+            this.graph = graph;
+            this.level = level;
+            this.order = order;
+            this.depth = depth;
+            this.bottomUpLevels = bottomUpLevels;
+        }
+
+        /**
+         * Returns the level of a vertex: the number of edges on a shortest path to it
+         * from the origin.
+         *
+         * @param vertexLabel The label of the vertex.
+         * @return The level, or {@code -1} if the vertex was not reached or is not in the graph.
+         */
+        public int getLevel(T vertexLabel) {
+            int id = graph.getVertexId(vertexLabel);
+            return (id < 0) ? -1 : level[id];
+        }
+
+        /**
+         * Returns the number of vertices reached, including the origin.
+         *
+         * @return The reached count.
+         */
+        public int getReachedCount() {
+            return order.length;
+        }
+
+        /**
+         * Returns the level of the farthest reached vertex.
+         *
+         * @return The greatest level, or {@code -1} if nothing was reached.
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Returns the number of levels expanded bottom-up.
+         *
+         * @return The bottom-up level count.
+         */
+        public int getBottomUpLevels() {
+            return bottomUpLevels;
+        }
+
+        /**
+         * Returns the reached vertices in level order, like
+         * {@link GraphInterface#getBreadthFirstTraversal(Object)}.
+         *
+         * @return A queue of the reached labels.
+         */
+        public QueueInterface<T> getTraversal() {
+            QueueInterface<T> traversal = new ArrayQueue<>();
+            for (int id : order) {
+                traversal.enqueue(graph.getLabel(id));
+            }
+            return traversal;
+        }
+
+        /**
+         * Returns the number of vertices reached at each level.
+         *
+         * @return The count at each level from 0 up to {@link #getDepth()}.
+         */
+        public int[] getLevelSizes() {
+            int[] sizes = new int[depth + 1];
+            for (int id : order) {
+                sizes[level[id]]++;
+            }
+            return sizes;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package GraphPackage;
+
+/**
+ * Counts the work done by cheapest path searches, so searches guided by different
+ * heuristics can be compared. One object may collect the totals of many searches;
+ * it is not thread safe, so give each thread its own.
+ *
+ * @see GraphInterface#getCheapestPath(Object, Object, ADTPackage.StackInterface, DistanceHeuristic, SearchStatistics)
+ */
+public final class SearchStatistics {
+    private long searches;
+    private long settled;
+    private int lastSettled;
+
+    /**
+     * Records one finished search.
+     *
+     * @param settledCount The number of vertices the search settled.
+     */
+    void record(int settledCount) {
+        searches++;
+        settled += settledCount;
+        lastSettled = settledCount;
+    }
+
+    /**
+     * Returns the number of searches recorded.
+     *
+     * @return The search count.
+     */
+    public long getSearches() {
+        return searches;
+    }
+
+    /**
+     * Returns the number of vertices settled by all recorded searches: removed from the
+     * priority queue with their final cost.
+     *
+     * @return The total settled count.
+     */
+    public long getSettledCount() {
+        return settled;
+    }
+
+    /**
+     * Returns the number of vertices settled by the last recorded search.
+     *
+     * @return The settled count, or 0 if no search was recorded.
+     */
+    public int getLastSettledCount() {
+        return lastSettled;
+    }
+
+    /**
+     * Forgets every recorded search.
+     */
+    public void reset() {
+        searches = 0;
+        settled = 0;
+        lastSettled = 0;
+    }
+}
@@ -0,0 +1,116 @@
+package GraphPackage;
+
+import ADTPackage.IndexedMinHeap;
+import ADTPackage.IntArrayQueue;
+import ADTPackage.IntStack;
+
+import java.util.Arrays;
+
+/**
+ * Per-query scratch state for graph traversals, indexed by vertex id.
+ * Instead of clearing its arrays before every query, the context stamps each
+ * mark with the current query's epoch: a vertex counts as marked only when its
+ * stamp equals the epoch, so starting a new query is O(1) and a query touches
+ * only the vertices it visits. Contexts are reused across queries but are never
+ * shared by two queries at once, which lets many threads search one graph.
+ */
+final class TraversalContext {
+    private int epoch;
+    private int[] forwardStamp;   // Epoch in which a vertex was reached from the origin
+    private int[] backwardStamp;  // Epoch in which a vertex was reached from the target
+    private int[] settledStamp;   // Epoch in which a vertex's cost became final
+
+    int[] forwardDistance;        // Edges from the origin, valid once reached forward
+    int[] backwardDistance;       // Edges to the target, valid once reached backward
+    int[] forwardLink;            // Predecessor toward the origin, -1 at the origin
+    int[] backwardLink;           // Successor toward the target, -1 at the target
+    int[] forwardQueue;           // Vertex ids in the order the bidirectional forward search reached them
+    int[] backwardQueue;          // Vertex ids in the order the bidirectional backward search reached them
+    double[] cost;                // Tentative path cost, valid once reached forward
+    final IndexedMinHeap heap;    // Priority queue of vertex ids, empty between queries
+    final IntArrayQueue frontier; // Breadth-first frontier, empty between queries
+    final IntStack vertexStack;   // Depth-first stack and path scratch, empty between queries
+    final IntStack edgeCursors;   // Next edge to examine for each depth-first stack frame
+
+    /**
+     * Creates a context for graphs whose vertex ids are below the given capacity.
+     *
+     * @param vertexCapacity One more than the largest vertex id.
+     */
+    TraversalContext(int vertexCapacity) {
+        allocate(Math.max(vertexCapacity, 1));
+        heap = new IndexedMinHeap(vertexCapacity);
+        frontier = new IntArrayQueue();
+        vertexStack = new IntStack();
+        edgeCursors = new IntStack();
+        epoch = 0;
+    }
+
+    /**
+     * Starts a new query, forgetting every mark made by earlier queries.
+     *
+     * @param vertexCapacity One more than the largest vertex id the query may touch.
+     */
+    void begin(int vertexCapacity) {
+        if (vertexCapacity > forwardStamp.length) {
+            allocate(Math.max(vertexCapacity, 2 * forwardStamp.length));
+            epoch = 0;
+        }
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(forwardStamp, 0);
+            Arrays.fill(backwardStamp, 0);
+            Arrays.fill(settledStamp, 0);
+            epoch = 0;
+        }
+        epoch++;
+        heap.clear();
+        frontier.clear();
+        vertexStack.clear();
+        edgeCursors.clear();
+    }
+
+    /** Checks whether a vertex has been reached from the origin in this query. */
+    boolean isReached(int vertexId) {
+        return forwardStamp[vertexId] == epoch;
+    }
+
+    /** Marks a vertex as reached from the origin through the given predecessor. */
+    void reach(int vertexId, int predecessorId) {
+        forwardStamp[vertexId] = epoch;
+        forwardLink[vertexId] = predecessorId;
+    }
+
+    /** Checks whether a vertex has been reached from the target in this query. */
+    boolean isReachedBackward(int vertexId) {
+        return backwardStamp[vertexId] == epoch;
+    }
+
+    /** Marks a vertex as reached from the target through the given successor. */
+    void reachBackward(int vertexId, int successorId) {
+        backwardStamp[vertexId] = epoch;
+        backwardLink[vertexId] = successorId;
+    }
+
+    /** Checks whether a vertex's cost is final in this query. */
+    boolean isSettled(int vertexId) {
+        return settledStamp[vertexId] == epoch;
+    }
+
+    /** Marks a vertex's cost as final. */
+    void settle(int vertexId) {
+        settledStamp[vertexId] = epoch;
+    }
+
+    private void allocate(int capacity) {
+        forwardStamp = new int[capacity];
+        backwardStamp = new int[capacity];
+        settledStamp = new int[capacity];
+        forwardDistance = new int[capacity];
+        backwardDistance = new int[capacity];
+        forwardLink = new int[capacity];
+        backwardLink = new int[capacity];
+        forwardQueue = new int[capacity];
+        backwardQueue = new int[capacity];
+        cost = new double[capacity];
+    }
+}
@@ -0,0 +1,275 @@
+package GraphPackage;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Counts the triangles of an undirected graph, in total and per vertex, and derives
+ * local clustering coefficients from them.
+ *
+ * <p>Vertices are ranked by degree, and each edge is kept once, pointing from its
+ * lower-ranked end to its higher-ranked end, in sorted int arrays. Every triangle is
+ * then found exactly once, from its lowest-ranked vertex, by intersecting the two
+ * forward lists of an edge. Because forward lists of high-degree vertices are short,
+ * this takes O(E^1.5) time in the worst case. Intersections merge lists of similar
+ * length and gallop through a much longer one. Vertices are processed in parallel.
+ */
+public final class TriangleCounter {
+    private static final int GALLOP_RATIO = 16;  // Gallop when one list is this many times longer
+    private static final int CHUNKS_PER_CORE = 8;
+
+    private TriangleCounter() {
+    }
+
+    /**
+     * Counts the triangles of an undirected graph.
+     *
+     * @param graph The graph.
+     * @param <T>   The type of vertex labels.
+     * @return The triangle counts and clustering coefficients.
+     */
+    public static <T> Result<T> count(UndirectedGraph<T> graph) {
+        return count(graph.freeze());
+    }
+
+    /**
+     * Counts the triangles of a compressed graph whose edges all appear in both
+     * directions, such as a snapshot of an {@link UndirectedGraph}. Self-loops are ignored.
+     *
+     * @param graph The symmetric graph.
+     * @param <T>   The type of vertex labels.
+     * @return The triangle counts and clustering coefficients.
+     */
+    public static <T> Result<T> count(CompressedGraph<T> graph) {
+        int n = graph.getNumberOfVertices();
+        int[] degree = new int[n];
+        for (int v = 0; v < n; v++) {
+            for (int e = graph.edgeStart(v); e < graph.edgeEnd(v); e++) {
+                if (graph.edgeTarget(e) != v) {
+                    degree[v]++;
+                }
+            }
+        }
+
+        // Rank by degree with a counting sort; ties keep id order
+        int maxDegree = 0;
+        for (int d : degree) {
+            maxDegree = Math.max(maxDegree, d);
+        }
+        int[] degreeStart = new int[maxDegree + 2];
+        for (int d : degree) {
+            degreeStart[d + 1]++;
+        }
+        for (int d = 0; d <= maxDegree; d++) {
+            degreeStart[d + 1] += degreeStart[d];
+        }
+        int[] rank = new int[n];
+        int[] vertexOfRank = new int[n];
+        for (int v = 0; v < n; v++) {
+            rank[v] = degreeStart[degree[v]]++;
+            vertexOfRank[rank[v]] = v;
+        }
+
+        // Forward adjacency by rank: each edge once, toward the higher rank, sorted
+        int[] forwardOffsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            for (int e = graph.edgeStart(v); e < graph.edgeEnd(v); e++) {
+                if (rank[graph.edgeTarget(e)] > rank[v]) {
+                    forwardOffsets[rank[v] + 1]++;
+                }
+            }
+        }
+        Arrays.parallelPrefix(forwardOffsets, Integer::sum);
+        int[] forward = new int[forwardOffsets[n]];
+        IntStream.range(0, n).parallel().forEach(r -> {
+            int v = vertexOfRank[r];
+            int next = forwardOffsets[r];
+            for (int e = graph.edgeStart(v); e < graph.edgeEnd(v); e++) {
+                int targetRank = rank[graph.edgeTarget(e)];
+                if (targetRank > r) {
+                    forward[next++] = targetRank;
+                }
+            }
+            Arrays.sort(forward, forwardOffsets[r], next);
+        });
+
+        // Each task adds to a pooled per-rank count array; the arrays are summed at the end
+        Queue<long[]> countPool = new ConcurrentLinkedQueue<>();
+        Queue<long[]> allCounts = new ConcurrentLinkedQueue<>();
+        int chunks = Math.max(1, Math.min(n, CHUNKS_PER_CORE * Runtime.getRuntime().availableProcessors()));
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            long[] counts = countPool.poll();
+            if (counts == null) {
+                counts = new long[n];
+                allCounts.add(counts);
+            }
+            // Interleave ranks so the few long forward lists are spread over all chunks
+            for (int u = chunk; u < n; u += chunks) {
+                for (int e = forwardOffsets[u]; e < forwardOffsets[u + 1]; e++) {
+                    int v = forward[e];
+                    counts[u] += intersect(forward, e + 1, forwardOffsets[u + 1],
+                            forwardOffsets[v], forwardOffsets[v + 1], v, counts);
+                }
+            }
+            countPool.add(counts);
+        });
+
+        long[] triangles = new long[n];
+        long[][] partials = allCounts.toArray(new long[0][]);
+        IntStream.range(0, n).parallel().forEach(r -> {
+            long sum = 0;
+            for (long[] partial : partials) {
+                sum += partial[r];
+            }
+            triangles[vertexOfRank[r]] = sum;
+        });
+        return new Result<>(graph, triangles, degree);
+    }
+
+    /**
+     * Finds the ranks common to two sorted ranges of the forward array. Each common
+     * rank w closes a triangle with the edge (u, v), so w and v each gain one triangle.
+     *
+     * @return The number of common ranks, which u gains.
+     */
+    private static long intersect(int[] forward, int from1, int to1, int from2, int to2, int v, long[] counts) {
+        int length1 = to1 - from1;
+        int length2 = to2 - from2;
+        if (length1 == 0 || length2 == 0) {
+            return 0;
+        }
+        if (length1 > GALLOP_RATIO * length2) {
+            return gallop(forward, from2, to2, from1, to1, v, counts);
+        }
+        if (length2 > GALLOP_RATIO * length1) {
+            return gallop(forward, from1, to1, from2, to2, v, counts);
+        }
+
+        long found = 0;
+        int i = from1;
+        int j = from2;
+        while (i < to1 && j < to2) {
+            if (forward[i] < forward[j]) {
+                i++;
+            } else if (forward[i] > forward[j]) {
+                j++;
+            } else {
+                counts[forward[i]]++;
+                found++;
+                i++;
+                j++;
+            }
+        }
+        counts[v] += found;
+        return found;
+    }
+
+    /**
+     * Intersects a short sorted range with a long one by exponential then binary search
+     * for each element of the short range.
+     */
+    private static long gallop(int[] forward, int shortFrom, int shortTo, int longFrom, int longTo, int v,
+                               long[] counts) {
+        long found = 0;
+        int low = longFrom;
+        for (int i = shortFrom; i < shortTo && low < longTo; i++) {
+            int wanted = forward[i];
+            int step = 1;
+            int high = low;
+            while (high < longTo && forward[high] < wanted) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            int position = Arrays.binarySearch(forward, low, Math.min(high + 1, longTo), wanted);
+            if (position >= 0) {
+                counts[wanted]++;
+                found++;
+                low = position + 1;
+            } else {
+                low = -position - 1;
+            }
+        }
+        counts[v] += found;
+        return found;
+    }
+
+    /**
+     * The triangle counts of one graph.
+     *
+     * @param <T> The type of vertex labels.
+     */
+    public static final class Result<T> {
+        private final CompressedGraph<T> graph;
+        private final long[] triangles;  // Triangles through each vertex id
+        private final int[] degree;      // Distinct neighbors of each vertex id, excluding itself
+        private final long total;
+
+        private Result(CompressedGraph<T> graph, long[] triangles, int[] degree) {
+            this.graph = graph;
+            this.triangles = triangles;
+            this.degree = degree;
+            long sum = 0;
+            for (long count : triangles) {
+                sum += count;
+            }
+            this.total = sum / 3;  // Every triangle is counted at each of its three vertices
+        }
+
+        /**
+         * Returns the number of triangles in the graph.
+         *
+         * @return The triangle count.
+         */
+        public long getTriangleCount() {
+            return total;
+        }
+
+        /**
+         * Returns the number of triangles a vertex belongs to.
+         *
+         * @param vertexLabel The label of the vertex.
+         * @return The vertex's triangle count, or 0 if the label is not in the graph.
+         */
+        public long getTriangles(T vertexLabel) {
+            int id = graph.getVertexId(vertexLabel);
+            return (id < 0) ? 0 : triangles[id];
+        }
+
+        /**
+         * Returns the local clustering coefficient of a vertex: the fraction of pairs of
+         * its neighbors that are neighbors of each other.
+         *
+         * @param vertexLabel The label of the vertex.
+         * @return The coefficient from 0 to 1; 0 for vertices with fewer than two
+         *         neighbors or not in the graph.
+         */
+        public double getClusteringCoefficient(T vertexLabel) {
+            int id = graph.getVertexId(vertexLabel);
+            return (id < 0) ? 0 : coefficient(id);
+        }
+
+        /**
+         * Returns the mean local clustering coefficient over all vertices.
+         *
+         * @return The average coefficient, or 0 for an empty graph.
+         */
+        public double getAverageClusteringCoefficient() {
+            if (triangles.length == 0) {
+                return 0;
+            }
+            double sum = 0;
+            for (int id = 0; id < triangles.length; id++) {
+                sum += coefficient(id);
+            }
+            return sum / triangles.length;
+        }
+
+        private double coefficient(int id) {
+            long d = degree[id];
+            return (d < 2) ? 0 : 2.0 * triangles[id] / (d * (d - 1));
+        }
+    }
+}
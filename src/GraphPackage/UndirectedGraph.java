@@ -1,14 +1,23 @@
 package GraphPackage;
 
+import ADTPackage.DictionaryInterface;
+import ADTPackage.DisjointSet;
 import ADTPackage.QueueInterface;
 import ADTPackage.StackInterface;
 
+import java.util.Arrays;
+import java.util.Iterator;
+
 /**
  * A class that implements an undirected graph by extending DirectedGraph.
+ * Connected components are tracked in a disjoint set over vertex ids, built on the
+ * first component query and kept up to date as vertices and edges are added. Removing
+ * a vertex drops the disjoint set, and the next query rebuilds it.
  *
  * @param <T> The type of vertex labels (must be unique).
  */
 public class UndirectedGraph<T> extends DirectedGraph<T> {
+    private volatile DisjointSet components; // Component of each vertex id, null until queried or after a removal
 
     /**
      * Default constructor for an undirected graph.
@@ -17,6 +26,38 @@ public class UndirectedGraph<T> extends DirectedGraph<T> {
         super();
     }
 
+    /**
+     * Constructs an undirected graph that stores its vertices in the given dictionary.
+     *
+     * @param vertexDictionary An empty dictionary used to map labels to vertices.
+     */
+    public UndirectedGraph(DictionaryInterface<T, VertexInterface<T>> vertexDictionary) {
+        super(vertexDictionary);
+    }
+
+    /**
+     * Constructs an undirected graph whose vertices index their edges above the given degree.
+     *
+     * @param vertexDictionary       An empty dictionary used to map labels to vertices.
+     * @param neighborIndexThreshold The degree above which a vertex indexes its edges.
+     */
+    public UndirectedGraph(DictionaryInterface<T, VertexInterface<T>> vertexDictionary, int neighborIndexThreshold) {
+        super(vertexDictionary, neighborIndexThreshold);
+    }
+
+    /**
+     * Adds a vertex, as a component of its own if components are being tracked.
+     */
+    @Override
+    public boolean addVertex(T vertexLabel) {
+        boolean added = super.addVertex(vertexLabel);
+        DisjointSet currentComponents = components;
+        if (added && currentComponents != null) {
+            currentComponents.grow(getVertexIdBound());
+        }
+        return added;
+    }
+
     /**
      * Adds a weighted edge between two vertices in both directions.
      */
@@ -24,6 +65,10 @@ public class UndirectedGraph<T> extends DirectedGraph<T> {
     public boolean addEdge(T begin, T end, double edgeWeight) {
         boolean addedFirst = super.addEdge(begin, end, edgeWeight);
         boolean addedSecond = super.addEdge(end, begin, edgeWeight);
+        DisjointSet currentComponents = components;
+        if ((addedFirst || addedSecond) && currentComponents != null) {
+            currentComponents.union(getVertex(begin).getId(), getVertex(end).getId());
+        }
         return addedFirst && addedSecond;
     }
 
@@ -40,15 +85,125 @@ public class UndirectedGraph<T> extends DirectedGraph<T> {
      */
     @Override
     public boolean removeVertex(T vertexLabel) {
-        return super.removeVertex(vertexLabel);
+        boolean removed = super.removeVertex(vertexLabel);
+        if (removed) {
+            components = null;  // A component may have split; rebuilt on the next query
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all vertices and edges.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        components = null;
+    }
+
+    /**
+     * Checks if two vertices are in the same connected component, that is, if there
+     * is a path between them. Takes nearly constant time once components are built.
+     *
+     * @param begin The label of the first vertex.
+     * @param end   The label of the second vertex.
+     * @return {@code true} if both vertices exist and are connected, {@code false} otherwise.
+     */
+    public boolean inSameComponent(T begin, T end) {
+        VertexInterface<T> beginVertex = getVertex(begin);
+        VertexInterface<T> endVertex = getVertex(end);
+        if (beginVertex == null || endVertex == null) {
+            return false;
+        }
+        return getComponents().connected(beginVertex.getId(), endVertex.getId());
     }
 
     /**
-     * Finds the shortest path between two vertices using BFS.
+     * Returns the number of vertices in the connected component of a vertex.
+     *
+     * @param vertexLabel The label of the vertex.
+     * @return The size of the vertex's component, or 0 if there is no such vertex.
+     */
+    public int getComponentSize(T vertexLabel) {
+        VertexInterface<T> vertex = getVertex(vertexLabel);
+        return (vertex == null) ? 0 : getComponents().getSetSize(vertex.getId());
+    }
+
+    /**
+     * Returns the number of connected components.
+     *
+     * @return The number of components; 0 for an empty graph.
+     */
+    public int getNumberOfComponents() {
+        DisjointSet currentComponents = getComponents();
+        int removedIds = currentComponents.getSize() - getNumberOfVertices();  // Each is a set of its own
+        return currentComponents.getSetCount() - removedIds;
+    }
+
+    /**
+     * Returns the size of every connected component, largest first.
+     *
+     * @return The component sizes, which add up to the number of vertices.
+     */
+    public int[] getComponentSizes() {
+        DisjointSet currentComponents = getComponents();
+        int[] sizes = new int[getNumberOfComponents()];
+        int count = 0;
+        for (int id = 0; id < currentComponents.getSize(); id++) {
+            if (getVertexById(id) != null && currentComponents.find(id) == id) {
+                sizes[count++] = currentComponents.getSetSize(id);
+            }
+        }
+        Arrays.sort(sizes);
+        for (int i = 0, j = sizes.length - 1; i < j; i++, j--) {
+            int swap = sizes[i];
+            sizes[i] = sizes[j];
+            sizes[j] = swap;
+        }
+        return sizes;
+    }
+
+    private DisjointSet getComponents() {
+        DisjointSet currentComponents = components;
+        return (currentComponents != null) ? currentComponents : buildComponents();
+    }
+
+    /**
+     * Builds the disjoint set of components from the current edges, once even if
+     * several threads query at the same time.
+     */
+    private synchronized DisjointSet buildComponents() {
+        if (components == null) {
+            int idBound = getVertexIdBound();
+            DisjointSet built = new DisjointSet(idBound);
+            for (int id = 0; id < idBound; id++) {
+                VertexInterface<T> vertex = getVertexById(id);
+                if (vertex != null) {
+                    for (int edge = 0; edge < vertex.getNeighborCount(); edge++) {
+                        built.union(id, vertex.getNeighbor(edge).getId());
+                    }
+                }
+            }
+            components = built;
+        }
+        return components;
+    }
+
+    /**
+     * Finds the shortest path between two vertices using a bidirectional BFS.
      */
     @Override
     public int getShortestPath(T begin, T end, StackInterface<T> path) {
-        return super.getShortestPath(begin, end, path);
+        return getShortestPathBidirectional(begin, end, path);
+    }
+
+    /**
+     * Returns the vertices adjacent to the given vertex; every edge runs both ways,
+     * so no reverse adjacency index is needed.
+     */
+    @Override
+    protected Iterator<VertexInterface<T>> getIncomingNeighborIterator(VertexInterface<T> vertex) {
+        return vertex.getNeighborIterator();
     }
 
     /**
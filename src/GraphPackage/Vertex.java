@@ -1,17 +1,37 @@
 package GraphPackage;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * A class that implements a vertex in a graph.
+ * The outgoing edges are stored in two parallel arrays, one of end vertices and one of
+ * primitive weights, so weighted algorithms can read them without boxing and no
+ * object is allocated per edge.
+ *
+ * <p>Edge lookups scan the edges while the vertex has few of them. Once its degree
+ * passes a threshold, the vertex also keeps a hash index from end vertex to edge
+ * position, so {@link #hasEdge} and {@link #connect} take constant expected time
+ * however many edges it has. Removing an edge shifts the later edges down, so edges
+ * stay in the order they were added and traversals visit neighbors in that order.
  *
  * @param <T> The type of the vertex label (must be unique).
  */
 public class Vertex<T> implements VertexInterface<T> {
+    /** The default degree above which a vertex indexes its edges by end vertex. */
+    public static final int DEFAULT_INDEX_THRESHOLD = 32;
+    private static final int DEFAULT_EDGE_CAPACITY = 4;
+    private static final VertexInterface<?>[] NO_NEIGHBORS = new VertexInterface<?>[0];
+    private static final double[] NO_WEIGHTS = new double[0];
+
     private final T label;
-    private final List<Edge> edgeList;
+    private final int id;
+    private VertexInterface<T>[] neighbors; // End vertex of each edge
+    private double[] weights;               // Weight of each edge, parallel to neighbors
+    private int edgeCount;
+    private final int indexThreshold;
+    private int[] neighborIndex; // Open-addressing table of edge position + 1 (0 = free), null below the threshold
     private boolean visited;
     private VertexInterface<T> previousVertex;
     private double cost;
@@ -22,8 +42,37 @@ public class Vertex<T> implements VertexInterface<T> {
      * @param label The label of the vertex.
      */
     public Vertex(T label) {
+        this(label, -1);
+    }
+
+    /**
+     * Constructs a new vertex with the specified label and graph-assigned id.
+     *
+     * @param label The label of the vertex.
+     * @param id    The dense integer id the owning graph uses to index per-vertex arrays.
+     */
+    public Vertex(T label, int id) {
+        this(label, id, DEFAULT_INDEX_THRESHOLD);
+    }
+
+    /**
+     * Constructs a new vertex that indexes its edges once it has more than the given number.
+     *
+     * @param label          The label of the vertex.
+     * @param id             The dense integer id the owning graph uses to index per-vertex arrays.
+     * @param indexThreshold The degree above which edges are looked up through a hash index;
+     *                       0 indexes every edge, {@link Integer#MAX_VALUE} never does.
+     * @throws IllegalArgumentException if the threshold is negative.
+     */
+    public Vertex(T label, int id, int indexThreshold) {
+        if (indexThreshold < 0) {
+            throw new IllegalArgumentException("Index threshold must not be negative.");
+        }
+        this.indexThreshold = indexThreshold;
         this.label = label;
-        this.edgeList = new ArrayList<>();
+        this.id = id;
+        this.neighbors = emptyNeighbors();
+        this.weights = NO_WEIGHTS;
         this.visited = false;
         this.previousVertex = null;
         this.cost = 0;
@@ -39,6 +88,16 @@ public class Vertex<T> implements VertexInterface<T> {
         return label;
     }
 
+    /**
+     * Returns the id of this vertex within its graph.
+     *
+     * @return The vertex id, or {@code -1} if the vertex does not belong to a graph.
+     */
+    @Override
+    public int getId() {
+        return id;
+    }
+
     /**
      * Marks this vertex as visited.
      */
@@ -77,10 +136,47 @@ public class Vertex<T> implements VertexInterface<T> {
         if (hasEdge(endVertex)) {
             return false;  // Edge already exists
         }
-        edgeList.add(new Edge(endVertex, edgeWeight));
+        if (edgeCount == neighbors.length) {
+            int capacity = Math.max(DEFAULT_EDGE_CAPACITY, 2 * edgeCount);
+            neighbors = Arrays.copyOf(neighbors, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        neighbors[edgeCount] = endVertex;
+        weights[edgeCount] = edgeWeight;
+        edgeCount++;
+
+        if (neighborIndex != null) {
+            if (2 * edgeCount > neighborIndex.length) {
+                rebuildIndex(2 * neighborIndex.length);
+            } else {
+                insertIntoIndex(edgeCount - 1);
+            }
+        } else if (edgeCount > indexThreshold) {
+            rebuildIndex(Integer.highestOneBit(4 * edgeCount - 1)); // At most half full
+        }
         return true;
     }
 
+    /**
+     * Replaces the edges of a vertex that has none with the given exactly sized arrays,
+     * without checking for duplicates. Used by {@link GraphBuilder}, which has already
+     * removed them.
+     *
+     * @param endVertices The end vertex of each edge, all distinct.
+     * @param edgeWeights The weight of each edge, parallel to the end vertices.
+     */
+    void setEdges(VertexInterface<T>[] endVertices, double[] edgeWeights) {
+        if (edgeCount != 0 || endVertices.length != edgeWeights.length) {
+            throw new IllegalStateException("Edges can only be set once, with one weight per edge.");
+        }
+        neighbors = endVertices;
+        weights = edgeWeights;
+        edgeCount = endVertices.length;
+        if (edgeCount > indexThreshold) {
+            rebuildIndex(Integer.highestOneBit(4 * edgeCount - 1));
+        }
+    }
+
     /**
      * Connects this vertex to another vertex with a default edge weight of 0.
      *
@@ -100,12 +196,7 @@ public class Vertex<T> implements VertexInterface<T> {
      */
     @Override
     public boolean hasEdge(VertexInterface<T> endVertex) {
-        for (Edge edge : edgeList) {
-            if (edge.getEndVertex().equals(endVertex)) {
-                return true;
-            }
-        }
-        return false;
+        return indexOf(endVertex) >= 0;
     }
 
     /**
@@ -116,15 +207,25 @@ public class Vertex<T> implements VertexInterface<T> {
      */
     @Override
     public boolean disconnect(VertexInterface<T> endVertex) {
-        Iterator<Edge> edgeIterator = edgeList.iterator();
-        while (edgeIterator.hasNext()) {
-            Edge edge = edgeIterator.next();
-            if (edge.getEndVertex().equals(endVertex)) {
-                edgeIterator.remove();
-                return true;  // Edge successfully removed
+        int position = indexOf(endVertex);
+        if (position < 0) {
+            return false;  // Edge not found
+        }
+        if (neighborIndex != null) {
+            removeFromIndex(position);
+            for (int slot = 0; slot < neighborIndex.length; slot++) {
+                if (neighborIndex[slot] > position + 1) {
+                    neighborIndex[slot]--;  // The later edges move down one place
+                }
             }
         }
-        return false;  // Edge not found
+        // Shift the later edges down so the remaining edges keep their order
+        int moved = edgeCount - position - 1;
+        System.arraycopy(neighbors, position + 1, neighbors, position, moved);
+        System.arraycopy(weights, position + 1, weights, position, moved);
+        edgeCount--;
+        neighbors[edgeCount] = null;
+        return true;  // Edge successfully removed
     }
 
     /**
@@ -134,7 +235,43 @@ public class Vertex<T> implements VertexInterface<T> {
      */
     @Override
     public int getNeighborCount() {
-        return edgeList.size();
+        return edgeCount;
+    }
+
+    /**
+     * Returns the end vertex of the edge at the given position.
+     *
+     * @param index The position of the edge.
+     * @return The neighbor at that position.
+     */
+    @Override
+    public VertexInterface<T> getNeighbor(int index) {
+        checkIndex(index);
+        return neighbors[index];
+    }
+
+    /**
+     * Returns the weight of the edge at the given position.
+     *
+     * @param index The position of the edge.
+     * @return The weight of that edge.
+     */
+    @Override
+    public double getWeight(int index) {
+        checkIndex(index);
+        return weights[index];
+    }
+
+    /**
+     * Passes the id and weight of every edge to a consumer, in edge order.
+     *
+     * @param consumer The consumer that receives each edge.
+     */
+    @Override
+    public void forEachNeighbor(EdgeConsumer consumer) {
+        for (int i = 0; i < edgeCount; i++) {
+            consumer.accept(neighbors[i].getId(), weights[i]);
+        }
     }
 
     /**
@@ -164,7 +301,7 @@ public class Vertex<T> implements VertexInterface<T> {
      */
     @Override
     public boolean hasNeighbor() {
-        return !edgeList.isEmpty();
+        return edgeCount > 0;
     }
 
     /**
@@ -234,20 +371,110 @@ public class Vertex<T> implements VertexInterface<T> {
         return cost;
     }
 
+    /**
+     * Returns the position of the edge to the given vertex, or -1 if there is none.
+     */
+    private int indexOf(VertexInterface<T> endVertex) {
+        if (neighborIndex == null) {
+            for (int i = 0; i < edgeCount; i++) {
+                if (neighbors[i].equals(endVertex)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = neighborIndex.length - 1;
+        for (int slot = homeSlot(endVertex); neighborIndex[slot] != 0; slot = (slot + 1) & mask) {
+            int position = neighborIndex[slot] - 1;
+            if (neighbors[position].equals(endVertex)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the hash index with one of the given power-of-two size holding every edge.
+     */
+    private void rebuildIndex(int tableSize) {
+        neighborIndex = new int[tableSize];
+        for (int position = 0; position < edgeCount; position++) {
+            insertIntoIndex(position);
+        }
+    }
+
+    private void insertIntoIndex(int position) {
+        int mask = neighborIndex.length - 1;
+        int slot = homeSlot(neighbors[position]);
+        while (neighborIndex[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        neighborIndex[slot] = position + 1;
+    }
+
+    /**
+     * Returns the index slot that refers to the edge at the given position.
+     */
+    private int slotOf(int position) {
+        int mask = neighborIndex.length - 1;
+        int slot = homeSlot(neighbors[position]);
+        while (neighborIndex[slot] != position + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Removes the edge at the given position from the hash index, shifting later entries
+     * of its probe run back so lookups never stop early at the freed slot.
+     */
+    private void removeFromIndex(int position) {
+        int mask = neighborIndex.length - 1;
+        int hole = slotOf(position);
+        for (int slot = (hole + 1) & mask; neighborIndex[slot] != 0; slot = (slot + 1) & mask) {
+            int home = homeSlot(neighbors[neighborIndex[slot] - 1]);
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                neighborIndex[hole] = neighborIndex[slot];
+                hole = slot;
+            }
+        }
+        neighborIndex[hole] = 0;
+    }
+
+    private int homeSlot(VertexInterface<T> vertex) {
+        int hash = vertex.hashCode() * 0x9E3779B9;  // Spread identity hashes over the high bits
+        return (hash ^ (hash >>> 16)) & (neighborIndex.length - 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= edgeCount) {
+            throw new IndexOutOfBoundsException("Edge index " + index + " out of range for " + edgeCount + " edges.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> VertexInterface<T>[] emptyNeighbors() {
+        return (VertexInterface<T>[]) NO_NEIGHBORS;
+    }
+
     /**
      * Iterator for neighbors of this vertex.
      */
     private class NeighborIterator implements Iterator<VertexInterface<T>> {
-        private final Iterator<Edge> edges = edgeList.iterator();
+        private int next;
 
         @Override
         public boolean hasNext() {
-            return edges.hasNext();
+            return next < edgeCount;
         }
 
         @Override
         public VertexInterface<T> next() {
-            return edges.next().getEndVertex();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return neighbors[next++];
         }
     }
 
@@ -255,37 +482,19 @@ public class Vertex<T> implements VertexInterface<T> {
      * Iterator for weights of edges connected to this vertex.
      */
     private class WeightIterator implements Iterator<Double> {
-        private final Iterator<Edge> edges = edgeList.iterator();
+        private int next;
 
         @Override
         public boolean hasNext() {
-            return edges.hasNext();
+            return next < edgeCount;
         }
 
         @Override
         public Double next() {
-            return edges.next().getWeight();
-        }
-    }
-
-    /**
-     * Represents an edge in the graph, connecting two vertices.
-     */
-    private class Edge {
-        private final VertexInterface<T> vertex;
-        private final double weight;
-
-        private Edge(VertexInterface<T> vertex, double weight) {
-            this.vertex = vertex;
-            this.weight = weight;
-        }
-
-        private VertexInterface<T> getEndVertex() {
-            return vertex;
-        }
-
-        private double getWeight() {
-            return weight;
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return weights[next++];
         }
     }
 }
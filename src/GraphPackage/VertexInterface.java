@@ -16,6 +16,14 @@ public interface VertexInterface<T> {
      */
     T getLabel();
 
+    /**
+     * Returns the id of this vertex within its graph. Ids are dense, starting at 0,
+     * so graph algorithms can keep per-vertex state in primitive arrays.
+     *
+     * @return The vertex id, or {@code -1} if the vertex does not belong to a graph.
+     */
+    int getId();
+
     /**
      * Marks this vertex as visited.
      */
@@ -67,6 +75,8 @@ public interface VertexInterface<T> {
 
     /**
      * Returns an iterator over the weights of edges connected to this vertex.
+     * Each weight is boxed; weighted algorithms should prefer {@link #getWeight(int)}
+     * or {@link #forEachNeighbor(EdgeConsumer)}.
      *
      * @return An iterator for the edge weights.
      */
@@ -135,4 +145,34 @@ public interface VertexInterface<T> {
      * @return The number of neighbors.
      */
     int getNeighborCount();
+
+    /**
+     * Returns the end vertex of one of this vertex's edges. Indices follow the order of
+     * {@link #getNeighborIterator()}, so a traversal can keep its place in the edge list
+     * as an int instead of an iterator object.
+     *
+     * @param index The position of the edge, from 0 to {@code getNeighborCount() - 1}.
+     * @return The neighbor at that position.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    VertexInterface<T> getNeighbor(int index);
+
+    /**
+     * Returns the weight of one of this vertex's edges, without boxing. Indices match
+     * {@link #getNeighbor(int)}.
+     *
+     * @param index The position of the edge, from 0 to {@code getNeighborCount() - 1}.
+     * @return The weight of that edge.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    double getWeight(int index);
+
+    /**
+     * Passes the id of each neighbor and the weight of the edge to it to a consumer,
+     * in the order of {@link #getNeighborIterator()}. Nothing is boxed or allocated
+     * per edge.
+     *
+     * @param consumer The consumer that receives each edge.
+     */
+    void forEachNeighbor(EdgeConsumer consumer);
 }
@@ -1,6 +1,9 @@
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Represents a user's profile in the social media network.
@@ -13,6 +16,8 @@ public class Profile {
     private String gender; // Male/Female
     private String state; // e.g., WA, CA
     private List<Profile> friends;
+    private Set<Profile> friendSet; // Same profiles as friends, for constant-time membership checks
+    private int id = -1; // Assigned by the ProfileManager that stores this profile
 
     /**
      * Constructor for creating a Profile.
@@ -32,6 +37,7 @@ public class Profile {
         this.gender = gender;
         this.state = state;
         this.friends = new ArrayList<>();
+        this.friendSet = new HashSet<>();
     }
 
     // Getters and Setters
@@ -53,7 +59,10 @@ public class Profile {
     public String getState() { return state; }
     public void setState(String state) { this.state = state; }
 
-    public List<Profile> getFriends() { return friends; }
+    public List<Profile> getFriends() { return Collections.unmodifiableList(friends); }
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
 
     /**
      * Adds a friend to the profile's friend list.
@@ -61,20 +70,47 @@ public class Profile {
      * @param friend The friend profile to add.
      */
     public boolean addFriend(Profile friend) {
-        if (!friends.contains(friend)) {
+        if (friendSet.add(friend)) {
             friends.add(friend);
             return true;
         }
         return false;  // Friend already exists
     }
 
+    /**
+     * Checks whether a profile is in this profile's friend list.
+     *
+     * @param profile The profile to look for.
+     * @return true if the profile is a friend, in constant expected time.
+     */
+    public boolean isFriendsWith(Profile profile) {
+        return friendSet.contains(profile);
+    }
+
+    /**
+     * Sizes the friend collections for the given number of friends so that adding
+     * them does not repeatedly grow the collections. Has no effect once the profile
+     * has friends.
+     *
+     * @param friendCount The number of friends about to be added.
+     */
+    void reserveFriends(int friendCount) {
+        if (friends.isEmpty()) {
+            friends = new ArrayList<>(friendCount);
+            friendSet = new HashSet<>((int) (friendCount / 0.75f) + 1);
+        }
+    }
+
     /**
      * Removes a friend from the profile's friend list.
      *
      * @param friend The friend profile to remove.
      */
     public boolean removeFriend(Profile friend) {
-        return friends.remove(friend);  // Returns true if removed, false if not found
+        if (friendSet.remove(friend)) {
+            return friends.remove(friend);  // Returns true if removed
+        }
+        return false;  // Friend not found
     }
 
     /**
@@ -0,0 +1,500 @@
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only write-ahead log of ProfileManager mutations, used by
+ * {@link ProfileManager#openLog(Path, int, long)}.
+ *
+ * <p>The log is a directory of numbered segment files. Each segment starts with an
+ * int magic ("PWAL") and an int version, followed by records of the form
+ * {@code int payload length, int CRC-32 of the payload, payload}, where the payload
+ * is a one-byte record type and its fields (strings are an int byte length, -1 for
+ * null, followed by UTF-8 bytes).
+ *
+ * <p>Records are buffered in memory and written with a single {@code fsync} per batch
+ * (group commit): a background thread flushes the buffer once it holds
+ * {@code groupCommitRecords} records or {@code groupCommitMillis} milliseconds have
+ * passed, so a crash loses at most the last unflushed batch. Appenders never wait for
+ * the disk unless the flusher falls several batches behind.
+ *
+ * <p>Every record describes the resulting state of one profile, friendship or status,
+ * so replaying records whose effect is already part of a snapshot leaves the snapshot
+ * unchanged. Compaction relies on this: it starts a new segment, writes a snapshot,
+ * and only then deletes the older segments, so a crash at any point still recovers
+ * every flushed mutation.
+ */
+final class ProfileLog implements Closeable {
+    static final int MAGIC = 0x5057414C; // "PWAL"
+    static final int VERSION = 1;
+    private static final int HEADER_LENGTH = 8;
+    private static final int MAX_PENDING_BATCHES = 8; // Appenders wait beyond this many unflushed batches
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final byte ADD_PROFILE = 1;
+    private static final byte ADD_FRIEND = 2;
+    private static final byte REMOVE_FRIEND = 3;
+    private static final byte SET_STATUS = 4;
+    private static final byte DELETE_PROFILE = 5;
+
+    private final Path directory;
+    private final int groupCommitRecords;
+    private final long groupCommitMillis;
+    private final Object lock = new Object();                  // Guards the pending buffer and state flags
+    private final ReentrantLock flushLock = new ReentrantLock(); // Serializes writes to the segment channel
+    private final CRC32 checksum = new CRC32();                  // Guarded by lock
+    private final Thread flusher;
+
+    private ByteBuffer pending;   // Encoded records waiting to be written, guarded by lock
+    private ByteBuffer spare;     // Buffer being written, or ready to swap in, guarded by flushLock
+    private byte[] payload = new byte[256]; // Scratch space for encoding one record, guarded by lock
+    private int payloadLength;
+    private int pendingRecords;
+    private boolean closed;
+    private IOException failure;  // First error hit by the flusher, reported to later appenders
+    private long segment;         // Number of the segment being appended to, guarded by flushLock
+    private FileChannel channel;  // Guarded by flushLock
+
+    private ProfileLog(Path directory, long segment, int groupCommitRecords, long groupCommitMillis)
+            throws IOException {
+        this.directory = directory;
+        this.groupCommitRecords = groupCommitRecords;
+        this.groupCommitMillis = groupCommitMillis;
+        pending = ByteBuffer.allocate(64 * 1024);
+        spare = ByteBuffer.allocate(64 * 1024);
+        this.segment = segment;
+        channel = createSegment(segment);
+
+        flusher = new Thread(this::runFlusher, "profile-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Replays every segment in a log directory into a manager, discards a partly
+     * written record at the end of the newest segment, and starts a new segment for
+     * the records that follow.
+     *
+     * @param manager            the manager that receives the replayed mutations; it must not log them
+     * @param directory          the log directory, created if it does not exist
+     * @param groupCommitRecords the number of records that triggers a flush
+     * @param groupCommitMillis  the longest time a record waits before it is flushed
+     * @return the open log
+     * @throws IOException if the directory cannot be read or a segment other than the newest is corrupt
+     */
+    static ProfileLog open(ProfileManager manager, Path directory, int groupCommitRecords, long groupCommitMillis)
+            throws IOException {
+        if (groupCommitRecords <= 0 || groupCommitMillis <= 0) {
+            throw new IllegalArgumentException("Group commit window must be positive.");
+        }
+        Files.createDirectories(directory);
+        List<Long> segments = listSegments(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            Path file = segmentPath(directory, segments.get(i));
+            long validLength = replay(manager, file);
+            if (validLength < Files.size(file)) {
+                if (i < segments.size() - 1) {
+                    throw new IOException("Corrupt log segment: " + file);
+                }
+                try (FileChannel torn = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    torn.truncate(validLength);
+                    torn.force(true);
+                }
+            }
+        }
+        long next = segments.isEmpty() ? 1 : segments.get(segments.size() - 1) + 1;
+        return new ProfileLog(directory, next, groupCommitRecords, groupCommitMillis);
+    }
+
+    /** Records that a profile was added. */
+    void addProfile(Profile profile) {
+        synchronized (lock) {
+            beginRecord(ADD_PROFILE);
+            putString(profile.getName());
+            putString(profile.getStatus());
+            putString(profile.getPicture());
+            putInt(profile.getAge());
+            putString(profile.getGender());
+            putString(profile.getState());
+            endRecord();
+        }
+    }
+
+    /** Records that two profiles became friends. */
+    void addFriend(String name1, String name2) {
+        logPair(ADD_FRIEND, name1, name2);
+    }
+
+    /** Records that two profiles stopped being friends. */
+    void removeFriend(String name1, String name2) {
+        logPair(REMOVE_FRIEND, name1, name2);
+    }
+
+    /** Records a new status for a profile. */
+    void setStatus(String name, String status) {
+        logPair(SET_STATUS, name, status);
+    }
+
+    /** Records that a profile was deleted. */
+    void deleteProfile(String name) {
+        synchronized (lock) {
+            beginRecord(DELETE_PROFILE);
+            putString(name);
+            endRecord();
+        }
+    }
+
+    /**
+     * Writes and fsyncs every record appended so far.
+     *
+     * @throws IOException if the records cannot be written
+     */
+    void sync() throws IOException {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the older segments with a snapshot of the manager. Records appended
+     * while the snapshot is written go to the new segment.
+     *
+     * @param manager      the manager whose state the log describes
+     * @param snapshotFile the snapshot file to write
+     * @throws IOException if the snapshot cannot be written or old segments cannot be deleted
+     */
+    synchronized void compact(ProfileManager manager, Path snapshotFile) throws IOException {
+        long firstKept;
+        flushLock.lock();
+        try {
+            flushPending();
+            channel.close();
+            segment++;
+            channel = createSegment(segment);
+            firstKept = segment;
+        } finally {
+            flushLock.unlock();
+        }
+
+        manager.saveSnapshot(snapshotFile);
+        for (long old : listSegments(directory)) {
+            if (old < firstKept) {
+                Files.delete(segmentPath(directory, old));
+            }
+        }
+    }
+
+    /**
+     * Flushes the remaining records, stops the flusher and closes the segment.
+     *
+     * @throws IOException if the remaining records cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            channel.close();
+            flushLock.unlock();
+        }
+    }
+
+    private void logPair(byte type, String first, String second) {
+        synchronized (lock) {
+            beginRecord(type);
+            putString(first);
+            putString(second);
+            endRecord();
+        }
+    }
+
+    /**
+     * Starts encoding a record, waiting while the flusher is too far behind.
+     */
+    private void beginRecord(byte type) {
+        if (closed) {
+            throw new IllegalStateException("The profile log is closed.");
+        }
+        while (failure == null && pendingRecords >= MAX_PENDING_BATCHES * groupCommitRecords) {
+            try {
+                lock.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the profile log.", e);
+            }
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("The profile log can no longer be written.", failure);
+        }
+        payloadLength = 0;
+        ensurePayloadRoom(1);
+        payload[payloadLength++] = type;
+    }
+
+    /**
+     * Frames the encoded record with its length and checksum and adds it to the pending buffer.
+     */
+    private void endRecord() {
+        checksum.reset();
+        checksum.update(payload, 0, payloadLength);
+
+        int needed = 2 * Integer.BYTES + payloadLength;
+        if (pending.remaining() < needed) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(2 * pending.capacity(), pending.position() + needed));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+        pending.putInt(payloadLength);
+        pending.putInt((int) checksum.getValue());
+        pending.put(payload, 0, payloadLength);
+        pendingRecords++;
+        if (pendingRecords == groupCommitRecords) {
+            lock.notifyAll(); // Wake the flusher early
+        }
+    }
+
+    private void putInt(int value) {
+        ensurePayloadRoom(Integer.BYTES);
+        payload[payloadLength++] = (byte) (value >>> 24);
+        payload[payloadLength++] = (byte) (value >>> 16);
+        payload[payloadLength++] = (byte) (value >>> 8);
+        payload[payloadLength++] = (byte) value;
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        ensurePayloadRoom(bytes.length);
+        System.arraycopy(bytes, 0, payload, payloadLength, bytes.length);
+        payloadLength += bytes.length;
+    }
+
+    private void ensurePayloadRoom(int bytes) {
+        if (payloadLength + bytes > payload.length) {
+            byte[] larger = new byte[Math.max(2 * payload.length, payloadLength + bytes)];
+            System.arraycopy(payload, 0, larger, 0, payloadLength);
+            payload = larger;
+        }
+    }
+
+    /**
+     * Flushes a batch whenever enough records are pending or the commit window passes.
+     */
+    private void runFlusher() {
+        while (true) {
+            synchronized (lock) {
+                if (!closed && pendingRecords < groupCommitRecords) {
+                    try {
+                        lock.wait(groupCommitMillis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (closed || failure != null) {
+                    return;
+                }
+            }
+            try {
+                sync();
+            } catch (IOException e) {
+                return; // Recorded in failure by flushPending
+            }
+        }
+    }
+
+    /**
+     * Swaps out the pending buffer, then writes and fsyncs it without blocking appenders.
+     * Must be called while holding the flush lock.
+     */
+    private void flushPending() throws IOException {
+        ByteBuffer batch;
+        synchronized (lock) {
+            if (failure != null) {
+                throw failure;
+            }
+            if (pendingRecords == 0) {
+                return;
+            }
+            batch = pending;
+            pending = spare;
+            pendingRecords = 0;
+            lock.notifyAll(); // Release appenders waiting on a full buffer
+        }
+
+        try {
+            batch.flip();
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+            channel.force(false);
+            batch.clear();
+            spare = batch;
+        } catch (IOException e) {
+            synchronized (lock) {
+                failure = e;
+                lock.notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    private FileChannel createSegment(long number) throws IOException {
+        FileChannel created = FileChannel.open(segmentPath(directory, number), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).putInt(MAGIC).putInt(VERSION);
+        header.flip();
+        while (header.hasRemaining()) {
+            created.write(header);
+        }
+        created.force(true);
+        return created;
+    }
+
+    /**
+     * Applies the records of one segment to a manager.
+     *
+     * @return the length of the segment up to the first incomplete or corrupt record
+     */
+    private static long replay(ProfileManager manager, Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream input = new DataInputStream(new BufferedInputStream(stream, 1 << 16))) {
+            long fileLength = Files.size(file);
+            if (fileLength < HEADER_LENGTH) {
+                return 0;
+            }
+            if (input.readInt() != MAGIC) {
+                throw new IOException("Not a profile log segment: " + file);
+            }
+            if (input.readInt() > VERSION) {
+                throw new IOException("Log segment " + file + " requires a newer reader.");
+            }
+
+            long validLength = HEADER_LENGTH;
+            CRC32 crc = new CRC32();
+            while (true) {
+                byte[] record;
+                try {
+                    int length = input.readInt();
+                    int expected = input.readInt();
+                    if (length <= 0 || length > fileLength - validLength) {
+                        return validLength;
+                    }
+                    record = new byte[length];
+                    input.readFully(record);
+                    crc.reset();
+                    crc.update(record, 0, length);
+                    if ((int) crc.getValue() != expected) {
+                        return validLength;
+                    }
+                } catch (EOFException e) {
+                    return validLength;
+                }
+                apply(manager, ByteBuffer.wrap(record));
+                validLength += 2 * Integer.BYTES + record.length;
+            }
+        }
+    }
+
+    private static void apply(ProfileManager manager, ByteBuffer record) throws IOException {
+        byte type = record.get();
+        switch (type) {
+            case ADD_PROFILE:
+                String name = getString(record);
+                String status = getString(record);
+                String picture = getString(record);
+                int age = record.getInt();
+                manager.addProfile(new Profile(name, status, picture, age, getString(record), getString(record)));
+                break;
+            case ADD_FRIEND:
+                manager.addFriend(getString(record), getString(record));
+                break;
+            case REMOVE_FRIEND:
+                manager.removeFriend(getString(record), getString(record));
+                break;
+            case SET_STATUS:
+                Profile profile = manager.getProfile(getString(record));
+                String newStatus = getString(record);
+                if (profile != null) {
+                    profile.setStatus(newStatus);
+                }
+                break;
+            case DELETE_PROFILE:
+                manager.removeProfile(getString(record));
+                break;
+            default:
+                throw new IOException("Unknown log record type " + type);
+        }
+    }
+
+    private static String getString(ByteBuffer record) {
+        int length = record.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(record.array(), record.position(), length, StandardCharsets.UTF_8);
+        record.position(record.position() + length);
+        return value;
+    }
+
+    private static List<Long> listSegments(Path directory) throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX)) {
+                    String number = fileName.substring(SEGMENT_PREFIX.length(),
+                            fileName.length() - SEGMENT_SUFFIX.length());
+                    try {
+                        segments.add(Long.parseLong(number));
+                    } catch (NumberFormatException e) {
+                        // Not a segment written by this class
+                    }
+                }
+            });
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private static Path segmentPath(Path directory, long number) {
+        return directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+}
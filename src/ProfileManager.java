@@ -1,17 +1,70 @@
-import ADTPackage.LinkedQueue;
-import ADTPackage.LinkedStack;
+import ADTPackage.ArrayQueue;
+import ADTPackage.ArrayStack;
+import ADTPackage.DictionaryInterface;
+import ADTPackage.DisjointSet;
+import ADTPackage.MaxHeap;
+import ADTPackage.MaxHeapInterface;
+import ADTPackage.QueueInterface;
+import ADTPackage.StackInterface;
 import ADTPackage.UnsortedLinkedDictionary;
+import GraphPackage.CompressedGraph;
+import GraphPackage.GraphBuilder;
+import GraphPackage.PageRank;
+import GraphPackage.ParallelBreadthFirstSearch;
+import GraphPackage.TriangleCounter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * ProfileManager class that manages a collection of profiles and provides
  * various methods to manipulate and interact with profiles in the social network.
  */
 public class ProfileManager {
-    private UnsortedLinkedDictionary<String, Profile> profileDictionary = new UnsortedLinkedDictionary<>();
+    // Largest suggestion limit kept in a bounded heap. Past a thousand the heap's log k
+    // saving over sorting every candidate is small, and the limit stays well inside
+    // MaxHeap's cap of 10,000 entries; larger limits sort instead.
+    private static final int MAX_HEAP_SUGGESTIONS = 1000;
+    private final DictionaryInterface<String, Profile> profileDictionary;
+    private final AtomicInteger nextProfileId = new AtomicInteger();
     private Profile currentUser;
+    private volatile ProfileLog log; // Write-ahead log of mutations, null when logging is off
+    private final Object networkLock = new Object();
+    private DisjointSet networks;    // Friend network of each profile id, guarded by networkLock; null until queried or after a removal
+    private long networkChanges;     // Joins and invalidations so far, guarded by networkLock
+
+    /**
+     * Creates a profile manager backed by an unsorted linked dictionary.
+     */
+    public ProfileManager() {
+        this(new UnsortedLinkedDictionary<>());
+    }
+
+    /**
+     * Creates a profile manager that stores profiles in the given dictionary.
+     * Passing a {@link ADTPackage.HashedDictionary} gives constant expected time
+     * profile lookups for large networks.
+     *
+     * @param profileDictionary an empty dictionary used to map names to profiles
+     * @throws IllegalArgumentException if the dictionary is null or not empty
+     */
+    public ProfileManager(DictionaryInterface<String, Profile> profileDictionary) {
+        if (profileDictionary == null || !profileDictionary.isEmpty()) {
+            throw new IllegalArgumentException("Profile dictionary must be empty.");
+        }
+        this.profileDictionary = profileDictionary;
+    }
 
     /**
      * Adds a new profile to the profile manager.
@@ -53,23 +106,201 @@ public class ProfileManager {
         if (profileDictionary.getValue(profile.getName()) != null) {
             return false; // Profile already exists
         }
+        assignId(profile);
         profileDictionary.add(profile.getName(), profile);
+        ProfileLog currentLog = log;
+        if (currentLog != null) {
+            currentLog.addProfile(profile);
+        }
         return true;
     }
 
+    /**
+     * Gives a profile a manager-unique id if it does not have one yet. Ids set
+     * beforehand are kept, and later ids are handed out above them.
+     *
+     * @param profile the profile that is about to be stored
+     */
+    protected void assignId(Profile profile) {
+        if (profile.getId() < 0) {
+            profile.setId(nextProfileId.getAndIncrement());
+        } else {
+            nextProfileId.accumulateAndGet(profile.getId() + 1, Math::max);
+        }
+    }
+
+    /**
+     * Writes every profile and friendship to a binary snapshot file, replacing any
+     * existing file. The snapshot can be read back with {@link #loadSnapshot(Path)}.
+     *
+     * @param file the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public void saveSnapshot(Path file) throws IOException {
+        ProfileSnapshot.write(this, file);
+    }
+
+    /**
+     * Adds every profile and friendship stored in a snapshot file to this manager.
+     * Loading is much faster than replaying {@link #addProfile(Profile)} and
+     * {@link #addFriend(String, String)} calls, since friendships are linked by their
+     * position in the file instead of being looked up by name.
+     *
+     * @param file the snapshot file written by {@link #saveSnapshot(Path)}
+     * @throws IOException if the file cannot be read, is not a valid snapshot, or
+     *                     holds a profile whose name is already in this manager; the
+     *                     manager is then left unchanged
+     */
+    public void loadSnapshot(Path file) throws IOException {
+        try {
+            ProfileSnapshot.read(this, file);
+        } finally {
+            invalidateNetworks();  // Friendships were linked directly, not through addFriend
+        }
+    }
+
+    /**
+     * Starts recording every mutation in a write-ahead log. Any mutations already in
+     * the log directory are replayed into this manager first, so recovering after a
+     * crash is: create a manager, {@link #loadSnapshot(Path) load} the last snapshot
+     * if there is one, then open the log. Records are fsynced in batches once
+     * {@code groupCommitRecords} records are pending or {@code groupCommitMillis}
+     * milliseconds have passed, whichever comes first; a crash loses at most the
+     * mutations of the last unsynced batch.
+     *
+     * @param logDirectory       the directory holding the log segments
+     * @param groupCommitRecords the number of pending records that triggers an fsync
+     * @param groupCommitMillis  the longest time a record waits for its fsync
+     * @throws IOException if the log cannot be read or created
+     * @throws IllegalStateException if a log is already open
+     */
+    public synchronized void openLog(Path logDirectory, int groupCommitRecords, long groupCommitMillis)
+            throws IOException {
+        if (log != null) {
+            throw new IllegalStateException("A log is already open.");
+        }
+        log = ProfileLog.open(this, logDirectory, groupCommitRecords, groupCommitMillis);
+    }
+
+    /**
+     * Waits until every mutation logged so far is on disk.
+     *
+     * @throws IOException if the log cannot be written
+     * @throws IllegalStateException if no log is open
+     */
+    public void syncLog() throws IOException {
+        openLogOrThrow().sync();
+    }
+
+    /**
+     * Writes a snapshot and drops the log segments it makes redundant, so the log
+     * only grows with the mutations made since the last compaction.
+     *
+     * @param snapshotFile the snapshot file to write, loaded with {@link #loadSnapshot(Path)} on recovery
+     * @throws IOException if the snapshot cannot be written or old segments cannot be deleted
+     * @throws IllegalStateException if no log is open
+     */
+    public void compactLog(Path snapshotFile) throws IOException {
+        openLogOrThrow().compact(this, snapshotFile);
+    }
+
+    /**
+     * Syncs and closes the write-ahead log; later mutations are no longer logged.
+     *
+     * @throws IOException if the remaining records cannot be written
+     */
+    public synchronized void closeLog() throws IOException {
+        ProfileLog currentLog = log;
+        if (currentLog != null) {
+            log = null;
+            currentLog.close();
+        }
+    }
+
+    private ProfileLog openLogOrThrow() {
+        ProfileLog currentLog = log;
+        if (currentLog == null) {
+            throw new IllegalStateException("No log is open.");
+        }
+        return currentLog;
+    }
+
+    /**
+     * Returns the open write-ahead log, or null when logging is off.
+     */
+    ProfileLog getLog() {
+        return log;
+    }
+
+    /**
+     * Looks up a profile by name.
+     *
+     * @param name the name of the profile
+     * @return the profile, or null if no profile has that name
+     */
+    public Profile getProfile(String name) {
+        return profileDictionary.getValue(name);
+    }
+
+    /**
+     * Returns the friends of a profile for reading. Subclasses that allow concurrent
+     * updates return a copy taken while the friend list cannot change.
+     *
+     * @param profile the profile whose friends are read
+     * @return the profile's friends
+     */
+    protected List<Profile> friendsOf(Profile profile) {
+        return profile.getFriends();
+    }
+
     /**
      * Adds a friendship between two profiles based on their names.
      *
      * @param name1 the name of the first profile
      * @param name2 the name of the second profile
-     * @return true if the friendship was successfully established, false if any profile does not exist
+     * @return true if the friendship was successfully established, false if any profile does not exist, both names are the same, or they are already friends
      */
     public boolean addFriend(String name1, String name2) {
         Profile profile1 = profileDictionary.getValue(name1);
         Profile profile2 = profileDictionary.getValue(name2);
 
+        if (profile1 != null && profile2 != null && profile1 != profile2) {
+            boolean added1 = profile1.addFriend(profile2);
+            boolean added2 = added1 && profile2.addFriend(profile1);
+            if (added1) {  // Calls that change nothing are not logged
+                ProfileLog currentLog = log;
+                if (currentLog != null) {
+                    currentLog.addFriend(name1, name2);
+                }
+                joinNetworks(profile1, profile2);
+            }
+            return added2;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the friendship between two profiles based on their names.
+     *
+     * @param name1 the name of the first profile
+     * @param name2 the name of the second profile
+     * @return true if the friendship existed and was removed, false otherwise
+     */
+    public boolean removeFriend(String name1, String name2) {
+        Profile profile1 = profileDictionary.getValue(name1);
+        Profile profile2 = profileDictionary.getValue(name2);
+
         if (profile1 != null && profile2 != null) {
-            return profile1.addFriend(profile2) && profile2.addFriend(profile1);
+            boolean removed1 = profile1.removeFriend(profile2);
+            boolean removed2 = profile2.removeFriend(profile1);
+            if (removed1 || removed2) {
+                ProfileLog currentLog = log;
+                if (currentLog != null) {
+                    currentLog.removeFriend(name1, name2);
+                }
+                invalidateNetworks();
+            }
+            return removed1 && removed2;
         }
         return false;
     }
@@ -126,20 +357,9 @@ public class ProfileManager {
         if (profile != null) {
             System.out.println("Friends of Friends of " + name + ":");
 
-            Set<Profile> friendsOfFriends = new HashSet<>();
-
-            // Iterate over the friends of the profile
-            for (Profile friend : profile.getFriends()) {
-                // Add the friends of the friends (avoid adding the original profile itself)
-                for (Profile friendOfFriend : friend.getFriends()) {
-                    if (!friendOfFriend.equals(profile) && !profile.getFriends().contains(friendOfFriend)) {
-                        friendsOfFriends.add(friendOfFriend);
-                    }
-                }
-            }
-
             // Print the friends of friends
-            for (Profile friendOfFriend : friendsOfFriends) {
+            for (FriendSuggestion suggestion : getFriendsOfFriends(name)) {
+                Profile friendOfFriend = suggestion.getProfile();
                 System.out.println(friendOfFriend.getName() + " (" + friendOfFriend.getStatus() + ")");
             }
 
@@ -155,24 +375,41 @@ public class ProfileManager {
      * @param newStatus the new status to be set
      */
     public void modifyProfileStatusAuto(String name, String newStatus) {
-        Profile profile = profileDictionary.getValue(name);
-        if (profile != null) {
-            profile.setStatus(newStatus); // Assuming Profile has a setStatus method
+        if (setStatus(name, newStatus)) {
             System.out.println(name + "'s status has been updated to: " + newStatus);
         } else {
             System.out.println("Profile not found.");
         }
     }
 
+    /**
+     * Sets the status of a profile without printing anything.
+     *
+     * @param name      the name of the profile
+     * @param newStatus the new status
+     * @return true if the profile exists, false otherwise
+     */
+    boolean setStatus(String name, String newStatus) {
+        Profile profile = profileDictionary.getValue(name);
+        if (profile == null) {
+            return false;
+        }
+        profile.setStatus(newStatus);
+        ProfileLog currentLog = log;
+        if (currentLog != null) {
+            currentLog.setStatus(name, newStatus);
+        }
+        return true;
+    }
+
     /**
      * Deletes a profile automatically.
      *
      * @param name the name of the profile to be deleted
      */
     public void deleteProfileAuto(String name) {
-        Profile profile = profileDictionary.getValue(name);
+        Profile profile = removeProfile(name);
         if (profile != null) {
-            profileDictionary.remove(name); // Assuming UnsortedLinkedDictionary has a remove method
             System.out.println(name + " has been deleted.");
         } else {
             System.out.println("Profile not found.");
@@ -212,15 +449,268 @@ public class ProfileManager {
      * @return
      */
     public boolean deleteProfile(String name) {
-        Profile profile = profileDictionary.getValue(name);
+        Profile profile = removeProfile(name);
         if (profile != null) {
-            profileDictionary.remove(name);  // Assuming the UnsortedLinkedDictionary has a remove method
             System.out.println(name + " has been deleted.");
         } else {
             System.out.println("Profile not found.");
         }
         return false;
     }
+    /**
+     * Removes a profile from the dictionary without printing anything.
+     *
+     * @param name the name of the profile to remove
+     * @return the removed profile, or null if no profile has that name
+     */
+    Profile removeProfile(String name) {
+        Profile profile = profileDictionary.remove(name);
+        ProfileLog currentLog = log;
+        if (profile != null && currentLog != null) {
+            currentLog.deleteProfile(name);
+        }
+        if (profile != null) {
+            invalidateNetworks();
+        }
+        return profile;
+    }
+
+    /**
+     * Checks if two profiles are in the same friend network, that is, if a chain of
+     * friendships links them. Networks are kept in a disjoint set of profile ids that is
+     * built on the first query and updated as friendships are added, so queries take
+     * nearly constant time; removing a friendship or profile makes the next query
+     * rebuild it.
+     *
+     * @param name1 the name of the first profile
+     * @param name2 the name of the second profile
+     * @return true if both profiles exist and are in the same network, false otherwise
+     */
+    public boolean inSameNetwork(String name1, String name2) {
+        Profile profile1 = profileDictionary.getValue(name1);
+        Profile profile2 = profileDictionary.getValue(name2);
+        if (profile1 == null || profile2 == null) {
+            return false;
+        }
+        return withNetworks(current -> current.connected(profile1.getId(), profile2.getId()));
+    }
+
+    /**
+     * Returns the number of profiles in the friend network of a profile.
+     *
+     * @param name the name of the profile
+     * @return the size of the profile's network, or 0 if the profile does not exist
+     */
+    public int getNetworkSize(String name) {
+        Profile profile = profileDictionary.getValue(name);
+        if (profile == null) {
+            return 0;
+        }
+        return withNetworks(current -> current.getSetSize(profile.getId()));
+    }
+
+    /**
+     * Returns the number of separate friend networks; a profile without friends is a
+     * network of its own.
+     *
+     * @return the number of networks
+     */
+    public int getNumberOfNetworks() {
+        return withNetworks(current -> {
+            int unusedIds = current.getSize() - profileDictionary.getSize();  // Deleted profiles, each a set of its own
+            return current.getSetCount() - unusedIds;
+        });
+    }
+
+    /**
+     * Returns how many friend networks there are of each size.
+     *
+     * @return a map from network size to the number of networks of that size, by increasing size
+     */
+    public Map<Integer, Integer> getNetworkSizeDistribution() {
+        return withNetworks(current -> {
+            Map<Integer, Integer> distribution = new TreeMap<>();
+            Iterator<Profile> profiles = profileDictionary.getValueIterator();
+            while (profiles.hasNext()) {
+                int id = profiles.next().getId();
+                if (current.find(id) == id) {
+                    distribution.merge(current.getSetSize(id), 1, Integer::sum);
+                }
+            }
+            return distribution;
+        });
+    }
+
+    /**
+     * Counts how many profiles are each number of friendships away from a profile,
+     * searching the friendship graph level by level in parallel.
+     *
+     * @param startName the name of the profile to start from
+     * @return a map from degree of separation to the number of profiles that far away,
+     *         by increasing degree; empty if the profile does not exist
+     */
+    public Map<Integer, Integer> getSeparationDistribution(String startName) {
+        Profile startProfile = profileDictionary.getValue(startName);
+        Map<Integer, Integer> distribution = new TreeMap<>();
+        if (startProfile == null) {
+            return distribution;
+        }
+        int[] levelSizes = new ParallelBreadthFirstSearch()
+                .search(friendshipGraph(false), startProfile)
+                .getLevelSizes();
+        for (int degree = 0; degree < levelSizes.length; degree++) {
+            distribution.put(degree, levelSizes[degree]);
+        }
+        return distribution;
+    }
+
+    /**
+     * Ranks every profile by influence: its PageRank over the friendship graph, where
+     * a profile scores higher the more friends it has and the more influential those
+     * friends are. Scores add up to 1.
+     *
+     * @param pageRank the damping, tolerance and iteration limit to use
+     * @return the score of each profile, with convergence statistics
+     */
+    public PageRank.Result<Profile> computeInfluence(PageRank pageRank) {
+        return pageRank.compute(friendshipGraph(false));
+    }
+
+    /**
+     * Returns the most influential profiles, best first, using the default PageRank settings.
+     *
+     * @param limit the most profiles to return
+     * @return up to {@code limit} profiles
+     */
+    public List<Profile> getMostInfluential(int limit) {
+        return computeInfluence(new PageRank()).getTopRanked(limit);
+    }
+
+    /**
+     * Counts the triangles of the friendship graph: sets of three profiles who are all
+     * friends with each other. A profile whose friends are mostly friends with each
+     * other, a clustering coefficient near 1, belongs to a tight-knit circle or ring.
+     *
+     * @return the number of triangles and the clustering coefficient of each profile
+     */
+    public TriangleCounter.Result<Profile> countTriangles() {
+        return TriangleCounter.count(friendshipGraph(true));
+    }
+
+    /**
+     * Builds a snapshot of the friendships between stored profiles.
+     *
+     * @param symmetric whether to add each friendship in both directions, even if only
+     *                  one of the profiles lists it
+     */
+    private CompressedGraph<Profile> friendshipGraph(boolean symmetric) {
+        List<Profile> stored = new ArrayList<>();
+        Iterator<Profile> profiles = profileDictionary.getValueIterator();
+        while (profiles.hasNext()) {
+            stored.add(profiles.next());
+        }
+
+        GraphBuilder<Profile> builder = new GraphBuilder<>(stored.size(), 0);
+        for (Profile profile : stored) {
+            builder.addVertex(profile);
+        }
+        for (Profile profile : stored) {
+            for (Profile friend : friendsOf(profile)) {
+                if (profileDictionary.getValue(friend.getName()) == friend) {  // Skip deleted profiles
+                    builder.addEdge(profile, friend);
+                    if (symmetric) {
+                        builder.addEdge(friend, profile);
+                    }
+                }
+            }
+        }
+        return builder.buildCompressed();
+    }
+
+    /**
+     * Records a new friendship in the friend networks, if they are being tracked.
+     *
+     * @param profile1 the first profile
+     * @param profile2 the second profile
+     */
+    void joinNetworks(Profile profile1, Profile profile2) {
+        synchronized (networkLock) {
+            networkChanges++;
+            if (networks != null) {
+                networks.grow(Math.max(profile1.getId(), profile2.getId()) + 1);
+                networks.union(profile1.getId(), profile2.getId());
+            }
+        }
+    }
+
+    /**
+     * Drops the friend networks after a removal, which may have split one of them.
+     */
+    void invalidateNetworks() {
+        synchronized (networkLock) {
+            networkChanges++;
+            networks = null;
+        }
+    }
+
+    /**
+     * Answers a query on the friend networks while holding networkLock, building the
+     * networks from every stored friendship first if needed. The build reads friend
+     * lists, which subclasses may guard with their own locks, so it runs without
+     * networkLock: friendship changes hold those locks while they update the networks,
+     * and taking them the other way round could deadlock. A build that overlapped a
+     * change is used for this query only and is not kept.
+     *
+     * @param query the query to answer
+     * @return the query's answer
+     */
+    private <R> R withNetworks(Function<DisjointSet, R> query) {
+        long changes;
+        synchronized (networkLock) {
+            if (networks != null) {
+                networks.grow(nextProfileId.get());  // Profiles added since the last query
+                return query.apply(networks);
+            }
+            changes = networkChanges;
+        }
+
+        DisjointSet built = buildNetworks();
+        synchronized (networkLock) {
+            if (networks == null && networkChanges == changes) {
+                networks = built;
+            }
+            built.grow(nextProfileId.get());
+            return query.apply(built);
+        }
+    }
+
+    /**
+     * Builds the friend networks from every stored friendship.
+     */
+    private DisjointSet buildNetworks() {
+        List<Profile> stored = new ArrayList<>();
+        Iterator<Profile> profiles = profileDictionary.getValueIterator();
+        while (profiles.hasNext()) {
+            stored.add(profiles.next());
+        }
+        int idBound = nextProfileId.get();
+        // Deleted profiles may still be listed as friends; they must not link networks
+        boolean[] isStored = new boolean[idBound];
+        for (Profile profile : stored) {
+            isStored[profile.getId()] = true;
+        }
+        DisjointSet built = new DisjointSet(idBound);
+        for (Profile profile : stored) {
+            for (Profile friend : friendsOf(profile)) {
+                int friendId = friend.getId();
+                if (friendId >= 0 && friendId < idBound && isStored[friendId]) {
+                    built.union(profile.getId(), friendId);
+                }
+            }
+        }
+        return built;
+    }
+
     /**
      * Lists all friends of friends for a given profile.
      *
@@ -231,23 +721,14 @@ public class ProfileManager {
         if (profile != null) {
             System.out.println("Friends of Friends of " + name + ":");
 
-            Set<Profile> friendsOfFriends = new HashSet<>();
-
-            // Iterate over the friends of the profile
-            for (Profile friend : profile.getFriends()) {
-                // Add the friends of the friends (avoid adding the original profile itself)
-                for (Profile friendOfFriend : friend.getFriends()) {
-                    if (!friendOfFriend.equals(profile) && !profile.getFriends().contains(friendOfFriend)) {
-                        friendsOfFriends.add(friendOfFriend);
-                    }
-                }
-            }
+            List<FriendSuggestion> friendsOfFriends = getFriendsOfFriends(name);
 
             // Print the friends of friends
             if (friendsOfFriends.isEmpty()) {
                 System.out.println("No friends of friends found.");
             } else {
-                for (Profile friendOfFriend : friendsOfFriends) {
+                for (FriendSuggestion suggestion : friendsOfFriends) {
+                    Profile friendOfFriend = suggestion.getProfile();
                     System.out.println(friendOfFriend.getName() + " (" + friendOfFriend.getStatus() + ")");
                 }
             }
@@ -256,6 +737,94 @@ public class ProfileManager {
             System.out.println("Profile not found.");
         }
     }
+
+    /**
+     * Finds every friend of a friend of the given profile who is not already a friend,
+     * together with the number of mutual friends. Membership in the profile's own friend
+     * list is checked through a hash set, so the cost is proportional to the total size
+     * of the friends' friend lists.
+     *
+     * @param name the name of the profile
+     * @return the friends of friends ranked by mutual friend count (highest first),
+     *         or an empty list if the profile does not exist
+     */
+    public List<FriendSuggestion> getFriendsOfFriends(String name) {
+        List<FriendSuggestion> suggestions = countMutualFriends(name);
+        Collections.sort(suggestions);
+        return suggestions;
+    }
+
+    /**
+     * Suggests the friends of friends with the most mutual friends ("people you may know").
+     * Only the best {@code limit} candidates are kept, in a bounded heap whose root is the
+     * weakest suggestion kept so far.
+     *
+     * @param name  the name of the profile
+     * @param limit the maximum number of suggestions to return
+     * @return up to {@code limit} suggestions ranked by mutual friend count (highest first)
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public List<FriendSuggestion> getSuggestedFriends(String name, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative.");
+        }
+        List<FriendSuggestion> candidates = countMutualFriends(name);
+        if (limit >= candidates.size() || limit > MAX_HEAP_SUGGESTIONS) {
+            Collections.sort(candidates);
+            return new ArrayList<>(candidates.subList(0, Math.min(limit, candidates.size())));
+        }
+
+        MaxHeapInterface<FriendSuggestion> best = new MaxHeap<>(limit + 1);
+        for (FriendSuggestion candidate : candidates) {
+            if (best.getSize() < limit) {
+                best.add(candidate);
+            } else if (limit > 0 && candidate.compareTo(best.getMax()) < 0) {
+                best.removeMax();
+                best.add(candidate);
+            }
+        }
+
+        FriendSuggestion[] ranked = new FriendSuggestion[best.getSize()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = best.removeMax();
+        }
+        return Arrays.asList(ranked);
+    }
+
+    /**
+     * Counts, for every friend of a friend of the given profile, how many friends they share.
+     *
+     * @param name the name of the profile
+     * @return an unsorted suggestion per friend of a friend
+     */
+    private List<FriendSuggestion> countMutualFriends(String name) {
+        Profile profile = profileDictionary.getValue(name);
+        if (profile == null) {
+            return new ArrayList<>();
+        }
+
+        List<Profile> friends = friendsOf(profile);
+        Set<Profile> directFriends = new HashSet<>(friends);
+        Map<Profile, int[]> mutualCounts = new HashMap<>();  // Mutable counters avoid boxing per increment
+
+        for (Profile friend : friends) {
+            for (Profile friendOfFriend : friendsOf(friend)) {
+                if (friendOfFriend != profile && !directFriends.contains(friendOfFriend)) {
+                    int[] count = mutualCounts.get(friendOfFriend);
+                    if (count == null) {
+                        mutualCounts.put(friendOfFriend, new int[]{1});
+                    } else {
+                        count[0]++;
+                    }
+                }
+            }
+        }
+
+        List<FriendSuggestion> suggestions = new ArrayList<>(mutualCounts.size());
+        mutualCounts.forEach((candidate, count) -> suggestions.add(new FriendSuggestion(candidate, count[0])));
+        return suggestions;
+    }
+
     /**
      * Performs a breadth-first traversal starting from the given profile.
      *
@@ -268,7 +837,7 @@ public class ProfileManager {
             return;
         }
 
-        LinkedQueue<Profile> queue = new LinkedQueue<>();
+        QueueInterface<Profile> queue = new ArrayQueue<>();
         Set<Profile> visited = new HashSet<>();
         queue.enqueue(startProfile);
         visited.add(startProfile);
@@ -277,7 +846,7 @@ public class ProfileManager {
             Profile current = queue.dequeue();
             System.out.println(current.getName() + " -> " + current.getStatus());
 
-            for (Profile friend : current.getFriends()) {
+            for (Profile friend : friendsOf(current)) {
                 if (!visited.contains(friend)) {
                     queue.enqueue(friend);
                     visited.add(friend);
@@ -298,7 +867,7 @@ public class ProfileManager {
             return;
         }
 
-        LinkedStack<Profile> stack = new LinkedStack<>();
+        StackInterface<Profile> stack = new ArrayStack<>();
         Set<Profile> visited = new HashSet<>();
         stack.push(startProfile);
         visited.add(startProfile);
@@ -307,7 +876,7 @@ public class ProfileManager {
             Profile current = stack.pop();
             System.out.println(current.getName() + " -> " + current.getStatus());
 
-            for (Profile friend : current.getFriends()) {
+            for (Profile friend : friendsOf(current)) {
                 if (!visited.contains(friend)) {
                     stack.push(friend);
                     visited.add(friend);
@@ -0,0 +1,332 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads and writes the compact binary snapshot format used by
+ * {@link ProfileManager#saveSnapshot(Path)} and {@link ProfileManager#loadSnapshot(Path)}.
+ *
+ * <p>Layout (big-endian):
+ * <pre>
+ * header:      int magic ("PSNP"), int version, int minimum reader version,
+ *              int header length, int profile count, long friendship count
+ * profiles:    per profile: int record length, then name, status, picture,
+ *              int age, gender, state (strings are an int byte length, -1 for
+ *              null, followed by UTF-8 bytes)
+ * friendships: per friendship: int index, int index (indices follow profile order,
+ *              each friendship is stored once)
+ * </pre>
+ * Header and record lengths let a reader skip fields appended by later versions, so
+ * older readers can load newer snapshots unless the writer raises the minimum reader
+ * version. Files are written to a temporary file and moved into place, so a crash
+ * never leaves a half-written snapshot behind.
+ */
+final class ProfileSnapshot {
+    static final int MAGIC = 0x50534E50; // "PSNP"
+    static final int VERSION = 1;
+    private static final int HEADER_LENGTH = 28;
+    private static final int FRIENDSHIP_COUNT_OFFSET = 20;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private ProfileSnapshot() {
+    }
+
+    /**
+     * Writes every profile of a manager and every friendship between them.
+     *
+     * @param manager the manager whose profiles are stored
+     * @param file    the snapshot file to create or replace
+     * @throws IOException if the file cannot be written
+     */
+    static void write(ProfileManager manager, Path file) throws IOException {
+        List<Profile> ordered = new ArrayList<>(manager.getProfiles());
+        Map<Profile, Integer> indices = new HashMap<>();
+        List<List<Profile>> friendLists = new ArrayList<>(ordered.size());
+        for (Profile profile : ordered) {
+            indices.put(profile, indices.size());
+            friendLists.add(manager.friendsOf(profile));
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Output output = new Output(channel);
+            output.putInt(MAGIC);
+            output.putInt(VERSION);
+            output.putInt(VERSION); // Minimum reader version
+            output.putInt(HEADER_LENGTH);
+            output.putInt(ordered.size());
+            output.putLong(0); // Friendship count, filled in once the friendships are written
+
+            for (Profile profile : ordered) {
+                output.putProfile(profile);
+            }
+            // Keep each friendship once, from the profile with the lower index
+            long friendshipCount = 0;
+            for (int i = 0; i < ordered.size(); i++) {
+                for (Profile friend : friendLists.get(i)) {
+                    Integer j = indices.get(friend);
+                    if (j != null && j >= i) {
+                        output.putInt(i);
+                        output.putInt(j);
+                        friendshipCount++;
+                    }
+                }
+            }
+            output.flush();
+
+            ByteBuffer count = ByteBuffer.allocate(Long.BYTES).putLong(0, friendshipCount);
+            while (count.hasRemaining()) {
+                channel.write(count, FRIENDSHIP_COUNT_OFFSET + count.position());
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a snapshot, passing each profile and friendship to the given manager.
+     *
+     * @param manager the manager that receives the profiles and friendships
+     * @param file    the snapshot file to read
+     * @throws IOException if the file cannot be read, is not a valid snapshot, or holds a
+     *                     profile whose name is already in the manager; the manager is
+     *                     unchanged unless another thread adds one of the names meanwhile
+     */
+    static void read(ProfileManager manager, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Input input = new Input(channel);
+            if (input.getInt() != MAGIC) {
+                throw new IOException("Not a profile snapshot: " + file);
+            }
+            int version = input.getInt();
+            int minimumReaderVersion = input.getInt();
+            if (minimumReaderVersion > VERSION) {
+                throw new IOException("Snapshot version " + version + " requires reader version "
+                        + minimumReaderVersion + ".");
+            }
+            int headerLength = input.getInt();
+            int profileCount = input.getInt();
+            long friendshipCount = input.getLong();
+            if (headerLength < HEADER_LENGTH || profileCount < 0 || friendshipCount < 0) {
+                throw new IOException("Corrupt profile snapshot: " + file);
+            }
+            if (friendshipCount > Integer.MAX_VALUE / 2) {
+                throw new IOException("Snapshot holds too many friendships: " + friendshipCount);
+            }
+            input.skip(headerLength - HEADER_LENGTH);
+
+            // The whole file is checked before any profile is added, so a bad file leaves the manager unchanged
+            Profile[] profiles = new Profile[profileCount];
+            Set<String> names = new HashSet<>();
+            for (int i = 0; i < profileCount; i++) {
+                profiles[i] = input.getProfile();
+                String name = profiles[i].getName();
+                if (!names.add(name) || manager.getProfile(name) != null) {
+                    throw new IOException("Duplicate profile in snapshot: " + name);
+                }
+            }
+
+            // Read every friendship first so each friend list can be sized once
+            int[] ends = new int[(int) (2 * friendshipCount)];
+            int[] degrees = new int[profileCount];
+            for (int k = 0; k < ends.length; k++) {
+                int index = input.getInt();
+                if (index < 0 || index >= profileCount) {
+                    throw new IOException("Friendship refers to a missing profile.");
+                }
+                ends[k] = index;
+                degrees[index]++;
+            }
+            for (Profile profile : profiles) {
+                if (!manager.addProfile(profile)) {
+                    throw new IOException("Profile added while the snapshot was loading: " + profile.getName());
+                }
+            }
+            for (int i = 0; i < profileCount; i++) {
+                profiles[i].reserveFriends(degrees[i]);
+            }
+            for (int k = 0; k < ends.length; k += 2) {
+                profiles[ends[k]].addFriend(profiles[ends[k + 1]]);
+                profiles[ends[k + 1]].addFriend(profiles[ends[k]]);
+            }
+        }
+    }
+
+    /**
+     * Buffered big-endian writer over a file channel.
+     */
+    private static final class Output {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private void putInt(int value) throws IOException {
+            ensureRoom(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        private void putLong(long value) throws IOException {
+            ensureRoom(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        private void putProfile(Profile profile) throws IOException {
+            byte[] name = encode(profile.getName());
+            byte[] status = encode(profile.getStatus());
+            byte[] picture = encode(profile.getPicture());
+            byte[] gender = encode(profile.getGender());
+            byte[] state = encode(profile.getState());
+            int length = 6 * Integer.BYTES + size(name) + size(status) + size(picture)
+                    + size(gender) + size(state);
+
+            putInt(length);
+            putBytes(name);
+            putBytes(status);
+            putBytes(picture);
+            putInt(profile.getAge());
+            putBytes(gender);
+            putBytes(state);
+        }
+
+        private void putBytes(byte[] bytes) throws IOException {
+            if (bytes == null) {
+                putInt(-1);
+                return;
+            }
+            putInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureRoom(1);
+                int chunk = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+            }
+        }
+
+        private void ensureRoom(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private static byte[] encode(String value) {
+            return (value == null) ? null : value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static int size(byte[] bytes) {
+            return (bytes == null) ? 0 : bytes.length;
+        }
+    }
+
+    /**
+     * Buffered big-endian reader over a file channel.
+     */
+    private static final class Input {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Input(FileChannel channel) {
+            this.channel = channel;
+            buffer.limit(0);
+        }
+
+        private int getInt() throws IOException {
+            require(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        private long getLong() throws IOException {
+            require(Long.BYTES);
+            return buffer.getLong();
+        }
+
+        private Profile getProfile() throws IOException {
+            int length = getInt();
+            byte[] name = getBytes();
+            byte[] status = getBytes();
+            byte[] picture = getBytes();
+            int age = getInt();
+            byte[] gender = getBytes();
+            byte[] state = getBytes();
+
+            int known = 6 * Integer.BYTES + size(name) + size(status) + size(picture) + size(gender) + size(state);
+            skip(length - known); // Fields added by later versions
+            return new Profile(decode(name), decode(status), decode(picture), age, decode(gender), decode(state));
+        }
+
+        private byte[] getBytes() throws IOException {
+            int length = getInt();
+            if (length < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                require(1);
+                int chunk = Math.min(buffer.remaining(), length - offset);
+                buffer.get(bytes, offset, chunk);
+                offset += chunk;
+            }
+            return bytes;
+        }
+
+        private void skip(int bytes) throws IOException {
+            if (bytes < 0) {
+                throw new IOException("Corrupt snapshot: record is shorter than its fields.");
+            }
+            while (bytes > 0) {
+                require(1);
+                int chunk = Math.min(buffer.remaining(), bytes);
+                buffer.position(buffer.position() + chunk);
+                bytes -= chunk;
+            }
+        }
+
+        /**
+         * Refills the buffer until at least the given number of bytes can be read from it.
+         */
+        private void require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Unexpected end of snapshot.");
+                }
+            }
+            buffer.flip();
+        }
+
+        private static String decode(byte[] bytes) {
+            return (bytes == null) ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static int size(byte[] bytes) {
+            return (bytes == null) ? 0 : bytes.length;
+        }
+    }
+}